@@ -0,0 +1,226 @@
+package com.inha.pro.safetynevi.config;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.inha.pro.safetynevi.dto.map.FacilityDeltaDto;
+import com.inha.pro.safetynevi.dto.map.FacilityDto;
+import com.inha.pro.safetynevi.dto.map.RouteDto;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 시설/경로 목록 컬럼형(Columnar) 응답 변환기
+ * - Accept: application/vnd.safetynevi.columnar 요청 시에만 사용 (그 외에는 기존 JSON 그대로)
+ * - 객체 배열 대신 필드별 배열로 직렬화하여 필드명 반복 제거
+ * - 좌표는 1e-6도 고정소수점 정수의 증분, 유형/상태 문자열은 사전 인덱스로 표현
+ *
+ * [FacilityDto 목록]
+ *   {"count":N, "id":[..], "lat":[..], "lon":[..], "name":[..], "maxCapacity":[..],
+ *    "typeDict":[..], "type":[..], "statusDict":[..], "status":[..]}
+ *   - id/lat/lon: 첫 값은 원래 값, 이후는 직전 값과의 차이 (원래 순서 유지, 음수 가능)
+ *   - maxCapacity: 값이 없으면 null, 상태가 없으면 statusDict에 null 항목
+ * [RouteDto 목록]
+ *   FacilityDto와 동일한 규칙 + "recommendationDict"/"recommendation", "distanceMeter", "timeWalk", "timeCar"
+ * [유형별 Map / FacilityDeltaDto]
+ *   각 목록 값을 위 형식으로 변환 ({"police":{...}} / {"added":{...}, "removed":[..]})
+ */
+public class ColumnarHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final MediaType COLUMNAR = MediaType.parseMediaType("application/vnd.safetynevi.columnar");
+
+    private static final double FIXED_POINT = 1_000_000d;
+
+    private final JsonFactory jsonFactory;
+
+    public ColumnarHttpMessageConverter(JsonFactory jsonFactory) {
+        super(COLUMNAR);
+        setDefaultCharset(StandardCharsets.UTF_8); // JsonGenerator 출력 인코딩과 일치 (Content-Type에 명시)
+        this.jsonFactory = jsonFactory;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return List.class.isAssignableFrom(clazz) || Map.class.isAssignableFrom(clazz)
+                || FacilityDeltaDto.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return canWrite(mediaType) && kindOf(type != null ? ResolvableType.forType(type) : ResolvableType.forClass(clazz)) != null;
+    }
+
+    @Override
+    protected void writeInternal(Object body, Type type, HttpOutputMessage outputMessage) throws IOException {
+        ResolvableType resolved = (type != null) ? ResolvableType.forType(type) : ResolvableType.forClass(body.getClass());
+        Kind kind = kindOf(resolved);
+
+        try (JsonGenerator gen = jsonFactory.createGenerator(outputMessage.getBody())) {
+            switch (kind) {
+                case FACILITY_LIST -> writeFacilities(gen, castList(body));
+                case ROUTE_LIST -> writeRoutes(gen, castList(body));
+                case FACILITY_GROUPS -> {
+                    gen.writeStartObject();
+                    for (Map.Entry<?, ?> entry : ((Map<?, ?>) body).entrySet()) {
+                        gen.writeFieldName(String.valueOf(entry.getKey()));
+                        writeFacilities(gen, castList(entry.getValue()));
+                    }
+                    gen.writeEndObject();
+                }
+                case FACILITY_DELTA -> {
+                    FacilityDeltaDto delta = (FacilityDeltaDto) body;
+                    gen.writeStartObject();
+                    gen.writeFieldName("added");
+                    writeFacilities(gen, delta.getAdded());
+                    gen.writeArrayFieldStart("removed");
+                    for (Long id : delta.getRemoved()) gen.writeNumber(id);
+                    gen.writeEndArray();
+                    gen.writeEndObject();
+                }
+            }
+        }
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Columnar format is write-only", inputMessage);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Columnar format is write-only", inputMessage);
+    }
+
+    // --- 직렬화 ---
+
+    private void writeFacilities(JsonGenerator gen, List<FacilityDto> facilities) throws IOException {
+        gen.writeStartObject();
+        gen.writeNumberField("count", facilities.size());
+        writeDeltaLongs(gen, "id", facilities, FacilityDto::getId);
+        writeDeltaCoordinates(gen, "lat", facilities, FacilityDto::getLatitude);
+        writeDeltaCoordinates(gen, "lon", facilities, FacilityDto::getLongitude);
+        writeStrings(gen, "name", facilities, FacilityDto::getName);
+        writeInts(gen, "maxCapacity", facilities, FacilityDto::getMaxCapacity);
+        writeDictionary(gen, "typeDict", "type", facilities, FacilityDto::getType);
+        writeDictionary(gen, "statusDict", "status", facilities, FacilityDto::getOperatingStatus);
+        gen.writeEndObject();
+    }
+
+    private void writeRoutes(JsonGenerator gen, List<RouteDto> routes) throws IOException {
+        gen.writeStartObject();
+        gen.writeNumberField("count", routes.size());
+        writeDeltaLongs(gen, "id", routes, RouteDto::getFacilityId);
+        writeDeltaCoordinates(gen, "lat", routes, RouteDto::getLatitude);
+        writeDeltaCoordinates(gen, "lon", routes, RouteDto::getLongitude);
+        writeStrings(gen, "name", routes, RouteDto::getName);
+        writeInts(gen, "maxCapacity", routes, RouteDto::getMaxCapacity);
+        writeDictionary(gen, "typeDict", "type", routes, RouteDto::getType);
+        writeDictionary(gen, "statusDict", "status", routes, RouteDto::getOperatingStatus);
+        writeDictionary(gen, "recommendationDict", "recommendation", routes, RouteDto::getRecommendationType);
+
+        gen.writeArrayFieldStart("distanceMeter");
+        for (RouteDto route : routes) gen.writeNumber(Math.round(route.getDistanceMeter() * 10) / 10.0);
+        gen.writeEndArray();
+        writeInts(gen, "timeWalk", routes, RouteDto::getTimeWalk);
+        writeInts(gen, "timeCar", routes, RouteDto::getTimeCar);
+        gen.writeEndObject();
+    }
+
+    private <T> void writeDeltaLongs(JsonGenerator gen, String field, List<T> items, Function<T, Long> getter) throws IOException {
+        gen.writeArrayFieldStart(field);
+        long prev = 0;
+        for (T item : items) {
+            Long value = getter.apply(item);
+            long current = (value != null) ? value : 0;
+            gen.writeNumber(current - prev);
+            prev = current;
+        }
+        gen.writeEndArray();
+    }
+
+    private <T> void writeDeltaCoordinates(JsonGenerator gen, String field, List<T> items, Function<T, Double> getter) throws IOException {
+        gen.writeArrayFieldStart(field);
+        long prev = 0;
+        for (T item : items) {
+            long current = Math.round(getter.apply(item) * FIXED_POINT);
+            gen.writeNumber(current - prev);
+            prev = current;
+        }
+        gen.writeEndArray();
+    }
+
+    private <T> void writeStrings(JsonGenerator gen, String field, List<T> items, Function<T, String> getter) throws IOException {
+        gen.writeArrayFieldStart(field);
+        for (T item : items) gen.writeString(getter.apply(item));
+        gen.writeEndArray();
+    }
+
+    private <T> void writeInts(JsonGenerator gen, String field, List<T> items, Function<T, Integer> getter) throws IOException {
+        gen.writeArrayFieldStart(field);
+        for (T item : items) {
+            Integer value = getter.apply(item);
+            if (value != null) gen.writeNumber(value);
+            else gen.writeNull(); // 기존 JSON과 같이 없는 값은 null
+        }
+        gen.writeEndArray();
+    }
+
+    private <T> void writeDictionary(JsonGenerator gen, String dictField, String codeField,
+                                     List<T> items, Function<T, String> getter) throws IOException {
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        int[] codes = new int[items.size()];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = dictionary.computeIfAbsent(getter.apply(items.get(i)), k -> dictionary.size()); // null도 사전 항목으로 취급
+        }
+
+        gen.writeArrayFieldStart(dictField);
+        for (String entry : dictionary.keySet()) gen.writeString(entry);
+        gen.writeEndArray();
+        gen.writeArrayFieldStart(codeField);
+        for (int code : codes) gen.writeNumber(code);
+        gen.writeEndArray();
+    }
+
+    // --- 타입 판별 ---
+
+    private enum Kind { FACILITY_LIST, ROUTE_LIST, FACILITY_GROUPS, FACILITY_DELTA }
+
+    private Kind kindOf(ResolvableType type) {
+        Class<?> raw = type.toClass();
+        if (FacilityDeltaDto.class.isAssignableFrom(raw)) return Kind.FACILITY_DELTA;
+        if (List.class.isAssignableFrom(raw)) {
+            Class<?> element = type.as(List.class).getGeneric(0).toClass();
+            if (FacilityDto.class.isAssignableFrom(element)) return Kind.FACILITY_LIST;
+            if (RouteDto.class.isAssignableFrom(element)) return Kind.ROUTE_LIST;
+            return null;
+        }
+        if (Map.class.isAssignableFrom(raw)) {
+            ResolvableType value = type.as(Map.class).getGeneric(1);
+            boolean facilityList = List.class.isAssignableFrom(value.toClass())
+                    && FacilityDto.class.isAssignableFrom(value.as(List.class).getGeneric(0).toClass());
+            return facilityList ? Kind.FACILITY_GROUPS : null;
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> castList(Object value) {
+        return (List<T>) value;
+    }
+}
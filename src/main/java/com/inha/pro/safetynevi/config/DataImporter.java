@@ -9,11 +9,13 @@ import com.inha.pro.safetynevi.dao.map.FireStationRepository;
 import com.inha.pro.safetynevi.dao.map.HospitalRepository;
 import com.inha.pro.safetynevi.dao.map.PoliceRepository;
 import com.inha.pro.safetynevi.dao.map.ShelterRepository;
+import com.inha.pro.safetynevi.service.map.FacilityDataLoadedEvent;
 
 import com.opencsv.CSVReader;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Component;
 import java.io.InputStreamReader;
@@ -22,6 +24,7 @@ import java.util.List;
 /**
  * 초기 데이터 적재 컴포넌트
  * - 애플리케이션 시작 시 CSV 파일을 읽어 DB에 초기 데이터를 저장함
+ * - 적재 완료(또는 생략) 후 FacilityDataLoadedEvent를 발행하여 FACILITY_MARKER 동기화 및 메모리 인덱스 구축
  */
 @Slf4j
 @Component
@@ -33,12 +36,14 @@ public class DataImporter implements CommandLineRunner {
     private final FireStationRepository fireStationRepository;
     private final HospitalRepository hospitalRepository;
     private final ShelterRepository shelterRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public void run(String... args) throws Exception {
         // 중복 적재 방지
         if (facilityRepository.count() > 0) {
             log.info("Facility data exists. Import skipped.");
+            eventPublisher.publishEvent(new FacilityDataLoadedEvent(false));
             return;
         }
         log.info("Starting CSV data import process...");
@@ -49,6 +54,7 @@ public class DataImporter implements CommandLineRunner {
         importShelterData("data/shelter_data.csv", "UTF-8");
 
         log.info("Data import completed successfully.");
+        eventPublisher.publishEvent(new FacilityDataLoadedEvent(true));
     }
 
     // 경찰서 데이터 로드
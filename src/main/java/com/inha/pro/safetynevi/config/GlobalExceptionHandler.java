@@ -1,9 +1,11 @@
 package com.inha.pro.safetynevi.config;
 
 import com.inha.pro.safetynevi.exception.ResourceNotFoundException;
+import com.inha.pro.safetynevi.exception.ServiceUnavailableException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.catalina.connector.ClientAbortException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -41,6 +43,18 @@ public class GlobalExceptionHandler {
                 ));
     }
 
+    // 인덱스 적재 중 등 일시적으로 처리할 수 없는 경우 (503, 잠시 후 재시도)
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<?> handleServiceUnavailable(ServiceUnavailableException e) {
+        log.debug("Service Unavailable: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(Map.of(
+                        "error", "SERVICE_UNAVAILABLE",
+                        "message", e.getMessage()
+                ));
+    }
+
     // 정적 리소스(JS, CSS, IMG)가 없는 경우 (404)
     @ExceptionHandler(NoResourceFoundException.class)
     public ResponseEntity<?> handleStaticResourceNotFound(NoResourceFoundException e) {
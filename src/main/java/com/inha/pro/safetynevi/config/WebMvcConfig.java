@@ -1,17 +1,26 @@
 package com.inha.pro.safetynevi.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 /**
  * Web MVC 설정
  * - 로컬 파일 업로드 경로를 리소스 핸들러에 매핑
+ * - 시설/경로 목록용 컬럼형 응답 변환기 등록
  */
 @Configuration
+@RequiredArgsConstructor
 public class WebMvcConfig implements WebMvcConfigurer {
 
+    private final ObjectMapper objectMapper;
+
     @Value("${file.upload.dir}")
     private String uploadDir;
 
@@ -24,4 +33,10 @@ public class WebMvcConfig implements WebMvcConfigurer {
         registry.addResourceHandler("/upload/**")
                 .addResourceLocations("file:///" + uploadDir);
     }
-}
\ No newline at end of file
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // 기본 JSON 변환기 뒤에 추가 (Accept 헤더로 명시한 경우에만 선택됨)
+        converters.add(new ColumnarHttpMessageConverter(objectMapper.getFactory()));
+    }
+}
@@ -1,17 +1,33 @@
 package com.inha.pro.safetynevi.controller.admin;
 
+import com.inha.pro.safetynevi.dto.map.BatchRouteDto;
+import com.inha.pro.safetynevi.dto.map.CoverageHeatmapDto;
+import com.inha.pro.safetynevi.dto.map.EvacuationPlanDto;
+import com.inha.pro.safetynevi.dto.map.RouteCacheStatsDto;
+import com.inha.pro.safetynevi.dto.map.RouteOriginDto;
+import com.inha.pro.safetynevi.dto.map.ShelterOccupancyDto;
 import com.inha.pro.safetynevi.entity.calamity.DisasterZone;
 import com.inha.pro.safetynevi.service.calamity.DisasterService;
+import com.inha.pro.safetynevi.service.map.EvacuationPlanService;
+import com.inha.pro.safetynevi.service.map.RouteCacheService;
+import com.inha.pro.safetynevi.service.map.RouteService;
+import com.inha.pro.safetynevi.service.map.ShelterCoverageService;
+import com.inha.pro.safetynevi.service.map.ShelterLoadService;
 import com.inha.pro.safetynevi.service.member.MemberService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * 관리자 전용 기능 API 컨트롤러
  * - 재난 시뮬레이션 생성/종료
+ * - 재난 구역 내 대피소 일괄 추천 / 수용 인원 제약 대피 배정
  * - 회원 강제 관리
+ * - 대피소 사각지대 분석 / 실시간 혼잡도
+ * - 길찾기 경로 캐시 모니터링
  */
 @Slf4j
 @RestController
@@ -21,6 +37,11 @@ public class AdminController {
 
     private final DisasterService disasterService;
     private final MemberService memberService;
+    private final ShelterCoverageService shelterCoverageService;
+    private final RouteService routeService;
+    private final RouteCacheService routeCacheService;
+    private final EvacuationPlanService evacuationPlanService;
+    private final ShelterLoadService shelterLoadService;
 
     // 원형(Circle) 재난 시뮬레이션 생성 (위도, 경도, 반경)
     @PostMapping("/simulate")
@@ -51,6 +72,29 @@ public class AdminController {
         return ResponseEntity.ok("삭제 성공");
     }
 
+    // 재난 구역 내 회원/즐겨찾기 장소 전체에 대한 대피소 일괄 추천
+    @GetMapping("/disaster/{id}/recommendations")
+    public ResponseEntity<List<BatchRouteDto>> getDisasterRecommendations(@PathVariable Long id) {
+        List<RouteOriginDto> origins = disasterService.findAffectedOrigins(id);
+        return ResponseEntity.ok(routeService.recommendAll(origins));
+    }
+
+    // 여러 출발지 일괄 대피소 추천 (출발지 순서대로 결과 반환, 최대 RouteService.MAX_BATCH_ORIGINS개)
+    @PostMapping("/route/recommend/batch")
+    public ResponseEntity<List<BatchRouteDto>> getRecommendedRoutesBatch(@RequestBody List<RouteOriginDto> origins) {
+        return ResponseEntity.ok(routeService.getOptimalSheltersBatch(origins));
+    }
+
+    // 재난 구역 인구의 수용 인원 제약 대피소 배정 (syntheticPopulation > 0이면 구역 내 가상 격자 인구)
+    @GetMapping("/disaster/{id}/evacuation-plan")
+    public ResponseEntity<EvacuationPlanDto> getEvacuationPlan(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "0") int syntheticPopulation
+    ) {
+        List<RouteOriginDto> population = disasterService.findEvacuationPopulation(id, syntheticPopulation);
+        return ResponseEntity.ok(evacuationPlanService.plan(population));
+    }
+
     // 회원 강제 탈퇴 처리
     @DeleteMapping("/member/{userId}")
     public ResponseEntity<String> kickMember(@PathVariable String userId) {
@@ -63,4 +107,27 @@ public class AdminController {
         memberService.forceWithdraw(userId);
         return ResponseEntity.ok("삭제 성공");
     }
-}
\ No newline at end of file
+
+    // 길찾기 경로 캐시 적중률 및 카카오 API 호출 지연 통계
+    @GetMapping("/route-cache/stats")
+    public ResponseEntity<RouteCacheStatsDto> getRouteCacheStats() {
+        return ResponseEntity.ok(routeCacheService.getStats());
+    }
+
+    // 대피소 실시간 혼잡도 (최근 추천/길찾기 기준 추정 인원이 많은 순)
+    @GetMapping("/shelter-load")
+    public ResponseEntity<List<ShelterOccupancyDto>> getShelterLoads(@RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(shelterLoadService.getTopLoads(limit));
+    }
+
+    // 대피소 사각지대 히트맵 (최근접 대피소가 thresholdKm보다 먼 격자, 범위 미지정 시 전국)
+    @GetMapping("/coverage/underserved")
+    public ResponseEntity<CoverageHeatmapDto> getUnderservedAreas(
+            @RequestParam(defaultValue = "2") double thresholdKm,
+            @RequestParam(defaultValue = "false") boolean largeOnly,
+            @RequestParam(defaultValue = "33.0") double swLat, @RequestParam(defaultValue = "124.5") double swLng,
+            @RequestParam(defaultValue = "38.7") double neLat, @RequestParam(defaultValue = "131.0") double neLng
+    ) {
+        return ResponseEntity.ok(shelterCoverageService.findUnderserved(largeOnly, thresholdKm, swLat, swLng, neLat, neLng));
+    }
+}
@@ -1,13 +1,22 @@
 package com.inha.pro.safetynevi.controller.map;
 
+import com.inha.pro.safetynevi.dto.map.FacilityClusterDto;
+import com.inha.pro.safetynevi.dto.map.FacilityDeltaDto;
 import com.inha.pro.safetynevi.dto.map.FacilityDto;
-import com.inha.pro.safetynevi.entity.Facility;
+import com.inha.pro.safetynevi.dto.map.FacilitySearchDto;
+import com.inha.pro.safetynevi.service.map.FacilityClusterService;
+import com.inha.pro.safetynevi.service.map.FacilityDetailCacheService;
 import com.inha.pro.safetynevi.service.map.FacilityService;
+import com.inha.pro.safetynevi.service.map.FacilityTileService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 시설물(Facility) 데이터 조회 API
@@ -18,7 +27,13 @@ import java.util.List;
 @RequestMapping("/api/facilities")
 public class FacilityController {
 
+    // 시설물 타일 바이너리 포맷 (FacilityTileEncoder 참고)
+    private static final MediaType FACILITY_TILE = MediaType.parseMediaType("application/vnd.safetynevi.facility-tile");
+
     private final FacilityService facilityService;
+    private final FacilityClusterService facilityClusterService;
+    private final FacilityTileService facilityTileService;
+    private final FacilityDetailCacheService facilityDetailCacheService;
 
     // 지도 영역(Bounds) 내 시설물 조회
     @GetMapping
@@ -32,17 +47,79 @@ public class FacilityController {
         );
     }
 
-    // 시설 상세 정보 조회
+    // 여러 유형 일괄 조회 (체크된 레이어 전체를 한 번의 요청으로 조회, 유형별 그룹)
+    @GetMapping("/batch")
+    public ResponseEntity<Map<String, List<FacilityDto>>> getFacilitiesInBoundsByTypes(
+            @RequestParam List<String> types,
+            @RequestParam double swLat, @RequestParam double swLng,
+            @RequestParam double neLat, @RequestParam double neLng
+    ) {
+        return ResponseEntity.ok(
+                facilityService.findFacilitiesInBoundsByTypes(types, swLat, swLng, neLat, neLng)
+        );
+    }
+
+    // 지도 이동 변경분 조회 (이전 범위 대비 추가된 시설 + 벗어난 시설 ID)
+    @GetMapping("/delta")
+    public ResponseEntity<FacilityDeltaDto> getFacilitiesDelta(
+            @RequestParam List<String> types,
+            @RequestParam double prevSwLat, @RequestParam double prevSwLng,
+            @RequestParam double prevNeLat, @RequestParam double prevNeLng,
+            @RequestParam double swLat, @RequestParam double swLng,
+            @RequestParam double neLat, @RequestParam double neLng
+    ) {
+        return ResponseEntity.ok(facilityService.findFacilitiesDelta(types,
+                prevSwLat, prevSwLng, prevNeLat, prevNeLng,
+                swLat, swLng, neLat, neLng));
+    }
+
+    // 지도 레벨별 클러스터 조회 (낮은 줌에서는 집계 결과, 높은 줌에서는 개별 마커)
+    @GetMapping("/clusters")
+    public ResponseEntity<FacilityClusterDto> getFacilityClusters(
+            @RequestParam List<String> types, @RequestParam int level,
+            @RequestParam double swLat, @RequestParam double swLng,
+            @RequestParam double neLat, @RequestParam double neLng
+    ) {
+        return ResponseEntity.ok(
+                facilityClusterService.findClusters(types, level, swLat, swLng, neLat, neLng)
+        );
+    }
+
+    // 시설물 타일 조회 (z/x/y, 바이너리)
+    // - ETag가 일치하면 304 Not Modified 응답 (HttpEntityMethodProcessor 처리)
+    @GetMapping("/tiles/{type}/{z}/{x}/{y}")
+    public ResponseEntity<byte[]> getFacilityTile(
+            @PathVariable String type,
+            @PathVariable int z, @PathVariable int x, @PathVariable int y
+    ) {
+        FacilityTileService.FacilityTile tile = facilityTileService.getTile(type, z, x, y);
+        return ResponseEntity.ok()
+                .contentType(FACILITY_TILE)
+                .eTag(tile.etag())
+                .cacheControl(CacheControl.maxAge(1, TimeUnit.HOURS).cachePublic())
+                .body(tile.bytes());
+    }
+
+    // 시설 상세 정보 조회 (직렬화된 JSON 캐시 응답, If-None-Match 일치 시 304)
     @GetMapping("/detail/{id}")
-    public ResponseEntity<?> getFacilityDetail(@PathVariable Long id) {
-        Object detailDto = facilityService.findDetailById(id);
-        return (detailDto != null) ? ResponseEntity.ok(detailDto) : ResponseEntity.notFound().build();
+    public ResponseEntity<byte[]> getFacilityDetail(@PathVariable Long id) {
+        FacilityDetailCacheService.FacilityDetail detail = facilityDetailCacheService.getDetail(id);
+        if (detail == null) return ResponseEntity.notFound().build();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(detail.etag())
+                .cacheControl(CacheControl.maxAge(1, TimeUnit.HOURS).cachePublic().immutable())
+                .body(detail.json());
     }
 
-    // 시설명 키워드 검색
+    // 시설명 키워드 검색 (초성 검색 지원, lat/lon 지정 시 근접 순 가중)
     @GetMapping("/search")
-    public ResponseEntity<List<Facility>> searchFacilities(@RequestParam String keyword) {
-        log.info("Search request: keyword={}", keyword);
-        return ResponseEntity.ok(facilityService.searchFacilitiesByName(keyword));
+    public ResponseEntity<List<FacilitySearchDto>> searchFacilities(
+            @RequestParam String keyword,
+            @RequestParam(required = false) Double lat,
+            @RequestParam(required = false) Double lon,
+            @RequestParam(defaultValue = "30") int limit) {
+        log.info("Search request: keyword={}, lat={}, lon={}", keyword, lat, lon);
+        return ResponseEntity.ok(facilityService.searchFacilitiesByName(keyword, lat, lon, limit));
     }
 }
\ No newline at end of file
@@ -1,14 +1,21 @@
 package com.inha.pro.safetynevi.controller.map;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.inha.pro.safetynevi.dto.map.RouteDto;
+import com.inha.pro.safetynevi.exception.ServiceUnavailableException;
 import com.inha.pro.safetynevi.service.map.RouteService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -24,20 +31,34 @@ public class RouteController {
 
     // 최적 대피소 추천 목록 조회
     @GetMapping("/recommend")
-    public ResponseEntity<List<RouteDto>> getRecommendedRoutes(@RequestParam double lat, @RequestParam double lon) {
-        return ResponseEntity.ok(routeService.getOptimalShelters(lat, lon));
+    public ResponseEntity<List<RouteDto>> getRecommendedRoutes(@RequestParam double lat, @RequestParam double lon,
+                                                               @AuthenticationPrincipal UserDetails user,
+                                                               HttpServletRequest request) {
+        return ResponseEntity.ok(routeService.getOptimalShelters(lat, lon, requesterOf(user, request)));
     }
 
-    // 경로 상세 탐색 (Kakao Mobility API 연동)
+    // 경로 상세 탐색 (provider: auto(기본, 카카오 실패 시 오프라인 대체) / kakao / offline, 비동기 응답)
     @GetMapping("/path")
-    public ResponseEntity<?> getRoutePath(
+    public Mono<ResponseEntity<?>> getRoutePath(
             @RequestParam double startLat, @RequestParam double startLon,
-            @RequestParam double endLat, @RequestParam double endLon
+            @RequestParam double endLat, @RequestParam double endLon,
+            @RequestParam(defaultValue = RouteService.ROUTE_PROVIDER_AUTO) String provider,
+            @AuthenticationPrincipal UserDetails user,
+            HttpServletRequest request
     ) {
-        JsonNode routeData = routeService.getKakaoRoute(startLat, startLon, endLat, endLon);
-        if (routeData == null) {
-            return ResponseEntity.status(500).body("Path finding failed");
-        }
-        return ResponseEntity.ok(routeData);
+        return routeService.getRoutePath(startLat, startLon, endLat, endLon, provider, requesterOf(user, request))
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .onErrorResume(ServiceUnavailableException.class,
+                        e -> Mono.just(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                                .header(HttpHeaders.RETRY_AFTER, "5")
+                                .body(e.getMessage())))
+                .onErrorResume(e -> Mono.just(ResponseEntity.status(500).body("Path finding failed")));
     }
-}
\ No newline at end of file
+
+    // 혼잡도 집계용 요청자 (로그인 회원 > 기존 세션, 둘 다 없으면 null - 세션을 새로 만들지 않음)
+    private static String requesterOf(UserDetails user, HttpServletRequest request) {
+        if (user != null) return "member:" + user.getUsername();
+        HttpSession session = request.getSession(false);
+        return (session != null) ? "session:" + session.getId() : null;
+    }
+}
@@ -0,0 +1,13 @@
+package com.inha.pro.safetynevi.dao.map;
+
+import com.inha.pro.safetynevi.entity.FacilityMarker;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface FacilityMarkerRepository extends JpaRepository<FacilityMarker, Long>, FacilityMarkerRepositoryCustom {
+
+    // GEO_KEY 미계산 행 (컬럼 추가 이전 데이터 보정용)
+    List<FacilityMarker> findByGeoKeyIsNull(Pageable pageable);
+}
@@ -0,0 +1,12 @@
+package com.inha.pro.safetynevi.dao.map;
+
+import com.inha.pro.safetynevi.dto.map.FacilityDto;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface FacilityMarkerRepositoryCustom {
+
+    // 지정 레이어들의 범위(Bounds) 내 마커를 DTO로 바로 조회 (엔티티/상속 테이블 로딩 없음)
+    List<FacilityDto> findDtosInBounds(Collection<String> layers, double swLat, double swLng, double neLat, double neLng);
+}
@@ -0,0 +1,38 @@
+package com.inha.pro.safetynevi.dao.map;
+
+import com.inha.pro.safetynevi.dto.map.FacilityDto;
+import com.inha.pro.safetynevi.entity.FacilityMarker;
+import com.inha.pro.safetynevi.specs.GeoSpecs;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * FACILITY_MARKER 범위 조회 구현
+ * - GeoSpecs 조건(GEO_KEY 구간 + 좌표 재확인)을 그대로 사용하면서 결과는 FacilityDto 생성자 프로젝션으로 조회
+ */
+public class FacilityMarkerRepositoryImpl implements FacilityMarkerRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public List<FacilityDto> findDtosInBounds(Collection<String> layers, double swLat, double swLng, double neLat, double neLng) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<FacilityDto> query = cb.createQuery(FacilityDto.class);
+        Root<FacilityMarker> m = query.from(FacilityMarker.class);
+
+        query.select(cb.construct(FacilityDto.class,
+                        m.get("id"), m.get("type"), m.get("name"), m.get("latitude"), m.get("longitude"),
+                        m.get("operatingStatus"), m.get("maxCapacity")))
+                .where(m.get("layer").in(layers),
+                        GeoSpecs.<FacilityMarker>withinBounds(swLat, swLng, neLat, neLng).toPredicate(m, query, cb));
+
+        return em.createQuery(query).getResultList();
+    }
+}
@@ -2,6 +2,7 @@ package com.inha.pro.safetynevi.dao.map;
 
 import com.inha.pro.safetynevi.entity.map.FavoritePlace;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,4 +13,14 @@ public interface FavoritePlaceRepository extends JpaRepository<FavoritePlace, Lo
 
     // 특정 유저의 모든 장소 목록 조회
     List<FavoritePlace> findAllByUserId(String userId);
+
+    // 좌표 범위(Bounds) 내 장소 조회 (원형 재난 영향 대상)
+    List<FavoritePlace> findByLatitudeBetweenAndLongitudeBetween(double minLat, double maxLat, double minLon, double maxLon);
+
+    // 주소에 행정구역명이 포함된 장소 조회 (지역형 재난 영향 대상)
+    List<FavoritePlace> findByAddressContainingAndLatitudeIsNotNullAndLongitudeIsNotNull(String areaName);
+
+    // 좌표가 등록된 전체 장소의 좌표 (위도, 경도)
+    @Query("SELECT f.latitude, f.longitude FROM FavoritePlace f WHERE f.latitude IS NOT NULL AND f.longitude IS NOT NULL")
+    List<Object[]> findAllLocations();
 }
\ No newline at end of file
@@ -1,7 +1,10 @@
 package com.inha.pro.safetynevi.dao.member;
 
 import com.inha.pro.safetynevi.entity.member.Member;
+import com.inha.pro.safetynevi.specs.GeoSpecs;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDateTime;
@@ -11,7 +14,7 @@ import java.util.Optional;
 /**
  * 회원 데이터 접근 레이어 (DAO)
  */
-public interface MemberRepository extends JpaRepository<Member, String> {
+public interface MemberRepository extends JpaRepository<Member, String>, JpaSpecificationExecutor<Member> {
 
     // 중복 가입 체크
     boolean existsByUserId(String userId);
@@ -24,7 +27,22 @@ public interface MemberRepository extends JpaRepository<Member, String> {
     // 특정 기간 내 가입 회원 수 카운트 (대시보드 통계용)
     long countByJoinDateBetween(LocalDateTime start, LocalDateTime end);
 
-    // 지역별 가입자 통계를 위한 전체 주소 목록 조회
-    @Query("SELECT m.address FROM Member m WHERE m.address IS NOT NULL")
-    List<String> findAllAddresses();
+    // 지역별 가입자 통계를 위한 전체 주소/집 좌표 조회 (주소, 위도, 경도)
+    @Query("SELECT m.address, m.latitude, m.longitude FROM Member m")
+    List<Object[]> findAllAddressLocations();
+
+    // 집 좌표가 등록된 회원의 좌표 (위도, 경도)
+    @Query("SELECT m.latitude, m.longitude FROM Member m WHERE m.latitude IS NOT NULL AND m.longitude IS NOT NULL")
+    List<Object[]> findAllHomeLocations();
+
+    // 좌표 범위(Bounds) 내 집 좌표가 등록된 회원 조회 (GEO_KEY 구간 스캔 + 좌표 재확인)
+    default List<Member> findAllInBounds(double swLat, double swLng, double neLat, double neLng) {
+        return findAll(GeoSpecs.withinBounds(swLat, swLng, neLat, neLng));
+    }
+
+    // 행정구역(시군구) 단위 회원 조회 (지역형 재난 영향 대상, 좌표 등록 회원만)
+    List<Member> findByAreaNameAndLatitudeIsNotNullAndLongitudeIsNotNull(String areaName);
+
+    // GEO_KEY 미계산 행 (컬럼 추가 이전 데이터 보정용, 좌표 없는 회원 제외)
+    List<Member> findByGeoKeyIsNullAndLatitudeIsNotNullAndLongitudeIsNotNull(Pageable pageable);
 }
\ No newline at end of file
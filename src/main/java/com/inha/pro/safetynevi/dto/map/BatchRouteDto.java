@@ -0,0 +1,25 @@
+package com.inha.pro.safetynevi.dto.map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 일괄 대피소 추천 결과 DTO (출발지 1건당 1개)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchRouteDto {
+    private String key;
+    private String source;
+    private double latitude;
+    private double longitude;
+
+    // 단건 추천(/api/route/recommend)과 동일한 구성의 추천 목록
+    private List<RouteDto> routes;
+}
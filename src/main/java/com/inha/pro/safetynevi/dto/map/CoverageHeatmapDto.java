@@ -0,0 +1,25 @@
+package com.inha.pro.safetynevi.dto.map;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 대피소 사각지대 히트맵 응답 DTO (관리자용)
+ * - 최근접 대피소까지의 거리가 기준보다 먼 격자 목록
+ */
+@Data @Builder
+public class CoverageHeatmapDto {
+    private int cellMeter;          // 반환 격자 한 변 크기 (표본 추출 시 원래 격자보다 큼)
+    private double thresholdMeter;  // 사각지대 판정 기준 거리
+    private List<CellDto> cells;
+
+    // 격자 DTO (Inner Class)
+    @Data @Builder
+    public static class CellDto {
+        private double latitude;        // 격자 중심 좌표
+        private double longitude;
+        private Integer distanceMeter;  // 최근접 대피소 거리 (대상 대피소가 없으면 null)
+    }
+}
@@ -0,0 +1,44 @@
+package com.inha.pro.safetynevi.dto.map;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 대량 대피 배정 결과 DTO (관리자용)
+ * - 대피소 수용 인원을 넘기지 않으면서 총 이동 거리가 최소가 되도록 배정한 결과
+ */
+@Data @Builder
+public class EvacuationPlanDto {
+    private int totalPeople;
+    private int assignedPeople;
+    private int unassignedPeople;       // 수용 인원 부족 또는 최대 거리 초과로 배정되지 않은 인원
+    private double averageDistanceMeter; // 배정된 인원 기준
+    private int maxDistanceMeter;
+    private long elapsedMillis;
+    private List<ShelterLoadDto> shelters;    // 1명 이상 배정된 대피소 (배정 인원 많은 순)
+    private List<AssignmentDto> assignments;  // 입력 순서와 동일
+
+    // 대피소별 배정 현황 (Inner Class)
+    @Data @Builder
+    public static class ShelterLoadDto {
+        private Long shelterId;
+        private String name;
+        private double latitude;
+        private double longitude;
+        private int capacity;
+        private int assigned;
+    }
+
+    // 사람별 배정 결과 (Inner Class)
+    @Data @Builder
+    public static class AssignmentDto {
+        private String key;
+        private String source;
+        private double latitude;
+        private double longitude;
+        private Long shelterId;         // 미배정이면 null
+        private Integer distanceMeter;  // 미배정이면 null
+    }
+}
@@ -0,0 +1,27 @@
+package com.inha.pro.safetynevi.dto.map;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 지도 레벨별 시설물 클러스터 응답 DTO
+ * - 2개 이상 모인 영역은 클러스터(개수, 중심점, 유형별 개수)로, 단독 시설은 개별 마커로 반환
+ */
+@Data @Builder
+public class FacilityClusterDto {
+    private int level;                  // 카카오맵 지도 레벨
+    private List<ClusterDto> clusters;
+    private List<FacilityDto> markers;
+
+    // 클러스터 DTO (Inner Class)
+    @Data @Builder
+    public static class ClusterDto {
+        private double latitude;        // 소속 시설 좌표 평균 (중심점)
+        private double longitude;
+        private int count;
+        private Map<String, Integer> typeCounts; // 레이어별 시설 수 (police, fire, ...)
+    }
+}
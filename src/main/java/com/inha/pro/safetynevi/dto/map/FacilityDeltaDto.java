@@ -0,0 +1,16 @@
+package com.inha.pro.safetynevi.dto.map;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 지도 이동 시 변경분 응답 DTO
+ * - 이전 화면 범위 대비 새로 들어온 시설과 화면 밖으로 나간 시설 ID만 전달
+ */
+@Data @Builder
+public class FacilityDeltaDto {
+    private List<FacilityDto> added; // 새 범위에만 포함된 시설
+    private List<Long> removed;      // 이전 범위에만 포함된 시설 ID
+}
@@ -3,15 +3,18 @@ package com.inha.pro.safetynevi.dto.map;
 import com.inha.pro.safetynevi.entity.Facility;
 import com.inha.pro.safetynevi.entity.Hospital;
 import com.inha.pro.safetynevi.entity.Shelter;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 /**
  * 지도 마커용 시설물 요약 정보 DTO
  * - 모든 시설(경찰, 소방, 병원, 대피소)의 공통 필드 및 일부 특화 필드 포함
+ * - 전체 필드 생성자는 FACILITY_MARKER 조회 시 JPQL 생성자 프로젝션에 사용
  */
 @Getter
 @NoArgsConstructor
+@AllArgsConstructor
 public class FacilityDto {
 
     private Long id;
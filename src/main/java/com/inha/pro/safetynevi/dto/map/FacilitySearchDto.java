@@ -0,0 +1,19 @@
+package com.inha.pro.safetynevi.dto.map;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 시설명 검색 결과 DTO
+ * - 검색 목록 표시 및 지도 이동에 필요한 필드만 포함
+ */
+@Data @Builder
+public class FacilitySearchDto {
+    private Long id;
+    private String type;
+    private String name;
+    private String address;
+    private double latitude;
+    private double longitude;
+    private Double distanceMeter; // 사용자 좌표가 주어진 경우에만 계산
+}
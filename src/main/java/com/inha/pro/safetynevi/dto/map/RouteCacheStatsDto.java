@@ -0,0 +1,24 @@
+package com.inha.pro.safetynevi.dto.map;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 길찾기 경로 캐시 통계 DTO (관리자 모니터링용)
+ */
+@Data
+@Builder
+public class RouteCacheStatsDto {
+    // 캐시 상태
+    private long size;
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+    private long evictionCount;
+
+    // 카카오 API 호출 현황 (캐시 미스로 실제 전송된 요청만 집계)
+    private long upstreamCalls;
+    private long upstreamFailures;
+    private double upstreamAvgMillis;
+    private long upstreamMaxMillis;
+}
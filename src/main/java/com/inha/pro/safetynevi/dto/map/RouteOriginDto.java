@@ -0,0 +1,22 @@
+package com.inha.pro.safetynevi.dto.map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 대피소 추천 출발지 DTO
+ * - key: 호출 측에서 결과를 매칭하기 위한 식별자 (회원 ID, 장소 ID 등)
+ * - source: 출발지 종류 (MEMBER, PLACE 등, 선택)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RouteOriginDto {
+    private String key;
+    private String source;
+    private double latitude;
+    private double longitude;
+}
@@ -0,0 +1,22 @@
+package com.inha.pro.safetynevi.dto.map;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 길찾기 경로 결과 DTO
+ * - 카카오 모빌리티 응답에서 지도 표시에 필요한 요약 정보와 경로 좌표만 추출
+ * - resultCode: 0이면 성공, 그 외는 경로 탐색 실패 (resultMsg에 사유)
+ * - vertexes: 전체 구간의 도로 좌표를 이어 붙인 [경도, 위도, 경도, 위도, ...] 배열 (카카오 응답과 동일한 순서)
+ * - throughHazard: 경로 좌표 중 활성 재난 구역 안에 있는 지점이 있는지 (응답 시점 기준)
+ */
+@Data
+@Builder(toBuilder = true)
+public class RoutePathDto {
+    private int resultCode;
+    private String resultMsg;
+    private long distance; // 전체 거리 (m)
+    private long duration; // 예상 소요 시간 (초)
+    private double[] vertexes;
+    private boolean throughHazard;
+}
@@ -0,0 +1,22 @@
+package com.inha.pro.safetynevi.dto.map;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 대피소 실시간 혼잡도 DTO (관리자용)
+ * - 최근 집계 윈도 동안 추천/길찾기로 해당 대피소에 향하는 것으로 추정되는 인원
+ */
+@Data @Builder
+public class ShelterOccupancyDto {
+    private Long shelterId;
+    private String name;
+    private double latitude;
+    private double longitude;
+    private int capacity;
+
+    private long recommended;   // 1순위 추천 횟수
+    private long routed;        // 길찾기 목적지 선택 횟수
+    private long estimatedLoad; // 추정 인원 (max(추천, 길찾기))
+    private Double loadRatio;   // 추정 인원 / 수용 인원 (수용 인원 정보가 없으면 null)
+}
@@ -13,4 +13,6 @@ public class WeatherDto {
     private String temp;          // 기온
     private String weatherStatus; // 날씨 상태 (맑음, 흐림 등)
     private String weatherIcon;   // 클라이언트 아이콘 매핑용 파일명
+    private Integer nx;           // 기상청 격자 X (실시간 갱신 구독용)
+    private Integer ny;           // 기상청 격자 Y
 }
\ No newline at end of file
@@ -0,0 +1,97 @@
+package com.inha.pro.safetynevi.entity;
+
+import com.inha.pro.safetynevi.dto.map.FacilityDto;
+import com.inha.pro.safetynevi.util.map.HilbertCurve;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 지도 마커 조회용 시설물 읽기 모델 (비정규화 테이블)
+ * - Facility 상속 테이블(JOINED)을 조인하지 않고 단일 테이블에서 범위/레이어 조회
+ * - LAYER: 지도 레이어 코드 (police/fire/hospital/shelter/etc, 어느 레이어에도 속하지 않으면 null)
+ * - (LAYER, GEO_KEY) 복합 인덱스로 레이어별 범위 검색 지원 (GEO_KEY: 힐베르트 키, HilbertCurve 참고)
+ * - 원본 Facility 변경 시 FacilityMarkerService를 통해 동기화
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "FACILITY_MARKER", indexes = {
+        @Index(name = "IDX_FACILITY_MARKER_LAYER_GEO", columnList = "LAYER, GEO_KEY")
+})
+public class FacilityMarker implements Persistable<Long> {
+
+    @Id
+    @Column(name = "FACILITY_ID")
+    private Long id; // Facility.id와 동일
+
+    @Column(name = "LAYER", length = 20)
+    private String layer;
+
+    @Column(name = "TYPE", nullable = false, length = 31)
+    private String type;
+
+    @Column(name = "NAME", nullable = false)
+    private String name;
+
+    @Column(name = "ADDRESS", length = 1000)
+    private String address;
+
+    @Column(name = "LATITUDE", nullable = false)
+    private double latitude;
+
+    @Column(name = "LONGITUDE", nullable = false)
+    private double longitude;
+
+    @Column(name = "GEO_KEY")
+    private Long geoKey;
+
+    @Column(name = "OPERATING_STATUS", length = 100)
+    private String operatingStatus;
+
+    @Column(name = "MAX_CAPACITY")
+    private Integer maxCapacity;
+
+    // 신규 여부 (식별자를 직접 지정하므로 save 시 merge 대신 persist 되도록 구분)
+    @Transient
+    private boolean newEntity = true;
+
+    // 원본 시설로부터 마커 생성 (운영 상태/수용 인원은 FacilityDto와 동일한 규칙)
+    public static FacilityMarker of(Facility facility, String layer) {
+        FacilityDto dto = new FacilityDto(facility);
+        FacilityMarker marker = new FacilityMarker();
+        marker.id = dto.getId();
+        marker.layer = layer;
+        marker.type = dto.getType();
+        marker.name = dto.getName();
+        marker.address = facility.getAddress();
+        marker.latitude = dto.getLatitude();
+        marker.longitude = dto.getLongitude();
+        marker.operatingStatus = dto.getOperatingStatus();
+        marker.maxCapacity = dto.getMaxCapacity();
+        return marker;
+    }
+
+    public FacilityDto toDto() {
+        return new FacilityDto(id, type, name, latitude, longitude, operatingStatus, maxCapacity);
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    protected void markNotNew() {
+        this.newEntity = false;
+    }
+
+    @PrePersist
+    @PreUpdate
+    public void refreshGeoKey() {
+        this.geoKey = HilbertCurve.encode(latitude, longitude);
+    }
+}
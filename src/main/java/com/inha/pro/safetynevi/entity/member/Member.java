@@ -1,5 +1,6 @@
 package com.inha.pro.safetynevi.entity.member;
 
+import com.inha.pro.safetynevi.util.map.HilbertCurve;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -9,9 +10,10 @@ import java.time.LocalDateTime;
 /**
  * 회원(Member) 엔티티
  * - 로그인 정보, 개인정보, 위치 설정 값 저장
+ * - GEO_KEY: 집 좌표의 힐베르트 키 (범위 검색 인덱스용, 좌표가 없으면 null)
  */
 @Entity
-@Table(name = "SAFETY_MEMBER")
+@Table(name = "SAFETY_MEMBER", indexes = @Index(name = "IDX_MEMBER_GEO_KEY", columnList = "GEO_KEY"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -50,6 +52,9 @@ public class Member {
     @Column(name = "LONGITUDE", columnDefinition = "NUMBER(10, 7)")
     private Double longitude;
 
+    @Column(name = "GEO_KEY")
+    private Long geoKey;
+
     @Column(name = "EMERGENCY_PHONE", length = 20)
     private String emergencyPhone;
 
@@ -80,4 +85,10 @@ public class Member {
     public void setAddress(String address) { this.address = address; }
     public void setLatitude(Double latitude) { this.latitude = latitude; }
     public void setLongitude(Double longitude) { this.longitude = longitude; }
+
+    @PrePersist
+    @PreUpdate
+    public void refreshGeoKey() {
+        this.geoKey = (latitude != null && longitude != null) ? HilbertCurve.encode(latitude, longitude) : null;
+    }
 }
\ No newline at end of file
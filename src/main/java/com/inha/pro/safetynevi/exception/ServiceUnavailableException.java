@@ -0,0 +1,15 @@
+package com.inha.pro.safetynevi.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 일시적 서비스 불가 예외 (503 Service Unavailable)
+ * - 메모리 인덱스/격자가 기동 직후 아직 적재 중일 때 던지는 커스텀 예외 (잠시 후 재시도 가능)
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -1,16 +1,28 @@
 package com.inha.pro.safetynevi.service.calamity;
 
 import com.inha.pro.safetynevi.dao.calamity.DisasterZoneRepository;
+import com.inha.pro.safetynevi.dao.map.FavoritePlaceRepository;
+import com.inha.pro.safetynevi.dao.member.MemberRepository;
+import com.inha.pro.safetynevi.dto.map.RouteOriginDto;
 import com.inha.pro.safetynevi.entity.calamity.DisasterZone;
+import com.inha.pro.safetynevi.entity.map.FavoritePlace;
+import com.inha.pro.safetynevi.entity.member.Member;
 import com.inha.pro.safetynevi.exception.ResourceNotFoundException; // 🌟 커스텀 예외 임포트
+import com.inha.pro.safetynevi.service.map.BoundaryService;
+import com.inha.pro.safetynevi.service.map.EvacuationPlanService;
+import com.inha.pro.safetynevi.util.map.GeoDistance;
+import com.inha.pro.safetynevi.util.map.GeoPolygon;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.BiPredicate;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -20,6 +32,10 @@ import java.util.stream.Collectors;
 public class DisasterService {
 
     private final DisasterZoneRepository disasterZoneRepository;
+    private final MemberRepository memberRepository;
+    private final FavoritePlaceRepository favoritePlaceRepository;
+    private final BoundaryService boundaryService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 1. 원형 재난 생성
     public DisasterZone createCircleDisaster(double lat, double lon, String type, double radius, int durationMinutes) {
@@ -33,7 +49,9 @@ public class DisasterService {
         zone.setExpiryTime(expiryTime);
 
         log.info("🌍 [Service] 원형 재난 생성: {}", zone);
-        return disasterZoneRepository.save(zone);
+        DisasterZone saved = disasterZoneRepository.save(zone);
+        eventPublisher.publishEvent(DisasterZoneChangedEvent.created(saved)); // 커밋 후 위험 지역 인덱스에 반영
+        return saved;
     }
 
     // 2. 지역(Polygon) 재난 생성
@@ -46,7 +64,9 @@ public class DisasterService {
         zone.setExpiryTime(expiryTime);
 
         log.info("🏙️ [Service] 지역 재난 생성: {}", zone);
-        return disasterZoneRepository.save(zone);
+        DisasterZone saved = disasterZoneRepository.save(zone);
+        eventPublisher.publishEvent(DisasterZoneChangedEvent.created(saved)); // 커밋 후 위험 지역 인덱스에 반영
+        return saved;
     }
 
     // 3. 🌟 [수정] 재난 삭제 (명시적 예외 처리)
@@ -56,6 +76,7 @@ public class DisasterService {
                 .orElseThrow(() -> new ResourceNotFoundException("해당 ID의 재난 정보가 없습니다: " + id));
 
         disasterZoneRepository.delete(zone);
+        eventPublisher.publishEvent(DisasterZoneChangedEvent.deleted(id));
         log.info("🗑️ [Service] 재난 삭제 완료: ID={}", id);
     }
 
@@ -79,4 +100,144 @@ public class DisasterService {
     public long countDisasters() {
         return disasterZoneRepository.count();
     }
+
+    // 7. 재난 구역 내 출발지 조회 (일괄 대피소 추천용)
+    // - 원형: 반경(m)을 감싸는 사각 범위로 조회 후 실제 거리로 재확인
+    // - 지역형: 회원은 가입 시 저장한 시군구명, 즐겨찾기 장소는 주소 문자열로 판별
+    // - 가족(Family)은 위치 정보를 저장하지 않으므로 대상에서 제외
+    @Transactional(readOnly = true)
+    public List<RouteOriginDto> findAffectedOrigins(Long id) {
+        DisasterZone zone = findZone(id);
+
+        List<Member> members = findMembersIn(zone);
+        List<FavoritePlace> places;
+        if (isCircle(zone)) {
+            double lat = zone.getLatitude(), lon = zone.getLongitude(), radius = zone.getRadius();
+            double dLat = radius / METERS_PER_DEG_LAT;
+            double dLon = radius / (METERS_PER_DEG_LAT * Math.cos(Math.toRadians(lat)));
+
+            places = favoritePlaceRepository.findByLatitudeBetweenAndLongitudeBetween(lat - dLat, lat + dLat, lon - dLon, lon + dLon).stream()
+                    .filter(p -> GeoDistance.meter(lat, lon, p.getLatitude(), p.getLongitude()) <= radius)
+                    .collect(Collectors.toList());
+        } else if (zone.getAreaName() != null && !zone.getAreaName().isBlank()) {
+            places = favoritePlaceRepository.findByAddressContainingAndLatitudeIsNotNullAndLongitudeIsNotNull(zone.getAreaName());
+        } else {
+            return List.of();
+        }
+
+        List<RouteOriginDto> origins = new ArrayList<>(members.size() + places.size());
+        for (Member m : members) origins.add(toOrigin(m));
+        for (FavoritePlace p : places) {
+            origins.add(RouteOriginDto.builder()
+                    .key(String.valueOf(p.getId())).source("PLACE_" + p.getPlaceType())
+                    .latitude(p.getLatitude()).longitude(p.getLongitude())
+                    .build());
+        }
+        log.info("👥 [Service] 재난 구역 내 출발지 조회: ID={}, 회원={}, 장소={}", id, members.size(), places.size());
+        return origins;
+    }
+
+    /**
+     * 대량 대피 배정용 인구 분포
+     * - syntheticPopulation이 0이면 재난 구역 내 회원 거주지 (회원 1명 = 1명)
+     * - 0보다 크면 재난 구역 안에 균일 격자로 배치한 가상 인구 (격자점 1개 = 1명)
+     */
+    public List<RouteOriginDto> findEvacuationPopulation(Long id, int syntheticPopulation) {
+        if (syntheticPopulation < 0 || syntheticPopulation > EvacuationPlanService.MAX_POPULATION) {
+            throw new IllegalArgumentException("가상 인구는 0 ~ " + EvacuationPlanService.MAX_POPULATION + "명 사이여야 합니다.");
+        }
+        DisasterZone zone = findZone(id);
+        if (syntheticPopulation == 0) {
+            return findMembersIn(zone).stream().map(this::toOrigin).collect(Collectors.toList());
+        }
+
+        if (isCircle(zone)) {
+            double lat = zone.getLatitude(), lon = zone.getLongitude(), radius = zone.getRadius();
+            double dLat = radius / METERS_PER_DEG_LAT;
+            double dLon = radius / (METERS_PER_DEG_LAT * Math.cos(Math.toRadians(lat)));
+            return syntheticGrid(syntheticPopulation, lat - dLat, lat + dLat, lon - dLon, lon + dLon,
+                    (pLat, pLon) -> GeoDistance.meter(lat, lon, pLat, pLon) <= radius);
+        }
+
+        List<GeoPolygon> polygons = boundaryService.findByAreaName(zone.getAreaName()).stream()
+                .map(BoundaryService.Boundary::polygon)
+                .toList();
+        if (polygons.isEmpty()) {
+            throw new IllegalArgumentException("재난 지역의 행정구역 경계를 찾을 수 없습니다: " + zone.getAreaName());
+        }
+        return syntheticGrid(syntheticPopulation,
+                polygons.stream().mapToDouble(GeoPolygon::getMinLat).min().getAsDouble(),
+                polygons.stream().mapToDouble(GeoPolygon::getMaxLat).max().getAsDouble(),
+                polygons.stream().mapToDouble(GeoPolygon::getMinLon).min().getAsDouble(),
+                polygons.stream().mapToDouble(GeoPolygon::getMaxLon).max().getAsDouble(),
+                (pLat, pLon) -> polygons.stream().anyMatch(p -> p.contains(pLat, pLon)));
+    }
+
+    // 범위 안에 약 count개의 격자점 배치 (구역 면적을 모르므로 간격을 보정하며 최대 몇 차례 재배치)
+    private static List<RouteOriginDto> syntheticGrid(int count, double minLat, double maxLat, double minLon, double maxLon,
+                                                      BiPredicate<Double, Double> inside) {
+        double cos = Math.cos(Math.toRadians((minLat + maxLat) / 2));
+        double widthMeter = (maxLon - minLon) * METERS_PER_DEG_LAT * cos;
+        double heightMeter = (maxLat - minLat) * METERS_PER_DEG_LAT;
+        double spacing = Math.max(1, Math.sqrt(widthMeter * heightMeter / count));
+
+        List<double[]> points = List.of();
+        for (int attempt = 0; attempt < 4; attempt++) {
+            points = new ArrayList<>();
+            double dLat = spacing / METERS_PER_DEG_LAT, dLon = spacing / (METERS_PER_DEG_LAT * cos);
+            for (double lat = minLat + dLat / 2; lat <= maxLat; lat += dLat) {
+                for (double lon = minLon + dLon / 2; lon <= maxLon; lon += dLon) {
+                    if (inside.test(lat, lon)) points.add(new double[]{lat, lon});
+                }
+            }
+            if (points.size() >= count) break;
+            spacing *= Math.sqrt(Math.max(1, points.size()) / (double) count) * 0.98;
+        }
+
+        // 격자점이 더 많으면 고르게 건너뛰어 구역 전체 분포 유지
+        int size = Math.min(count, points.size());
+        List<RouteOriginDto> origins = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            double[] p = points.get((int) ((long) i * points.size() / size));
+            origins.add(RouteOriginDto.builder()
+                    .key("grid-" + i).source("SYNTHETIC")
+                    .latitude(p[0]).longitude(p[1])
+                    .build());
+        }
+        return origins;
+    }
+
+    private DisasterZone findZone(Long id) {
+        return disasterZoneRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("해당 ID의 재난 정보가 없습니다: " + id));
+    }
+
+    private static boolean isCircle(DisasterZone zone) {
+        return zone.getLatitude() != null && zone.getLongitude() != null && zone.getRadius() != null && zone.getRadius() > 0;
+    }
+
+    // 재난 구역 내 회원 (원형: 좌표 범위 + 거리, 지역형: 회원 지역명 일치)
+    private List<Member> findMembersIn(DisasterZone zone) {
+        if (isCircle(zone)) {
+            double lat = zone.getLatitude(), lon = zone.getLongitude(), radius = zone.getRadius();
+            double dLat = radius / METERS_PER_DEG_LAT;
+            double dLon = radius / (METERS_PER_DEG_LAT * Math.cos(Math.toRadians(lat)));
+            return memberRepository.findAllInBounds(lat - dLat, lon - dLon, lat + dLat, lon + dLon).stream()
+                    .filter(m -> GeoDistance.meter(lat, lon, m.getLatitude(), m.getLongitude()) <= radius)
+                    .collect(Collectors.toList());
+        }
+        if (zone.getAreaName() != null && !zone.getAreaName().isBlank()) {
+            return memberRepository.findByAreaNameAndLatitudeIsNotNullAndLongitudeIsNotNull(zone.getAreaName());
+        }
+        return List.of();
+    }
+
+    private RouteOriginDto toOrigin(Member m) {
+        return RouteOriginDto.builder()
+                .key(m.getUserId()).source("MEMBER")
+                .latitude(m.getLatitude()).longitude(m.getLongitude())
+                .build();
+    }
+
+    private static final double METERS_PER_DEG_LAT = 111_320;
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.inha.pro.safetynevi.service.calamity;
+
+import com.inha.pro.safetynevi.entity.calamity.DisasterZone;
+
+/**
+ * 재난 구역 생성/삭제 이벤트
+ * - DisasterService가 트랜잭션 안에서 발행하고, HazardZoneIndex가 커밋 이후에 반영
+ *   (롤백된 변경이 길찾기/대피소 추천에 노출되지 않도록)
+ * - zone이 null이면 id 구역 삭제
+ */
+public record DisasterZoneChangedEvent(Long id, DisasterZone zone) {
+
+    public static DisasterZoneChangedEvent created(DisasterZone zone) {
+        return new DisasterZoneChangedEvent(zone.getId(), zone);
+    }
+
+    public static DisasterZoneChangedEvent deleted(Long id) {
+        return new DisasterZoneChangedEvent(id, null);
+    }
+}
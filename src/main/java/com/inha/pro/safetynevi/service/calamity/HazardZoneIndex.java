@@ -0,0 +1,121 @@
+package com.inha.pro.safetynevi.service.calamity;
+
+import com.inha.pro.safetynevi.dao.calamity.DisasterZoneRepository;
+import com.inha.pro.safetynevi.entity.calamity.DisasterZone;
+import com.inha.pro.safetynevi.service.map.BoundaryService;
+import com.inha.pro.safetynevi.service.map.ShelterKdTree;
+import com.inha.pro.safetynevi.util.map.GeoPolygon;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * 활성 재난 구역 인덱스 (길찾기/대피소 추천의 위험 지역 판정)
+ * - 기동 시 유효한 구역을 적재하고, 이후 재난 생성/삭제 트랜잭션이 커밋된 뒤 DisasterZoneChangedEvent로 증분 반영
+ * - 만료는 조회 시점에 확인하여 만료된 구역이 있으면 그때 제거 (별도 스케줄러 없음)
+ * - 대피소 KD-Tree 위치별 위험 여부를 비트셋으로 미리 계산해 두어 추천 시 O(1)로 제외
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HazardZoneIndex {
+
+    private final DisasterZoneRepository disasterZoneRepository;
+    private final BoundaryService boundaryService;
+
+    private volatile HazardZoneSnapshot snapshot = HazardZoneSnapshot.EMPTY;
+    private volatile BlockedShelters blockedShelters;
+
+    // 특정 트리/스냅샷 조합에 대해 계산된 위험 대피소 비트셋
+    private record BlockedShelters(ShelterKdTree tree, HazardZoneSnapshot hazards, BitSet blocked) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void initialize() {
+        HazardZoneSnapshot next = HazardZoneSnapshot.EMPTY;
+        for (DisasterZone zone : disasterZoneRepository.findByExpiryTimeAfter(Instant.now())) {
+            HazardZoneSnapshot.Zone z = toZone(zone);
+            if (z != null) next = next.with(z);
+        }
+        snapshot = next;
+        log.info("⚠️ 활성 재난 구역 인덱스 초기화: {}건", next.size());
+    }
+
+    // 커밋된 재난 구역 생성/삭제 반영 (트랜잭션 밖에서 발행된 경우 즉시 반영)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDisasterZoneChanged(DisasterZoneChangedEvent event) {
+        if (event.zone() != null) add(event.zone());
+        else remove(event.id());
+    }
+
+    // 재난 구역 추가/갱신
+    public synchronized void add(DisasterZone zone) {
+        HazardZoneSnapshot.Zone z = toZone(zone);
+        if (z == null) return;
+        snapshot = snapshot.pruned(System.currentTimeMillis()).with(z);
+    }
+
+    public synchronized void remove(Long id) {
+        snapshot = snapshot.without(id);
+    }
+
+    // 현재 유효한 재난 구역 스냅샷 (만료된 구역이 있으면 제거 후 반환)
+    public HazardZoneSnapshot current() {
+        HazardZoneSnapshot current = snapshot;
+        long now = System.currentTimeMillis();
+        if (!current.hasExpired(now)) return current;
+
+        synchronized (this) {
+            if (snapshot.hasExpired(now)) snapshot = snapshot.pruned(now);
+            return snapshot;
+        }
+    }
+
+    /**
+     * 재난 구역 안에 있는 대피소 (트리 위치 기준 비트셋, 읽기 전용으로 사용)
+     * - 트리 또는 재난 구역이 바뀐 경우에만 다시 계산
+     */
+    public BitSet blockedShelters(ShelterKdTree tree) {
+        HazardZoneSnapshot hazards = current();
+        BlockedShelters cached = blockedShelters;
+        if (cached != null && cached.tree() == tree && cached.hazards() == hazards) return cached.blocked();
+
+        BitSet blocked = new BitSet(tree.size());
+        if (!hazards.isEmpty()) {
+            for (int pos = 0; pos < tree.size(); pos++) {
+                if (hazards.contains(tree.latitudeAt(pos), tree.longitudeAt(pos))) blocked.set(pos);
+            }
+        }
+        blockedShelters = new BlockedShelters(tree, hazards, blocked);
+        return blocked;
+    }
+
+    // 엔티티 -> 구역 기하 (원형 우선, 지역형은 행정구역 경계가 있을 때만)
+    private HazardZoneSnapshot.Zone toZone(DisasterZone zone) {
+        if (zone.getId() == null || zone.getExpiryTime() == null) return null;
+        long expiresAt = zone.getExpiryTime().toEpochMilli();
+
+        if (zone.getLatitude() != null && zone.getLongitude() != null && zone.getRadius() != null && zone.getRadius() > 0) {
+            return HazardZoneSnapshot.Zone.circle(zone.getId(), zone.getLatitude(), zone.getLongitude(), zone.getRadius(), expiresAt);
+        }
+        if (zone.getAreaName() != null) {
+            List<GeoPolygon> polygons = boundaryService.findByAreaName(zone.getAreaName()).stream()
+                    .map(BoundaryService.Boundary::polygon)
+                    .toList();
+            if (polygons.isEmpty()) {
+                log.warn("⚠️ 재난 구역 경계를 찾을 수 없어 위험 지역에서 제외: ID={}, 지역={}", zone.getId(), zone.getAreaName());
+                return null;
+            }
+            return HazardZoneSnapshot.Zone.area(zone.getId(), polygons, expiresAt);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,129 @@
+package com.inha.pro.safetynevi.service.calamity;
+
+import com.inha.pro.safetynevi.util.map.GeoDistance;
+import com.inha.pro.safetynevi.util.map.GeoPolygon;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 활성 재난 구역 기하 스냅샷 (불변)
+ * - 원형 구역(중심/반경)과 지역형 구역(행정구역 폴리곤)을 함께 보관
+ * - 전체 외접 사각형 -> 구역별 외접 사각형 -> 실제 거리/폴리곤 순으로 판정
+ * - 변경 시 새 스냅샷을 만들어 교체 (구역 수가 적으므로 복사 비용 무시 가능)
+ */
+public final class HazardZoneSnapshot {
+
+    static final HazardZoneSnapshot EMPTY = new HazardZoneSnapshot(List.of());
+
+    private static final double METERS_PER_DEG_LAT = 111_320;
+
+    private final List<Zone> zones;
+    private final long nextExpiry; // 가장 먼저 만료되는 구역의 만료 시각 (epoch ms)
+    private final double minLat;
+    private final double maxLat;
+    private final double minLon;
+    private final double maxLon;
+
+    /**
+     * 재난 구역 1건
+     * - polygons가 비어 있으면 원형 구역 (lat, lon, radiusMeter)
+     */
+    record Zone(long id, double lat, double lon, double radiusMeter, List<GeoPolygon> polygons, long expiresAt,
+                double minLat, double maxLat, double minLon, double maxLon) {
+
+        static Zone circle(long id, double lat, double lon, double radiusMeter, long expiresAt) {
+            double dLat = radiusMeter / METERS_PER_DEG_LAT;
+            double dLon = radiusMeter / (METERS_PER_DEG_LAT * Math.cos(Math.toRadians(lat)));
+            return new Zone(id, lat, lon, radiusMeter, List.of(), expiresAt, lat - dLat, lat + dLat, lon - dLon, lon + dLon);
+        }
+
+        static Zone area(long id, List<GeoPolygon> polygons, long expiresAt) {
+            double minLat = Double.MAX_VALUE, maxLat = -Double.MAX_VALUE;
+            double minLon = Double.MAX_VALUE, maxLon = -Double.MAX_VALUE;
+            for (GeoPolygon p : polygons) {
+                minLat = Math.min(minLat, p.getMinLat());
+                maxLat = Math.max(maxLat, p.getMaxLat());
+                minLon = Math.min(minLon, p.getMinLon());
+                maxLon = Math.max(maxLon, p.getMaxLon());
+            }
+            return new Zone(id, 0, 0, 0, List.copyOf(polygons), expiresAt, minLat, maxLat, minLon, maxLon);
+        }
+
+        boolean contains(double lat, double lon) {
+            if (lat < minLat || lat > maxLat || lon < minLon || lon > maxLon) return false;
+            if (polygons.isEmpty()) return GeoDistance.meter(this.lat, this.lon, lat, lon) <= radiusMeter;
+            for (GeoPolygon p : polygons) {
+                if (p.contains(lat, lon)) return true;
+            }
+            return false;
+        }
+    }
+
+    private HazardZoneSnapshot(List<Zone> zones) {
+        this.zones = List.copyOf(zones);
+        long nextExpiry = Long.MAX_VALUE;
+        double minLat = Double.MAX_VALUE, maxLat = -Double.MAX_VALUE;
+        double minLon = Double.MAX_VALUE, maxLon = -Double.MAX_VALUE;
+        for (Zone z : zones) {
+            nextExpiry = Math.min(nextExpiry, z.expiresAt());
+            minLat = Math.min(minLat, z.minLat());
+            maxLat = Math.max(maxLat, z.maxLat());
+            minLon = Math.min(minLon, z.minLon());
+            maxLon = Math.max(maxLon, z.maxLon());
+        }
+        this.nextExpiry = nextExpiry;
+        this.minLat = minLat;
+        this.maxLat = maxLat;
+        this.minLon = minLon;
+        this.maxLon = maxLon;
+    }
+
+    // 구역별 외접 사각형
+    public record Bounds(double minLat, double maxLat, double minLon, double maxLon) {
+    }
+
+    public List<Bounds> zoneBounds() {
+        return zones.stream().map(z -> new Bounds(z.minLat(), z.maxLat(), z.minLon(), z.maxLon())).toList();
+    }
+
+    public boolean isEmpty() {
+        return zones.isEmpty();
+    }
+
+    public int size() {
+        return zones.size();
+    }
+
+    // 좌표가 활성 재난 구역 안에 있는지
+    public boolean contains(double lat, double lon) {
+        if (lat < minLat || lat > maxLat || lon < minLon || lon > maxLon) return false;
+        for (Zone z : zones) {
+            if (z.contains(lat, lon)) return true;
+        }
+        return false;
+    }
+
+    boolean hasExpired(long now) {
+        return now >= nextExpiry;
+    }
+
+    // --- 변경 (새 스냅샷 반환) ---
+
+    HazardZoneSnapshot with(Zone zone) {
+        List<Zone> next = new ArrayList<>(zones.size() + 1);
+        for (Zone z : zones) {
+            if (z.id() != zone.id()) next.add(z);
+        }
+        next.add(zone);
+        return new HazardZoneSnapshot(next);
+    }
+
+    HazardZoneSnapshot without(long id) {
+        return new HazardZoneSnapshot(zones.stream().filter(z -> z.id() != id).toList());
+    }
+
+    HazardZoneSnapshot pruned(long now) {
+        return new HazardZoneSnapshot(zones.stream().filter(z -> z.expiresAt() > now).toList());
+    }
+}
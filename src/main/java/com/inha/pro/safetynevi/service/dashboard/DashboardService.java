@@ -1,6 +1,7 @@
 package com.inha.pro.safetynevi.service.dashboard;
 
 import com.inha.pro.safetynevi.dao.member.MemberRepository;
+import com.inha.pro.safetynevi.service.map.ReverseGeocodeService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,6 +19,7 @@ import java.util.Map;
 public class DashboardService {
 
     private final MemberRepository mrepo;
+    private final ReverseGeocodeService reverseGeocodeService;
 
     public Map<String, Object> dashboardChart() {
         Map<String, Object> resultMap = new HashMap<>();
@@ -30,25 +32,16 @@ public class DashboardService {
         LocalDateTime endOfDay = LocalDate.now().atTime(LocalTime.MAX);
         long todayCount = mrepo.countByJoinDateBetween(startOfDay, endOfDay);
 
-        // 3. [핵심] 지역별 사용자 수 (주소 파싱 로직)
-        List<String> addressList = mrepo.findAllAddresses();
+        // 3. [핵심] 지역별 사용자 수 (집 좌표 역지오코딩, 좌표가 없거나 경계 밖이면 주소 파싱)
+        List<Object[]> rows = mrepo.findAllAddressLocations();
         Map<String, Long> areaMap = new HashMap<>();
 
-        for (String address : addressList) {
-            // 주소가 비어있거나 너무 짧으면 스킵
-            if (address == null || address.trim().isEmpty()) continue;
+        for (Object[] row : rows) {
+            String region = findRegion((String) row[0], (Double) row[1], (Double) row[2]);
+            if (region == null) continue;
 
-            // 공백으로 나눔 (예: "서울특별시 강서구 화곡동") -> ["서울특별시", "강서구", "화곡동"]
-            String[] tokens = address.split(" ");
-            if (tokens.length > 0) {
-                String region = tokens[0]; // 첫 번째 단어 추출 ("서울특별시", "경기", "부산광역시")
-
-                // 지역명 표준화 (선택 사항: 차트에 이쁘게 나오게 하기 위함)
-                String normalizedRegion = normalizeRegion(region);
-
-                // 카운팅 (Map에 없으면 0, 있으면 +1)
-                areaMap.put(normalizedRegion, areaMap.getOrDefault(normalizedRegion, 0L) + 1);
-            }
+            // 카운팅 (Map에 없으면 0, 있으면 +1)
+            areaMap.merge(region, 1L, Long::sum);
         }
 
         resultMap.put("totalCount", totalCount);
@@ -58,6 +51,23 @@ public class DashboardService {
         return resultMap;
     }
 
+    // 회원 1명의 시도명 (좌표 우선)
+    private String findRegion(String address, Double lat, Double lon) {
+        if (lat != null && lon != null) {
+            String sido = reverseGeocodeService.findRegion(lat, lon)
+                    .map(ReverseGeocodeService.Region::sido)
+                    .orElse(null);
+            if (sido != null) return sido;
+        }
+
+        // 주소가 비어있으면 스킵
+        if (address == null || address.trim().isEmpty()) return null;
+
+        // 공백으로 나눔 (예: "서울특별시 강서구 화곡동") -> 첫 번째 단어 ("서울특별시", "경기", "부산광역시")
+        String[] tokens = address.trim().split(" ");
+        return normalizeRegion(tokens[0]);
+    }
+
     // 지역명 표준화 메서드 (필요에 따라 추가)
     private String normalizeRegion(String rawRegion) {
         if (rawRegion.startsWith("서울")) return "서울";
@@ -0,0 +1,165 @@
+package com.inha.pro.safetynevi.service.map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inha.pro.safetynevi.util.map.GeoPolygon;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 행정구역(시군구/읍면동) 경계 서비스
+ * - 지도 화면과 같은 시군구 경계 GeoJSON(properties: code, name)을 최초 사용 시 한 번 적재
+ * - 읍면동 경계는 같은 형식의 별도 파일 (역지오코딩 전용, 코드 앞 5자리가 시군구 코드)
+ * - 파일이 없으면 빈 목록으로 동작 (경계 기반 기능만 비활성)
+ *
+ * [경계 파일] 저장소에는 포함하지 않음 (용량), 배포 시 아래 경로에 두거나 boundary.*-path로 지정
+ *   - static/geojson/skorea-municipalities-2018-geo.json    : 시군구 (지도 화면의 지역 재난 표시와 공용)
+ *   - static/geojson/skorea-submunicipalities-2018-geo.json : 읍면동
+ *   (southkorea-maps 저장소 kostat/2018/json의 같은 이름 파일, properties: code, name)
+ *   기동 시 파일 존재 여부를 확인하여 없으면 비활성화되는 기능을 경고로 남김
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BoundaryService {
+
+    // 시도명 -> 행정구역 코드 앞자리 (map-disaster.js와 동일)
+    private static final Map<String, String> SIDO_CODES = new LinkedHashMap<>();
+
+    static {
+        String[][] entries = {
+                {"서울", "11"}, {"부산", "21"}, {"대구", "22"}, {"인천", "23"}, {"광주", "24"}, {"대전", "25"},
+                {"울산", "26"}, {"세종", "29"}, {"경기", "31"}, {"강원", "32"}, {"충북", "33"}, {"충남", "34"},
+                {"전북", "35"}, {"전남", "36"}, {"경북", "37"}, {"경남", "38"}, {"제주", "39"}
+        };
+        for (String[] entry : entries) SIDO_CODES.put(entry[0], entry[1]);
+    }
+
+    private final ResourceLoader resourceLoader;
+    private final ObjectMapper objectMapper;
+
+    @Value("${boundary.geojson-path:classpath:static/geojson/skorea-municipalities-2018-geo.json}")
+    private String geoJsonPath;
+
+    @Value("${boundary.dong-geojson-path:classpath:static/geojson/skorea-submunicipalities-2018-geo.json}")
+    private String dongGeoJsonPath;
+
+    private volatile List<Boundary> boundaries;
+    private volatile List<Boundary> dongBoundaries;
+
+    // 시군구 경계 (code: 행정구역 코드, name: 시군구명)
+    public record Boundary(String code, String name, GeoPolygon polygon) {
+    }
+
+    // 기동 시 경계 파일 확인 (적재는 최초 사용 시)
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkBoundaryFiles() {
+        if (!resourceLoader.getResource(geoJsonPath).exists()) {
+            log.warn("🗺️ 시군구 경계 파일이 없습니다: {} - 지역(Polygon) 재난은 위험 지역 판정/길찾기 우회에서 제외되고, "
+                    + "지도 화면의 지역 재난 경계도 표시되지 않습니다. (BoundaryService 문서 참고)", geoJsonPath);
+        }
+        if (!resourceLoader.getResource(dongGeoJsonPath).exists()) {
+            log.warn("🗺️ 읍면동 경계 파일이 없습니다: {} - 오프라인 역지오코딩이 비활성화되어 날씨 지역명은 "
+                    + "카카오 좌표->주소 API로 조회하고(geocode.kakao-fallback), 가입 시 시군구 보충도 생략됩니다. (BoundaryService 문서 참고)", dongGeoJsonPath);
+        }
+    }
+
+    public List<Boundary> getBoundaries() {
+        List<Boundary> loaded = boundaries;
+        if (loaded == null) {
+            synchronized (this) {
+                if (boundaries == null) boundaries = load(geoJsonPath);
+                loaded = boundaries;
+            }
+        }
+        return loaded;
+    }
+
+    // 읍면동 경계 (code: 행정구역 코드, name: 읍면동명)
+    public List<Boundary> getDongBoundaries() {
+        List<Boundary> loaded = dongBoundaries;
+        if (loaded == null) {
+            synchronized (this) {
+                if (dongBoundaries == null) dongBoundaries = load(dongGeoJsonPath);
+                loaded = dongBoundaries;
+            }
+        }
+        return loaded;
+    }
+
+    // 행정구역 코드 -> 시도명 (SIDO_CODES의 짧은 이름, 알 수 없으면 null)
+    public static String sidoNameOf(String code) {
+        if (code == null || code.length() < 2) return null;
+        String prefix = code.substring(0, 2);
+        return SIDO_CODES.entrySet().stream()
+                .filter(e -> e.getValue().equals(prefix))
+                .map(Map.Entry::getKey)
+                .findFirst().orElse(null);
+    }
+
+    /**
+     * 지역명으로 경계 검색 (map-disaster.js의 findGeoJsonFeatures와 동일한 규칙)
+     * - "시도, 시군구, ..." 형식이면 시도 코드로 좁힌 뒤 시군구명 포함 여부로 필터링
+     * - 시도명만 있으면 지역명에 포함된 시군구, 없으면 시도 전체
+     * - 시도명이 없으면 지역명에 이름이 포함된 모든 시군구
+     */
+    public List<Boundary> findByAreaName(String areaName) {
+        if (areaName == null || areaName.isBlank()) return List.of();
+        List<String> parts = Arrays.stream(areaName.split(",")).map(String::trim).toList();
+        String primary = parts.get(0);
+
+        String codePrefix = SIDO_CODES.entrySet().stream()
+                .filter(e -> primary.contains(e.getKey()))
+                .map(Map.Entry::getValue)
+                .findFirst().orElse(null);
+
+        List<Boundary> all = getBoundaries();
+        if (codePrefix == null) {
+            return all.stream().filter(b -> areaName.contains(b.name())).toList();
+        }
+
+        List<Boundary> sido = all.stream().filter(b -> b.code().startsWith(codePrefix)).toList();
+        if (parts.size() > 1) {
+            List<String> details = parts.subList(1, parts.size());
+            return sido.stream().filter(b -> details.stream().anyMatch(d -> b.name().contains(d))).toList();
+        }
+        List<Boundary> districts = sido.stream().filter(b -> primary.contains(b.name())).toList();
+        return districts.isEmpty() ? sido : districts;
+    }
+
+    private List<Boundary> load(String path) {
+        Resource resource = resourceLoader.getResource(path);
+        if (!resource.exists()) {
+            log.warn("🗺️ 행정구역 경계 파일이 없습니다: {} (경계 기반 기능 비활성)", path);
+            return List.of();
+        }
+
+        try (InputStream in = resource.getInputStream()) {
+            List<Boundary> result = new ArrayList<>();
+            for (JsonNode feature : objectMapper.readTree(in).path("features")) {
+                GeoPolygon polygon = GeoPolygon.fromGeoJson(feature.get("geometry"));
+                if (polygon == null) continue;
+                JsonNode properties = feature.path("properties");
+                result.add(new Boundary(properties.path("code").asText(), properties.path("name").asText(), polygon));
+            }
+            log.info("🗺️ 행정구역 경계 적재 완료: {} ({}개)", path, result.size());
+            return List.copyOf(result);
+        } catch (Exception e) {
+            log.error("행정구역 경계 파일 적재 실패: {}", path, e);
+            return List.of();
+        }
+    }
+}
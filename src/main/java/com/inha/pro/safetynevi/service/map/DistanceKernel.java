@@ -0,0 +1,39 @@
+package com.inha.pro.safetynevi.service.map;
+
+/**
+ * 단위 벡터 좌표 배열(SoA)에 대한 거리 계산 커널
+ * - 위경도를 미리 3차원 단위 벡터로 변환해 두면 두 지점 간 현(chord) 길이의 제곱은 삼각함수 없이
+ *   곱셈/덧셈만으로 계산되며, 지표면 거리와 순서가 같음 (ShelterKdTree와 동일한 거리 척도)
+ * - 분기 없는 단순 루프이므로 JIT(C2)가 자동 벡터화할 수 있음 (별도 SIMD 모듈 불필요)
+ */
+final class DistanceKernel {
+
+    static final double EARTH_RADIUS_M = 6_371_000;
+
+    private DistanceKernel() {
+    }
+
+    /**
+     * 질의점 (qx, qy, qz)에서 [0, n) 구간 각 좌표까지의 현 길이 제곱을 out에 기록
+     */
+    static void chordSquared(double qx, double qy, double qz, double[] xs, double[] ys, double[] zs, int n, double[] out) {
+        for (int i = 0; i < n; i++) {
+            double dx = xs[i] - qx, dy = ys[i] - qy, dz = zs[i] - qz;
+            out[i] = dx * dx + dy * dy + dz * dz;
+        }
+    }
+
+    // 현 길이 제곱 -> 지표면 거리 (m)
+    static double toMeter(double chordSquared) {
+        return 2 * EARTH_RADIUS_M * Math.asin(Math.min(1, Math.sqrt(chordSquared) / 2));
+    }
+
+    // 위경도 -> 단위 벡터 (out[0..2])
+    static void toUnitVector(double lat, double lon, double[] out) {
+        double phi = Math.toRadians(lat), lambda = Math.toRadians(lon);
+        double cosPhi = Math.cos(phi);
+        out[0] = cosPhi * Math.cos(lambda);
+        out[1] = cosPhi * Math.sin(lambda);
+        out[2] = Math.sin(phi);
+    }
+}
@@ -0,0 +1,260 @@
+package com.inha.pro.safetynevi.service.map;
+
+import com.inha.pro.safetynevi.util.map.GeoDistance;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * 수용 인원 제약 대피소 배정기 (경매 알고리즘, Bertsekas Auction)
+ * - 사람 1명 = 입찰자, 대피소 = 수용 인원만큼의 동일한 자리를 가진 물건
+ * - 가치 = -(거리 + 가격), 각 사람은 최선/차선 가치 차이 + ε 만큼 가격을 올려 최선 대피소에 입찰
+ *   만석이면 가장 낮은 입찰자를 밀어내고, 대피소 가격 = 보유 입찰 중 최솟값
+ * - maxDistance보다 먼 대피소밖에 없거나 수용 인원이 부족하면 "미배정" (가치 -maxDistance, 정원 무제한)
+ * - 모든 가격이 0에서 시작하는 단일 단계 경매이므로 결과 총 거리는 최적해 대비 (인원 × ε) 이내
+ * - 후보 대피소는 가까운 순으로 일부만 보관하고, 후보 밖 대피소가 더 나을 수 있으면 그때 후보를 두 배로 확장
+ *   (후보 밖 대피소의 가치는 -(마지막 후보 거리) 이하이므로 이를 차선 가치의 하한으로 사용)
+ * - 입찰은 라운드 단위 병렬 (Jacobi): 대기 중인 사람 전원이 라운드 시작 가격으로 동시에 입찰액을 계산한 뒤,
+ *   대피소별로 묶어 반영 (정원 안에서 입찰액 상위만 남기므로 반영 순서와 무관, 대피소끼리는 병렬)
+ *   입찰액이 라운드 중 오른 가격보다 낮으면 거절되어 다음 라운드에 다시 입찰
+ */
+final class EvacuationAuction {
+
+    static final int UNASSIGNED = -1;
+
+    // 수용 가능한 대피소 k개 (가까운 순, 트리 위치, 남은 대피소가 k개 미만이면 있는 만큼)
+    @FunctionalInterface
+    interface CandidateSource {
+        int[] nearest(double lat, double lon, int k);
+    }
+
+    // 배정 결과 (사람별 대피소 트리 위치 또는 UNASSIGNED, 거리 m)
+    record Result(int[] shelterOf, double[] distanceMeter, long bids) {
+    }
+
+    private final ShelterKdTree tree;
+    private final int[] capacity;
+    private final CandidateSource source;
+    private final double maxDistance;
+    private final double epsilon;
+
+    private final double[] lats;
+    private final double[] lons;
+    private final int[][] candidates;
+    private final double[][] costs;
+    private final boolean[] exhaustive; // 후보에 수용 가능한 대피소가 모두 포함되었는지
+
+    // 대피소별 보유 입찰 (입찰액 최소 힙)
+    private final int[] held;
+    private final int[][] holders;
+    private final double[][] holderBids;
+
+    private final int[] shelterOf;
+    private final int[] choice; // 배정된 후보 인덱스
+
+    private EvacuationAuction(ShelterKdTree tree, int[] capacity, CandidateSource source,
+                              double maxDistance, double epsilon, double[] lats, double[] lons) {
+        this.tree = tree;
+        this.capacity = capacity;
+        this.source = source;
+        this.maxDistance = maxDistance;
+        this.epsilon = epsilon;
+        this.lats = lats;
+        this.lons = lons;
+        int n = lats.length;
+        this.candidates = new int[n][];
+        this.costs = new double[n][];
+        this.exhaustive = new boolean[n];
+        this.held = new int[tree.size()];
+        this.holders = new int[tree.size()][];
+        this.holderBids = new double[tree.size()][];
+        this.shelterOf = new int[n];
+        this.choice = new int[n];
+    }
+
+    /**
+     * @param capacity          트리 위치별 수용 인원 (0이면 배정 제외)
+     * @param maxDistance       이보다 멀면 배정하지 않음 (m)
+     * @param epsilon           최소 입찰 증가폭 (m, 작을수록 최적해에 가깝고 느려짐)
+     * @param initialCandidates 사람별 초기 후보 대피소 수
+     */
+    static Result solve(ShelterKdTree tree, int[] capacity, CandidateSource source, double maxDistance,
+                        double epsilon, int initialCandidates, double[] lats, double[] lons) {
+        EvacuationAuction auction = new EvacuationAuction(tree, capacity, source, maxDistance, epsilon, lats, lons);
+        IntStream.range(0, lats.length).parallel().forEach(i -> auction.loadCandidates(i, initialCandidates));
+        return auction.run();
+    }
+
+    private Result run() {
+        int n = lats.length;
+        // 입찰 대기 인원 (라운드마다 밀려나거나 거절된 사람으로 교체)
+        int[] queue = new int[n];
+        for (int i = 0; i < n; i++) queue[i] = i;
+        int size = n;
+
+        int[] bidShelter = new int[n];
+        int[] bidChoice = new int[n];
+        double[] bidAmount = new double[n];
+        int[] loser = new int[n];
+        long[] order = new long[n];
+        int[] groupStart = new int[n + 1];
+
+        long bids = 0;
+        while (size > 0) {
+            int m = size;
+            int[] bidders = queue;
+
+            // 1. 입찰액 계산 (라운드 시작 가격 기준, 사람별로 독립)
+            IntStream.range(0, m).parallel().forEach(k -> bid(bidders[k], k, bidShelter, bidChoice, bidAmount));
+
+            // 2. 대피소 순으로 정렬하여 묶음 구성 (상위 비트: 대피소 위치, 하위 비트: 입찰 번호)
+            int valid = 0;
+            for (int k = 0; k < m; k++) {
+                loser[k] = -1;
+                if (bidShelter[k] != UNASSIGNED) order[valid++] = ((long) bidShelter[k] << 32) | k;
+            }
+            bids += valid;
+            Arrays.sort(order, 0, valid);
+            int groups = 0;
+            for (int j = 0; j < valid; j++) {
+                if (j == 0 || (order[j] >>> 32) != (order[j - 1] >>> 32)) groupStart[groups++] = j;
+            }
+            groupStart[groups] = valid;
+
+            // 3. 대피소별 반영 (서로 다른 대피소의 보유 입찰만 수정하므로 병렬)
+            long[] sorted = order;
+            IntStream.range(0, groups).parallel().forEach(g -> {
+                for (int j = groupStart[g]; j < groupStart[g + 1]; j++) {
+                    int k = (int) sorted[j];
+                    loser[k] = accept(bidders[k], bidShelter[k], bidChoice[k], bidAmount[k]);
+                }
+            });
+
+            size = 0;
+            for (int k = 0; k < m; k++) {
+                if (loser[k] >= 0) queue[size++] = loser[k];
+            }
+        }
+
+        double[] distance = new double[n];
+        for (int i = 0; i < n; i++) {
+            distance[i] = (shelterOf[i] == UNASSIGNED) ? Double.NaN : costs[i][choice[i]];
+        }
+        return new Result(shelterOf, distance, bids);
+    }
+
+    // 사람 i의 입찰액 계산 (결과는 k번째 칸, 배정할 대피소가 없으면 미배정 처리 후 bidShelter[k] = UNASSIGNED)
+    private void bid(int i, int k, int[] bidShelter, int[] bidChoice, double[] bidAmount) {
+        while (true) {
+            int[] cand = candidates[i];
+            double[] cost = costs[i];
+            int best = -1;
+            double v1 = Double.NEGATIVE_INFINITY, v2 = Double.NEGATIVE_INFINITY;
+            for (int c = 0; c < cand.length; c++) {
+                if (-cost[c] <= v2) break; // 가까운 순이고 가격 >= 0이므로 이후 후보는 차선도 될 수 없음
+                double v = -cost[c] - price(cand[c]);
+                if (v > v1) {
+                    v2 = v1;
+                    v1 = v;
+                    best = c;
+                } else if (v > v2) {
+                    v2 = v;
+                }
+            }
+
+            double lastCost = (cand.length > 0) ? cost[cand.length - 1] : 0;
+            double outside = exhaustive[i] ? Double.NEGATIVE_INFINITY : -lastCost;
+            if (outside > v1 && lastCost < maxDistance) {
+                loadCandidates(i, Math.max(1, cand.length * 2));
+                continue;
+            }
+
+            if (best < 0 || v1 <= -maxDistance) {
+                shelterOf[i] = UNASSIGNED;
+                bidShelter[k] = UNASSIGNED;
+                return;
+            }
+
+            v2 = Math.max(v2, Math.max(outside, -maxDistance));
+            int pos = cand[best];
+            bidShelter[k] = pos;
+            bidChoice[k] = best;
+            bidAmount[k] = price(pos) + (v1 - v2) + epsilon;
+            return;
+        }
+    }
+
+    // 입찰 반영 (밀려나거나 거절된 사람 반환, 없으면 -1)
+    private int accept(int person, int pos, int candidate, double bid) {
+        if (held[pos] == capacity[pos] && bid <= holderBids[pos][0]) {
+            return person; // 같은 라운드의 더 높은 입찰로 가격이 올라 거절
+        }
+        shelterOf[person] = pos;
+        choice[person] = candidate;
+        return push(pos, person, bid);
+    }
+
+    // 후보 대피소 k개 조회 및 거리 계산
+    private void loadCandidates(int i, int k) {
+        int[] cand = source.nearest(lats[i], lons[i], k);
+        double[] cost = new double[cand.length];
+        for (int c = 0; c < cand.length; c++) {
+            cost[c] = GeoDistance.meter(lats[i], lons[i], tree.latitudeAt(cand[c]), tree.longitudeAt(cand[c]));
+        }
+        candidates[i] = cand;
+        costs[i] = cost;
+        exhaustive[i] = cand.length < k;
+    }
+
+    // 대피소 가격 (자리가 남아 있으면 0, 만석이면 최저 보유 입찰액)
+    private double price(int pos) {
+        return (held[pos] < capacity[pos]) ? 0 : holderBids[pos][0];
+    }
+
+    // 입찰 반영 (만석이면 최저 입찰자를 밀어내고 반환)
+    private int push(int pos, int person, double bid) {
+        int count = held[pos];
+        if (count < capacity[pos]) {
+            if (holders[pos] == null || holders[pos].length == count) {
+                int grown = Math.min(capacity[pos], Math.max(8, count * 2));
+                holders[pos] = (holders[pos] == null) ? new int[grown] : Arrays.copyOf(holders[pos], grown);
+                holderBids[pos] = (holderBids[pos] == null) ? new double[grown] : Arrays.copyOf(holderBids[pos], grown);
+            }
+            siftUp(holders[pos], holderBids[pos], count, person, bid);
+            held[pos] = count + 1;
+            return -1;
+        }
+
+        int evicted = holders[pos][0];
+        siftDown(holders[pos], holderBids[pos], count, person, bid);
+        return evicted;
+    }
+
+    private static void siftUp(int[] people, double[] bids, int i, int person, double bid) {
+        while (i > 0) {
+            int p = (i - 1) >>> 1;
+            if (bids[p] <= bid) break;
+            people[i] = people[p];
+            bids[i] = bids[p];
+            i = p;
+        }
+        people[i] = person;
+        bids[i] = bid;
+    }
+
+    // 루트를 (person, bid)로 교체 후 정렬
+    private static void siftDown(int[] people, double[] bids, int size, int person, double bid) {
+        int i = 0;
+        while (true) {
+            int c = 2 * i + 1;
+            if (c >= size) break;
+            if (c + 1 < size && bids[c + 1] < bids[c]) c++;
+            if (bids[c] >= bid) break;
+            people[i] = people[c];
+            bids[i] = bids[c];
+            i = c;
+        }
+        people[i] = person;
+        bids[i] = bid;
+    }
+}
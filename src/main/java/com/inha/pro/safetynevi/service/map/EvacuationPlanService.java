@@ -0,0 +1,140 @@
+package com.inha.pro.safetynevi.service.map;
+
+import com.inha.pro.safetynevi.dto.map.EvacuationPlanDto;
+import com.inha.pro.safetynevi.dto.map.RouteOriginDto;
+import com.inha.pro.safetynevi.service.calamity.HazardZoneIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 대량 대피 배정 서비스 (관리자 재난 시뮬레이션용)
+ * - 인구 분포(회원 거주지 또는 가상 격자)를 운영중 대피소에 수용 인원 제약을 지키며 배정
+ * - 총 이동 거리(직선) 최소화, 재난 구역 안의 대피소와 수용 인원 정보가 없는 대피소는 제외
+ */
+@Slf4j
+@Service
+public class EvacuationPlanService {
+
+    public static final int MAX_POPULATION = 100_000;
+
+    private final ShelterIndexService shelterIndexService;
+    private final HazardZoneIndex hazardZoneIndex;
+    private final double maxDistanceMeter;
+    private final double epsilonMeter;
+    private final int initialCandidates;
+
+    public EvacuationPlanService(ShelterIndexService shelterIndexService,
+                                 HazardZoneIndex hazardZoneIndex,
+                                 @Value("${evacuation.max-distance-meter:5000}") double maxDistanceMeter,
+                                 @Value("${evacuation.auction-epsilon-meter:10}") double epsilonMeter,
+                                 @Value("${evacuation.initial-candidates:16}") int initialCandidates) {
+        this.shelterIndexService = shelterIndexService;
+        this.hazardZoneIndex = hazardZoneIndex;
+        this.maxDistanceMeter = maxDistanceMeter;
+        this.epsilonMeter = epsilonMeter;
+        this.initialCandidates = initialCandidates;
+    }
+
+    public EvacuationPlanDto plan(List<RouteOriginDto> population) {
+        if (population.size() > MAX_POPULATION) {
+            throw new IllegalArgumentException("한 번에 배정할 수 있는 인원은 최대 " + MAX_POPULATION + "명입니다.");
+        }
+        long started = System.currentTimeMillis();
+
+        ShelterKdTree tree = shelterIndexService.getTree();
+        BitSet blocked = hazardZoneIndex.blockedShelters(tree);
+        int[] capacity = new int[tree.size()];
+        for (int pos = 0; pos < tree.size(); pos++) {
+            capacity[pos] = (blocked.get(pos) || !tree.isOperatingAt(pos)) ? 0 : tree.capacityAt(pos);
+        }
+
+        int n = population.size();
+        double[] lats = new double[n], lons = new double[n];
+        for (int i = 0; i < n; i++) {
+            lats[i] = population.get(i).getLatitude();
+            lons[i] = population.get(i).getLongitude();
+        }
+
+        EvacuationAuction.Result result = EvacuationAuction.solve(tree, capacity,
+                (lat, lon, k) -> usableShelters(tree, blocked, lat, lon, k),
+                maxDistanceMeter, epsilonMeter, initialCandidates, lats, lons);
+
+        EvacuationPlanDto plan = toDto(tree, capacity, population, result, System.currentTimeMillis() - started);
+        log.info("🚶 대피 배정 완료: 인원={}, 배정={}, 미배정={}, 평균 {}m, 입찰 {}회, {}ms",
+                n, plan.getAssignedPeople(), plan.getUnassignedPeople(),
+                Math.round(plan.getAverageDistanceMeter()), result.bids(), plan.getElapsedMillis());
+        return plan;
+    }
+
+    // 배정 가능한(운영중, 수용 인원 있음, 재난 구역 밖) 대피소 k개 (제외 대상이 섞이면 두 배씩 늘려 조회)
+    private static int[] usableShelters(ShelterKdTree tree, BitSet blocked, double lat, double lon, int k) {
+        for (int want = k; ; want *= 2) {
+            int[] candidates = tree.nearest(lat, lon, want, true, 1);
+            if (blocked.isEmpty()) return candidates;
+
+            int[] result = new int[k];
+            int size = 0;
+            for (int pos : candidates) {
+                if (blocked.get(pos)) continue;
+                result[size++] = pos;
+                if (size == k) return result;
+            }
+            if (candidates.length < want) return Arrays.copyOf(result, size);
+        }
+    }
+
+    private static EvacuationPlanDto toDto(ShelterKdTree tree, int[] capacity, List<RouteOriginDto> population,
+                                           EvacuationAuction.Result result, long elapsedMillis) {
+        int n = population.size();
+        int[] load = new int[tree.size()];
+        List<EvacuationPlanDto.AssignmentDto> assignments = new ArrayList<>(n);
+        int assigned = 0;
+        double totalDistance = 0, maxDistance = 0;
+
+        for (int i = 0; i < n; i++) {
+            RouteOriginDto origin = population.get(i);
+            int pos = result.shelterOf()[i];
+            EvacuationPlanDto.AssignmentDto.AssignmentDtoBuilder builder = EvacuationPlanDto.AssignmentDto.builder()
+                    .key(origin.getKey()).source(origin.getSource())
+                    .latitude(origin.getLatitude()).longitude(origin.getLongitude());
+            if (pos != EvacuationAuction.UNASSIGNED) {
+                double distance = result.distanceMeter()[i];
+                builder.shelterId(tree.idAt(pos)).distanceMeter((int) Math.round(distance));
+                load[pos]++;
+                assigned++;
+                totalDistance += distance;
+                maxDistance = Math.max(maxDistance, distance);
+            }
+            assignments.add(builder.build());
+        }
+
+        List<EvacuationPlanDto.ShelterLoadDto> shelters = new ArrayList<>();
+        for (int pos = 0; pos < tree.size(); pos++) {
+            if (load[pos] == 0) continue;
+            shelters.add(EvacuationPlanDto.ShelterLoadDto.builder()
+                    .shelterId(tree.idAt(pos)).name(tree.nameAt(pos))
+                    .latitude(tree.latitudeAt(pos)).longitude(tree.longitudeAt(pos))
+                    .capacity(capacity[pos]).assigned(load[pos])
+                    .build());
+        }
+        shelters.sort(Comparator.comparingInt(EvacuationPlanDto.ShelterLoadDto::getAssigned).reversed());
+
+        return EvacuationPlanDto.builder()
+                .totalPeople(n)
+                .assignedPeople(assigned)
+                .unassignedPeople(n - assigned)
+                .averageDistanceMeter(assigned > 0 ? totalDistance / assigned : 0)
+                .maxDistanceMeter((int) Math.round(maxDistance))
+                .elapsedMillis(elapsedMillis)
+                .shelters(shelters)
+                .assignments(assignments)
+                .build();
+    }
+}
@@ -0,0 +1,256 @@
+package com.inha.pro.safetynevi.service.map;
+
+import com.inha.pro.safetynevi.dto.map.FacilityClusterDto;
+import com.inha.pro.safetynevi.dto.map.FacilityDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 지도 레벨별 시설물 클러스터 계층 (사전 계산)
+ * - 카카오맵 레벨마다 화면상 약 80px 크기의 격자로 시설을 집계
+ * - 가장 세밀한 레벨은 시설 좌표로부터, 상위 레벨은 하위 격자 2x2를 병합하여 생성
+ * - 레이어별 개수/좌표 합을 격자마다 보관하므로 요청 레이어 조합에 맞춰 즉시 합산 가능
+ * - 화면 하나에 포함되는 격자 수는 레벨과 무관하게 일정하므로 응답 크기도 일정함
+ */
+public final class FacilityClusterIndex {
+
+    public static final int MIN_CLUSTER_LEVEL = 5; // 이 레벨 미만은 개별 마커로 응답
+    public static final int MAX_LEVEL = 14;
+
+    private static final double MIN_LAT = 32.0;
+    private static final double MIN_LON = 124.0;
+    private static final double LAT_SPAN = 7.5;
+    private static final double LON_SPAN = 8.0;
+    private static final double LEVEL_7_CELL_DEG = 0.008; // 7레벨(약 10m/px) 기준 80px
+
+    private static final int LAYERS = FacilityLayer.values().length;
+
+    private final FacilitySnapshot snapshot;
+    private final Level[] levels; // index = level - MIN_CLUSTER_LEVEL
+
+    private FacilityClusterIndex(FacilitySnapshot snapshot, Level[] levels) {
+        this.snapshot = snapshot;
+        this.levels = levels;
+    }
+
+    public static FacilityClusterIndex build(FacilitySnapshot snapshot) {
+        Level[] levels = new Level[MAX_LEVEL - MIN_CLUSTER_LEVEL + 1];
+
+        // 1. 가장 세밀한 레벨: 시설 하나를 항목 하나로 집계
+        double cellDeg = cellDegOf(MIN_CLUSTER_LEVEL);
+        int rows = (int) Math.ceil(LAT_SPAN / cellDeg);
+        int cols = (int) Math.ceil(LON_SPAN / cellDeg);
+        int n = snapshot.size();
+
+        long[] packed = new long[n];
+        int m = 0;
+        for (int pos = 0; pos < n; pos++) {
+            if (snapshot.layerAt(pos) == null) continue;
+            long key = keyOf(snapshot.latitudeAt(pos), snapshot.longitudeAt(pos), cellDeg, rows, cols);
+            packed[m++] = key * n + pos;
+        }
+        Arrays.sort(packed, 0, m);
+
+        LevelBuilder builder = new LevelBuilder(m);
+        for (int i = 0; i < m; i++) {
+            int pos = (int) (packed[i] % n);
+            builder.add(packed[i] / n, snapshot.layerAt(pos).ordinal(), 1,
+                    snapshot.latitudeAt(pos), snapshot.longitudeAt(pos), pos);
+        }
+        levels[0] = builder.toLevel(cellDeg, rows, cols);
+
+        // 2. 상위 레벨: 하위 격자 2x2 병합
+        for (int i = 1; i < levels.length; i++) {
+            Level child = levels[i - 1];
+            int parentRows = (child.rows + 1) >> 1;
+            int parentCols = (child.cols + 1) >> 1;
+            int cells = child.keys.length;
+
+            long[] parentPacked = new long[cells];
+            for (int c = 0; c < cells; c++) {
+                long row = child.keys[c] / child.cols;
+                long col = child.keys[c] % child.cols;
+                long parentKey = (row >> 1) * parentCols + (col >> 1);
+                parentPacked[c] = parentKey * cells + c;
+            }
+            Arrays.sort(parentPacked);
+
+            LevelBuilder parent = new LevelBuilder(cells);
+            for (long p : parentPacked) {
+                int c = (int) (p % cells);
+                for (int layer = 0; layer < LAYERS; layer++) {
+                    int slot = c * LAYERS + layer;
+                    if (child.counts[slot] == 0) continue;
+                    parent.add(p / cells, layer, child.counts[slot],
+                            child.sumLat[slot], child.sumLon[slot], child.sole[slot]);
+                }
+            }
+            levels[i] = parent.toLevel(child.cellDeg * 2, parentRows, parentCols);
+        }
+        return new FacilityClusterIndex(snapshot, levels);
+    }
+
+    /**
+     * 화면 범위의 클러스터/마커 조회
+     * - MIN_CLUSTER_LEVEL 미만: 범위 내 시설을 개별 마커로 반환
+     * - 그 이상: 해당 레벨의 격자 집계를 합산하여 반환 (1개뿐인 격자는 개별 마커)
+     */
+    public FacilityClusterDto query(int level, int layerMask, double swLat, double swLng, double neLat, double neLng) {
+        List<FacilityClusterDto.ClusterDto> clusters = new ArrayList<>();
+        List<FacilityDto> markers = new ArrayList<>();
+
+        if (level < MIN_CLUSTER_LEVEL) {
+            snapshot.forEachInBounds(layerMask, swLat, swLng, neLat, neLng, pos -> markers.add(snapshot.get(pos)));
+        } else if (layerMask != 0 && swLat <= neLat && swLng <= neLng) {
+            Level lv = levels[Math.min(level, MAX_LEVEL) - MIN_CLUSTER_LEVEL];
+            int rowFrom = lv.rowOf(swLat), rowTo = lv.rowOf(neLat);
+            int colFrom = lv.colOf(swLng), colTo = lv.colOf(neLng);
+
+            for (int row = rowFrom; row <= rowTo; row++) {
+                long rowBase = (long) row * lv.cols;
+                int c = lowerBound(lv.keys, rowBase + colFrom);
+                for (; c < lv.keys.length && lv.keys[c] <= rowBase + colTo; c++) {
+                    collectCell(lv, c, layerMask, clusters, markers);
+                }
+            }
+        }
+
+        return FacilityClusterDto.builder()
+                .level(level)
+                .clusters(clusters)
+                .markers(markers)
+                .build();
+    }
+
+    // 격자 하나를 요청 레이어 기준으로 합산
+    private void collectCell(Level lv, int c, int layerMask,
+                             List<FacilityClusterDto.ClusterDto> clusters, List<FacilityDto> markers) {
+        int total = 0;
+        double sumLat = 0, sumLon = 0;
+        int lastSole = -1;
+        Map<String, Integer> typeCounts = new LinkedHashMap<>();
+
+        for (FacilityLayer layer : FacilityLayer.values()) {
+            int slot = c * LAYERS + layer.ordinal();
+            if ((layerMask & layer.bit()) == 0 || lv.counts[slot] == 0) continue;
+            total += lv.counts[slot];
+            sumLat += lv.sumLat[slot];
+            sumLon += lv.sumLon[slot];
+            lastSole = lv.sole[slot];
+            typeCounts.put(layer.getCode(), lv.counts[slot]);
+        }
+
+        if (total == 1) {
+            markers.add(snapshot.get(lastSole));
+        } else if (total > 1) {
+            clusters.add(FacilityClusterDto.ClusterDto.builder()
+                    .latitude(sumLat / total)
+                    .longitude(sumLon / total)
+                    .count(total)
+                    .typeCounts(typeCounts)
+                    .build());
+        }
+    }
+
+    public long getVersion() {
+        return snapshot.getVersion();
+    }
+
+    // --- Helper Methods ---
+
+    private static double cellDegOf(int level) {
+        return LEVEL_7_CELL_DEG * Math.pow(2, level - 7);
+    }
+
+    private static long keyOf(double lat, double lon, double cellDeg, int rows, int cols) {
+        return (long) rowOf(lat, cellDeg, rows) * cols + colOf(lon, cellDeg, cols);
+    }
+
+    private static int rowOf(double lat, double cellDeg, int rows) {
+        return Math.max(0, Math.min(rows - 1, (int) Math.floor((lat - MIN_LAT) / cellDeg)));
+    }
+
+    private static int colOf(double lon, double cellDeg, int cols) {
+        return Math.max(0, Math.min(cols - 1, (int) Math.floor((lon - MIN_LON) / cellDeg)));
+    }
+
+    private static int lowerBound(long[] keys, long target) {
+        int lo = 0, hi = keys.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keys[mid] < target) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    // 레벨 하나의 격자 집계 (비어있지 않은 격자만, key 오름차순)
+    private static final class Level {
+        final double cellDeg;
+        final int rows;
+        final int cols;
+        final long[] keys;      // row * cols + col
+        final int[] counts;     // [격자 * LAYERS + 레이어]
+        final double[] sumLat;
+        final double[] sumLon;
+        final int[] sole;       // 개수가 1일 때 해당 시설의 스냅샷 위치
+
+        Level(double cellDeg, int rows, int cols, long[] keys, int[] counts, double[] sumLat, double[] sumLon, int[] sole) {
+            this.cellDeg = cellDeg;
+            this.rows = rows;
+            this.cols = cols;
+            this.keys = keys;
+            this.counts = counts;
+            this.sumLat = sumLat;
+            this.sumLon = sumLon;
+            this.sole = sole;
+        }
+
+        int rowOf(double lat) {
+            return FacilityClusterIndex.rowOf(lat, cellDeg, rows);
+        }
+
+        int colOf(double lon) {
+            return FacilityClusterIndex.colOf(lon, cellDeg, cols);
+        }
+    }
+
+    // key 오름차순으로 들어오는 항목을 격자 단위로 누적
+    private static final class LevelBuilder {
+        private final long[] keys;
+        private final int[] counts;
+        private final double[] sumLat;
+        private final double[] sumLon;
+        private final int[] sole;
+        private int cells = 0;
+
+        LevelBuilder(int capacity) {
+            keys = new long[capacity];
+            counts = new int[capacity * LAYERS];
+            sumLat = new double[capacity * LAYERS];
+            sumLon = new double[capacity * LAYERS];
+            sole = new int[capacity * LAYERS];
+        }
+
+        void add(long key, int layer, int count, double lat, double lon, int solePos) {
+            if (cells == 0 || keys[cells - 1] != key) {
+                keys[cells++] = key;
+            }
+            int slot = (cells - 1) * LAYERS + layer;
+            counts[slot] += count;
+            sumLat[slot] += lat;
+            sumLon[slot] += lon;
+            sole[slot] = solePos;
+        }
+
+        Level toLevel(double cellDeg, int rows, int cols) {
+            int len = cells * LAYERS;
+            return new Level(cellDeg, rows, cols, Arrays.copyOf(keys, cells), Arrays.copyOf(counts, len),
+                    Arrays.copyOf(sumLat, len), Arrays.copyOf(sumLon, len), Arrays.copyOf(sole, len));
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.inha.pro.safetynevi.service.map;
+
+import com.inha.pro.safetynevi.dto.map.FacilityClusterDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 시설물 클러스터 조회 서비스
+ * - 시설 인덱스가 재구축될 때마다 레벨별 클러스터 계층을 미리 계산해 둠
+ */
+@Slf4j
+@Service
+public class FacilityClusterService {
+
+    private volatile FacilityClusterIndex clusterIndex;
+
+    @EventListener
+    public void onFacilityIndexRebuilt(FacilityIndexRebuiltEvent event) {
+        long start = System.currentTimeMillis();
+        this.clusterIndex = FacilityClusterIndex.build(event.snapshot());
+        log.info("Facility clusters rebuilt ({} ms)", System.currentTimeMillis() - start);
+    }
+
+    // 지도 레벨 및 화면 범위 기준 클러스터/마커 조회
+    public FacilityClusterDto findClusters(List<String> types, int level,
+                                           double swLat, double swLng, double neLat, double neLng) {
+        FacilityClusterIndex index = this.clusterIndex;
+        if (index == null) {
+            // 인덱스 구축 전: 빈 결과 반환
+            return FacilityClusterDto.builder().level(level).clusters(List.of()).markers(List.of()).build();
+        }
+        return index.query(level, FacilityLayer.maskOf(types), swLat, swLng, neLat, neLng);
+    }
+}
@@ -0,0 +1,9 @@
+package com.inha.pro.safetynevi.service.map;
+
+/**
+ * 시설물 데이터 적재 완료 이벤트
+ * - DataImporter가 기동 시(적재 생략 포함) 또는 재적재 후 발행
+ * - 메모리 인덱스 등 시설 데이터 파생 구조의 재구축 신호로 사용
+ */
+public record FacilityDataLoadedEvent(boolean imported) {
+}
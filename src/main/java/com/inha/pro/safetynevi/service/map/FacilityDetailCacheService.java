@@ -0,0 +1,64 @@
+package com.inha.pro.safetynevi.service.map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.UncheckedIOException;
+import java.util.zip.CRC32;
+
+/**
+ * 시설 상세 정보 캐시 서비스
+ * - 상세 DTO는 데이터 재적재 전까지 불변이므로 최초 조회 시 JSON 직렬화 결과(byte[])를 캐싱 (Lazy 적재)
+ * - 이후 조회는 상속 테이블 조인/DTO 변환/직렬화 없이 캐시된 바이트를 그대로 응답
+ * - ETag는 직렬화 결과의 CRC32이므로 서버 재시작 후에도 내용이 같으면 동일
+ * - DataImporter 재적재로 시설 인덱스가 재구축되면 전체 무효화
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FacilityDetailCacheService {
+
+    private static final long MAX_CACHED_BYTES = 64L * 1024 * 1024;
+
+    private final FacilityService facilityService;
+    private final ObjectMapper objectMapper;
+
+    private final Cache<Long, FacilityDetail> detailCache = Caffeine.newBuilder()
+            .maximumWeight(MAX_CACHED_BYTES)
+            .weigher((Long id, FacilityDetail detail) -> detail.json().length)
+            .build();
+
+    @EventListener
+    public void onFacilityIndexRebuilt(FacilityIndexRebuiltEvent event) {
+        detailCache.invalidateAll();
+    }
+
+    // 상세 정보 조회 (없는 시설이면 null, 캐시하지 않음)
+    public FacilityDetail getDetail(Long id) {
+        return detailCache.get(id, this::load);
+    }
+
+    private FacilityDetail load(Long id) {
+        Object detailDto = facilityService.findDetailById(id);
+        if (detailDto == null) return null;
+
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(detailDto);
+            CRC32 crc = new CRC32();
+            crc.update(json);
+            return new FacilityDetail(Long.toHexString(crc.getValue()) + "-" + Integer.toHexString(json.length), json);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 직렬화된 상세 JSON과 캐시 검증용 ETag
+    public record FacilityDetail(String etag, byte[] json) {
+    }
+}
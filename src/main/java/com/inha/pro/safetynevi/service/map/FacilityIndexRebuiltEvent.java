@@ -0,0 +1,8 @@
+package com.inha.pro.safetynevi.service.map;
+
+/**
+ * 시설물 메모리 인덱스 재구축 완료 이벤트
+ * - 새 스냅샷을 기반으로 하는 파생 구조(클러스터 등)의 재계산 신호
+ */
+public record FacilityIndexRebuiltEvent(FacilitySnapshot snapshot) {
+}
@@ -0,0 +1,53 @@
+package com.inha.pro.safetynevi.service.map;
+
+import com.inha.pro.safetynevi.dao.map.FacilityMarkerRepository;
+import com.inha.pro.safetynevi.entity.FacilityMarker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 시설물 메모리 인덱스 관리 서비스
+ * - 기동 시 FACILITY_MARKER 읽기 모델을 동기화한 뒤 전체 마커를 한 번 읽어 FacilitySnapshot 구축 (상속 테이블 조인 없음)
+ * - 지도 범위 검색은 DB 대신 스냅샷에서 처리
+ * - 데이터 재적재 시 FacilityDataLoadedEvent를 받아 새 스냅샷으로 교체
+ * - 교체 후 FacilityIndexRebuiltEvent를 발행하여 파생 구조 재계산
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FacilityIndexService {
+
+    private final FacilityMarkerRepository facilityMarkerRepository;
+    private final FacilityMarkerService facilityMarkerService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile FacilitySnapshot snapshot;
+
+    @EventListener
+    public void onFacilityDataLoaded(FacilityDataLoadedEvent event) {
+        facilityMarkerService.synchronize(event.imported());
+        rebuild();
+    }
+
+    // 전체 시설을 다시 읽어 인덱스 재구축 (조회 중인 요청은 기존 스냅샷을 계속 사용)
+    public synchronized FacilitySnapshot rebuild() {
+        long start = System.currentTimeMillis();
+        List<FacilityMarker> markers = facilityMarkerRepository.findAll();
+        FacilitySnapshot rebuilt = FacilitySnapshot.build(markers, start);
+        this.snapshot = rebuilt;
+
+        log.info("Facility index rebuilt: {} facilities ({} ms)", rebuilt.size(), System.currentTimeMillis() - start);
+        eventPublisher.publishEvent(new FacilityIndexRebuiltEvent(rebuilt));
+        return rebuilt;
+    }
+
+    // 인덱스 구축 전이면 null
+    public FacilitySnapshot getSnapshot() {
+        return snapshot;
+    }
+}
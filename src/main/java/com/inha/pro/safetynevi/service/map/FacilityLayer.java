@@ -0,0 +1,84 @@
+package com.inha.pro.safetynevi.service.map;
+
+import com.inha.pro.safetynevi.entity.Facility;
+import com.inha.pro.safetynevi.entity.Hospital;
+import com.inha.pro.safetynevi.entity.Shelter;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 지도 시설물 레이어 구분
+ * - 프론트엔드 체크박스(type 파라미터)와 1:1 대응
+ * - 레이어 분류 규칙 (classify, FACILITY_MARKER.LAYER 값의 유일한 기준)
+ *   police/fire : 시설 유형(TYPE)으로 구분
+ *   hospital    : 운영 상태 "영업/정상"인 병원
+ *   shelter     : 운영 상태 "사용중"인 대피소
+ *   etc         : 폐업/휴업/취소·말소·만료·정지·중지 병원, 사용중지/일시중지 대피소
+ *   (그 외 상태나 상태가 없는 병원/대피소는 어느 레이어에도 표시하지 않음)
+ */
+public enum FacilityLayer {
+
+    POLICE("police"),
+    FIRE("fire"),
+    HOSPITAL("hospital"),
+    SHELTER("shelter"),
+    ETC("etc"); // 운영 중단된 병원 및 대피소
+
+    private static final String HOSPITAL_OPERATIONAL = "영업/정상";
+    private static final Set<String> HOSPITAL_NON_OPERATIONAL = Set.of("폐업", "휴업", "취소/말소/만료/정지/중지");
+    private static final String SHELTER_OPERATIONAL = "사용중";
+    private static final Set<String> SHELTER_NON_OPERATIONAL = Set.of("사용중지", "일시중지");
+
+    private final String code;
+
+    FacilityLayer(String code) {
+        this.code = code;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    // 레이어 집합 비트마스크용 비트
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    // type 파라미터 목록 -> 비트마스크 (알 수 없는 값은 무시)
+    public static int maskOf(Collection<String> codes) {
+        int mask = 0;
+        for (String code : codes) {
+            mask |= fromCode(code).map(FacilityLayer::bit).orElse(0);
+        }
+        return mask;
+    }
+
+    // type 파라미터 문자열 -> 레이어 (알 수 없는 값은 빈 값)
+    public static Optional<FacilityLayer> fromCode(String code) {
+        for (FacilityLayer layer : values()) {
+            if (layer.code.equals(code)) return Optional.of(layer);
+        }
+        return Optional.empty();
+    }
+
+    // 시설이 표시될 레이어 판별 (어느 레이어에도 속하지 않으면 null)
+    public static FacilityLayer classify(Facility facility) {
+        if (facility instanceof Hospital hospital) {
+            String status = hospital.getOperatingStatus();
+            if (status == null) return null;
+            if (HOSPITAL_OPERATIONAL.equals(status)) return HOSPITAL;
+            return HOSPITAL_NON_OPERATIONAL.contains(status) ? ETC : null;
+        }
+        if (facility instanceof Shelter shelter) {
+            String status = shelter.getOperatingStatus();
+            if (status == null) return null;
+            if (SHELTER_OPERATIONAL.equals(status)) return SHELTER;
+            return SHELTER_NON_OPERATIONAL.contains(status) ? ETC : null;
+        }
+        if (POLICE.code.equals(facility.getType())) return POLICE;
+        if (FIRE.code.equals(facility.getType())) return FIRE;
+        return null;
+    }
+}
@@ -0,0 +1,55 @@
+package com.inha.pro.safetynevi.service.map;
+
+import com.inha.pro.safetynevi.dao.map.FacilityMarkerRepository;
+import com.inha.pro.safetynevi.dao.map.FacilityRepository;
+import com.inha.pro.safetynevi.entity.Facility;
+import com.inha.pro.safetynevi.entity.FacilityMarker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * FACILITY_MARKER 읽기 모델 동기화 서비스
+ * - 데이터 적재(DataImporter) 직후 전체 재생성, 기동 시에는 건수 불일치(최초 배포 등)일 때만 재생성
+ * - 시설은 DataImporter의 일괄 적재로만 변경되므로 개별 반영 경로는 두지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FacilityMarkerService {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final FacilityRepository facilityRepository;
+    private final FacilityMarkerRepository facilityMarkerRepository;
+
+    // 원본 시설 기준으로 마커 테이블 동기화 (force=false면 건수가 다를 때만 재생성)
+    @Transactional
+    public void synchronize(boolean force) {
+        long facilityCount = facilityRepository.count();
+        if (!force && facilityMarkerRepository.count() == facilityCount) return;
+
+        long start = System.currentTimeMillis();
+        facilityMarkerRepository.deleteAllInBatch();
+
+        List<FacilityMarker> batch = new ArrayList<>(BATCH_SIZE);
+        for (Facility facility : facilityRepository.findAll()) {
+            batch.add(toMarker(facility));
+            if (batch.size() == BATCH_SIZE) {
+                facilityMarkerRepository.saveAllAndFlush(batch);
+                batch.clear();
+            }
+        }
+        facilityMarkerRepository.saveAllAndFlush(batch);
+        log.info("Facility markers rebuilt: {} rows ({} ms)", facilityCount, System.currentTimeMillis() - start);
+    }
+
+    private FacilityMarker toMarker(Facility facility) {
+        FacilityLayer layer = FacilityLayer.classify(facility);
+        return FacilityMarker.of(facility, layer != null ? layer.getCode() : null);
+    }
+}
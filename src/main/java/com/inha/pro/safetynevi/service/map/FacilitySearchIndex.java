@@ -0,0 +1,286 @@
+package com.inha.pro.safetynevi.service.map;
+
+import com.inha.pro.safetynevi.dto.map.FacilityDto;
+import com.inha.pro.safetynevi.dto.map.FacilitySearchDto;
+import com.inha.pro.safetynevi.util.map.GeoDistance;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 시설명/주소 검색용 메모리 역색인 (N-gram)
+ * - 공백 제거/소문자화한 이름·주소를 2글자(bigram) 단위로 색인, 이름은 1글자(unigram)도 색인
+ * - 이름의 초성 문자열(예: "서울대병원" -> "ㅅㅇㄷㅂㅇ")도 같은 방식으로 색인하여 초성 검색 지원
+ * - 질의의 n-gram 포스팅 목록을 짧은 것부터 교집합한 뒤 실제 포함 여부를 재확인
+ *   (정규화한 이름/주소/초성에 질의가 포함된 시설은 누락 없이 후보가 됨)
+ * - 기존 LIKE '%keyword%' 검색과 결과가 같지는 않음: 공백/대소문자를 무시하고, 주소·초성 일치도 포함하며,
+ *   점수 순 상위 K개만 반환
+ * - 점수 = 텍스트 일치도(완전/접두/부분, 이름 > 초성 > 주소) + 사용자 좌표와의 근접도, 상위 K개만 반환
+ * - 스냅샷 위치(pos) 기준으로 색인하며 스냅샷과 함께 교체되는 불변 객체
+ */
+public final class FacilitySearchIndex {
+
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final char HANGUL_BEGIN = '가';
+    private static final char HANGUL_END = '힣';
+    private static final int JUNG_JONG_COUNT = 21 * 28;
+
+    // 텍스트 점수
+    private static final double NAME_EXACT = 100;
+    private static final double NAME_PREFIX = 80;
+    private static final double NAME_CONTAINS = 60;
+    private static final double CHOSUNG_PREFIX = 70;
+    private static final double CHOSUNG_CONTAINS = 50;
+    private static final double ADDRESS_CONTAINS = 30;
+
+    // 근접도 점수: PROXIMITY_WEIGHT * exp(-거리km / PROXIMITY_SCALE_KM)
+    private static final double PROXIMITY_WEIGHT = 40;
+    private static final double PROXIMITY_SCALE_KM = 5;
+
+    private static final int[] EMPTY = new int[0];
+
+    private final FacilitySnapshot snapshot;
+    private final String[] names;
+    private final String[] addresses;
+    private final String[] chosungs;
+    private final Map<Integer, int[]> nameGrams;
+    private final Map<Integer, int[]> addressGrams;
+    private final Map<Integer, int[]> chosungGrams;
+
+    private FacilitySearchIndex(FacilitySnapshot snapshot, String[] names, String[] addresses, String[] chosungs) {
+        this.snapshot = snapshot;
+        this.names = names;
+        this.addresses = addresses;
+        this.chosungs = chosungs;
+        this.nameGrams = buildPostings(names, true);
+        this.addressGrams = buildPostings(addresses, false);
+        this.chosungGrams = buildPostings(chosungs, true);
+    }
+
+    public static FacilitySearchIndex build(FacilitySnapshot snapshot) {
+        int n = snapshot.size();
+        String[] names = new String[n];
+        String[] addresses = new String[n];
+        String[] chosungs = new String[n];
+        for (int pos = 0; pos < n; pos++) {
+            names[pos] = normalize(snapshot.get(pos).getName());
+            addresses[pos] = normalize(snapshot.addressAt(pos));
+            chosungs[pos] = toChosung(names[pos]);
+        }
+        return new FacilitySearchIndex(snapshot, names, addresses, chosungs);
+    }
+
+    /**
+     * 키워드 검색
+     * @param lat, lon 사용자(지도 중심) 좌표, null이면 근접도 미반영
+     * @param limit    반환할 최대 개수
+     */
+    public List<FacilitySearchDto> search(String keyword, Double lat, Double lon, int limit) {
+        String query = normalize(keyword);
+        if (query.isEmpty() || limit <= 0) return List.of();
+
+        boolean geo = lat != null && lon != null;
+        int[] chosungHits = isChosungQuery(query) ? candidates(chosungGrams, query) : EMPTY;
+        int[] nameHits = candidates(nameGrams, query);
+        int[] addressHits = (query.length() >= 2) ? candidates(addressGrams, query) : EMPTY;
+
+        // 세 후보 목록(pos 오름차순)을 병합하며 시설별 최고 텍스트 점수 계산
+        PriorityQueue<double[]> top = new PriorityQueue<>(limit + 1, (a, b) -> Double.compare(a[0], b[0])); // {점수, pos}
+        int i = 0, j = 0, k = 0;
+        while (i < chosungHits.length || j < nameHits.length || k < addressHits.length) {
+            int pos = Math.min(i < chosungHits.length ? chosungHits[i] : Integer.MAX_VALUE,
+                    Math.min(j < nameHits.length ? nameHits[j] : Integer.MAX_VALUE,
+                            k < addressHits.length ? addressHits[k] : Integer.MAX_VALUE));
+            double score = 0;
+            if (i < chosungHits.length && chosungHits[i] == pos) {
+                score = containsScore(chosungs[pos], query, CHOSUNG_PREFIX, CHOSUNG_CONTAINS);
+                i++;
+            }
+            if (j < nameHits.length && nameHits[j] == pos) {
+                score = Math.max(score, nameScore(names[pos], query));
+                j++;
+            }
+            if (k < addressHits.length && addressHits[k] == pos) {
+                if (score < ADDRESS_CONTAINS && addresses[pos].contains(query)) score = ADDRESS_CONTAINS;
+                k++;
+            }
+            if (score <= 0) continue;
+
+            if (geo) {
+                double km = GeoDistance.km(lat, lon, snapshot.latitudeAt(pos), snapshot.longitudeAt(pos));
+                score += PROXIMITY_WEIGHT * Math.exp(-km / PROXIMITY_SCALE_KM);
+            }
+            if (top.size() < limit) {
+                top.add(new double[]{score, pos});
+            } else if (score > top.peek()[0]) {
+                top.poll();
+                top.add(new double[]{score, pos});
+            }
+        }
+
+        List<FacilitySearchDto> result = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            int pos = (int) top.poll()[1];
+            FacilityDto facility = snapshot.get(pos);
+            result.add(FacilitySearchDto.builder()
+                    .id(facility.getId())
+                    .type(facility.getType())
+                    .name(facility.getName())
+                    .address(snapshot.addressAt(pos))
+                    .latitude(facility.getLatitude())
+                    .longitude(facility.getLongitude())
+                    .distanceMeter(geo ? GeoDistance.meter(lat, lon, facility.getLatitude(), facility.getLongitude()) : null)
+                    .build());
+        }
+        Collections.reverse(result); // 점수 내림차순
+        return result;
+    }
+
+    public long getVersion() {
+        return snapshot.getVersion();
+    }
+
+    // --- 점수 계산 ---
+
+    // 이름 일치 점수 (짧은 이름일수록, 앞쪽에서 일치할수록 우선)
+    private static double nameScore(String name, String query) {
+        if (name.equals(query)) return NAME_EXACT;
+        double score = containsScore(name, query, NAME_PREFIX, NAME_CONTAINS);
+        return (score > 0) ? score - Math.min(10, (name.length() - query.length()) * 0.5) : 0;
+    }
+
+    private static double containsScore(String text, String query, double prefixScore, double containsScore) {
+        int idx = text.indexOf(query);
+        if (idx < 0) return 0;
+        return (idx == 0) ? prefixScore : containsScore - Math.min(10, idx);
+    }
+
+    // --- 후보 추출 (포스팅 교집합) ---
+
+    private static int[] candidates(Map<Integer, int[]> postings, String query) {
+        if (query.length() == 1) {
+            return postings.getOrDefault(gramKey(query.charAt(0)), EMPTY);
+        }
+
+        int gramCount = query.length() - 1;
+        int[][] lists = new int[gramCount][];
+        for (int i = 0; i < gramCount; i++) {
+            lists[i] = postings.get(gramKey(query.charAt(i), query.charAt(i + 1)));
+            if (lists[i] == null) return EMPTY;
+        }
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.length, b.length));
+
+        int[] result = lists[0];
+        for (int i = 1; i < lists.length && result.length > 0; i++) {
+            result = intersect(result, lists[i]);
+        }
+        return result;
+    }
+
+    // 정렬된 두 목록의 교집합 (짧은 쪽 기준으로 긴 쪽을 이분 탐색)
+    private static int[] intersect(int[] small, int[] large) {
+        int[] out = new int[small.length];
+        int count = 0, from = 0;
+        for (int value : small) {
+            int idx = Arrays.binarySearch(large, from, large.length, value);
+            if (idx >= 0) {
+                out[count++] = value;
+                from = idx + 1;
+            } else {
+                from = -idx - 1;
+            }
+            if (from >= large.length) break;
+        }
+        return Arrays.copyOf(out, count);
+    }
+
+    // --- 색인 구축 ---
+
+    /**
+     * n-gram 키 -> 오름차순 pos 목록
+     * - (키 << 32 | pos) 값을 정렬하여 키별로 묶고 중복 pos 제거
+     */
+    private static Map<Integer, int[]> buildPostings(String[] texts, boolean withUnigrams) {
+        long[] entries = new long[1024];
+        int size = 0;
+        for (int pos = 0; pos < texts.length; pos++) {
+            String text = texts[pos];
+            for (int i = 0; i < text.length(); i++) {
+                if (size + 2 > entries.length) entries = Arrays.copyOf(entries, entries.length * 2);
+                if (withUnigrams) entries[size++] = ((long) gramKey(text.charAt(i)) << 32) | pos;
+                if (i + 1 < text.length()) {
+                    entries[size++] = ((long) gramKey(text.charAt(i), text.charAt(i + 1)) << 32) | pos;
+                }
+            }
+        }
+        Arrays.sort(entries, 0, size);
+
+        Map<Integer, int[]> postings = new HashMap<>();
+        int start = 0;
+        while (start < size) {
+            int key = (int) (entries[start] >>> 32);
+            int end = start;
+            int[] list = new int[16];
+            int count = 0;
+            while (end < size && (int) (entries[end] >>> 32) == key) {
+                int pos = (int) entries[end++];
+                if (count > 0 && list[count - 1] == pos) continue;
+                if (count == list.length) list = Arrays.copyOf(list, count * 2);
+                list[count++] = pos;
+            }
+            postings.put(key, Arrays.copyOf(list, count));
+            start = end;
+        }
+        return postings;
+    }
+
+    // unigram 키는 0..0xFFFF, bigram 키는 0x10000 이상 (첫 글자가 0이 아닌 경우)으로 겹치지 않음
+    private static int gramKey(char c) {
+        return c;
+    }
+
+    private static int gramKey(char first, char second) {
+        return (first << 16) | second;
+    }
+
+    // --- 문자열 정규화 ---
+
+    // 공백 제거 + 소문자화
+    static String normalize(String text) {
+        if (text == null) return "";
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) sb.append(c);
+        }
+        return sb.toString().toLowerCase(Locale.ROOT);
+    }
+
+    // 완성형 한글은 초성으로, 그 외 문자는 그대로
+    static String toChosung(String text) {
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            if (chars[i] >= HANGUL_BEGIN && chars[i] <= HANGUL_END) {
+                chars[i] = CHOSUNG[(chars[i] - HANGUL_BEGIN) / JUNG_JONG_COUNT];
+            }
+        }
+        return new String(chars);
+    }
+
+    // 질의가 초성(자음)만으로 이루어졌는지 여부
+    private static boolean isChosungQuery(String query) {
+        for (int i = 0; i < query.length(); i++) {
+            if (Arrays.binarySearch(CHOSUNG, query.charAt(i)) < 0) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,34 @@
+package com.inha.pro.safetynevi.service.map;
+
+import com.inha.pro.safetynevi.dto.map.FacilitySearchDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 시설명 검색 색인 관리 서비스
+ * - 시설 인덱스가 재구축될 때마다 이름/주소/초성 n-gram 색인을 새로 구성
+ */
+@Slf4j
+@Service
+public class FacilitySearchService {
+
+    private volatile FacilitySearchIndex searchIndex;
+
+    @EventListener
+    public void onFacilityIndexRebuilt(FacilityIndexRebuiltEvent event) {
+        long start = System.currentTimeMillis();
+        this.searchIndex = FacilitySearchIndex.build(event.snapshot());
+        log.info("Facility search index rebuilt ({} ms)", System.currentTimeMillis() - start);
+    }
+
+    // 색인 구축 전이면 빈 값 (호출 측에서 DB 검색으로 대체)
+    public Optional<List<FacilitySearchDto>> search(String keyword, Double lat, Double lon, int limit) {
+        FacilitySearchIndex index = this.searchIndex;
+        if (index == null) return Optional.empty();
+        return Optional.of(index.search(keyword, lat, lon, limit));
+    }
+}
@@ -9,12 +9,17 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
  * 시설물(Facility) 조회 서비스
  * - 지도 내 범위 검색(Bounds Search) 및 상세 정보 조회
+ * - 범위 검색은 메모리 인덱스(FacilityIndexService)를 우선 사용하고, 구축 전에는 FACILITY_MARKER DTO 프로젝션 조회
  * - 다형성을 활용하여 각 시설 타입(병원, 소방서 등)에 맞는 DTO 반환
  */
 @Service
@@ -23,37 +28,101 @@ import java.util.stream.Collectors;
 public class FacilityService {
 
     private final FacilityRepository facilityRepository;
-    private final HospitalRepository hospitalRepository;
-    private final ShelterRepository shelterRepository;
+    private final FacilityMarkerRepository facilityMarkerRepository;
+    private final FacilityIndexService facilityIndexService;
+    private final FacilitySearchService facilitySearchService;
+
+    private static final int MAX_SEARCH_RESULTS = 100;
 
     // 지도 영역 내 시설물 검색
     public List<FacilityDto> findFacilitiesInBounds(String type, double swLat, double swLng, double neLat, double neLng) {
-        List<Facility> facilities = new ArrayList<>();
-
-        switch (type) {
-            case "police":
-            case "fire":
-                // 경찰/소방서는 상태 필터링 없이 전체 조회
-                facilities.addAll(facilityRepository.findFacilitiesInBounds(type, swLat, swLng, neLat, neLng));
-                break;
-            case "hospital":
-                // 병원은 '운영중'인 시설만 조회
-                facilities.addAll(hospitalRepository.findOperationalInBounds(swLat, swLng, neLat, neLng));
-                break;
-            case "shelter":
-                // 대피소는 사용 가능한 시설만 조회
-                facilities.addAll(shelterRepository.findOperationalInBounds(swLat, swLng, neLat, neLng));
-                break;
-            case "etc":
-                // 기타: 운영 중단된 병원 및 대피소 포함
-                facilities.addAll(hospitalRepository.findNonOperationalInBounds(swLat, swLng, neLat, neLng));
-                facilities.addAll(shelterRepository.findNonOperationalInBounds(swLat, swLng, neLat, neLng));
-                break;
+        FacilitySnapshot snapshot = facilityIndexService.getSnapshot();
+        if (snapshot == null) {
+            return findFacilitiesInBoundsFromDb(type, swLat, swLng, neLat, neLng);
+        }
+        return FacilityLayer.fromCode(type)
+                .map(layer -> snapshot.findInBounds(layer, swLat, swLng, neLat, neLng))
+                .orElseGet(ArrayList::new);
+    }
+
+    // 여러 유형을 한 번에 검색 (유형별로 묶어서 반환, 인덱스 1회 순회)
+    public Map<String, List<FacilityDto>> findFacilitiesInBoundsByTypes(List<String> types, double swLat, double swLng, double neLat, double neLng) {
+        Map<String, List<FacilityDto>> result = new LinkedHashMap<>();
+        FacilitySnapshot snapshot = facilityIndexService.getSnapshot();
+
+        if (snapshot == null) {
+            for (String type : types) {
+                result.put(type, findFacilitiesInBoundsFromDb(type, swLat, swLng, neLat, neLng));
+            }
+            return result;
+        }
+
+        for (String type : types) {
+            result.put(type, new ArrayList<>());
+        }
+        snapshot.forEachInBounds(FacilityLayer.maskOf(types), swLat, swLng, neLat, neLng,
+                pos -> result.get(snapshot.layerAt(pos).getCode()).add(snapshot.get(pos)));
+        return result;
+    }
+
+    /**
+     * 지도 이동 변경분 검색 (이전 범위 -> 새 범위)
+     * - 범위 포함 조건은 findFacilitiesInBounds와 동일 (경계 포함)
+     * - added: 새 범위에는 있고 이전 범위에는 없는 시설 / removed: 그 반대의 시설 ID
+     */
+    public FacilityDeltaDto findFacilitiesDelta(List<String> types,
+                                                double prevSwLat, double prevSwLng, double prevNeLat, double prevNeLng,
+                                                double swLat, double swLng, double neLat, double neLng) {
+        List<FacilityDto> added = new ArrayList<>();
+        List<Long> removed = new ArrayList<>();
+        FacilitySnapshot snapshot = facilityIndexService.getSnapshot();
+
+        if (snapshot == null) {
+            // 인덱스 구축 전: 두 범위를 각각 조회하여 ID 기준으로 비교
+            List<FacilityDto> prev = flatten(findFacilitiesInBoundsByTypes(types, prevSwLat, prevSwLng, prevNeLat, prevNeLng));
+            List<FacilityDto> next = flatten(findFacilitiesInBoundsByTypes(types, swLat, swLng, neLat, neLng));
+            Set<Long> prevIds = new HashSet<>();
+            Set<Long> nextIds = new HashSet<>();
+            prev.forEach(f -> prevIds.add(f.getId()));
+            next.forEach(f -> nextIds.add(f.getId()));
+            next.stream().filter(f -> !prevIds.contains(f.getId())).forEach(added::add);
+            prev.stream().filter(f -> !nextIds.contains(f.getId())).forEach(f -> removed.add(f.getId()));
+        } else {
+            int mask = FacilityLayer.maskOf(types);
+            snapshot.forEachInBounds(mask, swLat, swLng, neLat, neLng, pos -> {
+                if (!contains(prevSwLat, prevSwLng, prevNeLat, prevNeLng, snapshot.latitudeAt(pos), snapshot.longitudeAt(pos))) {
+                    added.add(snapshot.get(pos));
+                }
+            });
+            snapshot.forEachInBounds(mask, prevSwLat, prevSwLng, prevNeLat, prevNeLng, pos -> {
+                if (!contains(swLat, swLng, neLat, neLng, snapshot.latitudeAt(pos), snapshot.longitudeAt(pos))) {
+                    removed.add(snapshot.get(pos).getId());
+                }
+            });
         }
 
-        return facilities.stream()
-                .map(FacilityDto::new)
-                .collect(Collectors.toList());
+        return FacilityDeltaDto.builder()
+                .added(added)
+                .removed(removed)
+                .build();
+    }
+
+    private boolean contains(double swLat, double swLng, double neLat, double neLng, double lat, double lon) {
+        return lat >= swLat && lat <= neLat && lon >= swLng && lon <= neLng;
+    }
+
+    private List<FacilityDto> flatten(Map<String, List<FacilityDto>> grouped) {
+        List<FacilityDto> all = new ArrayList<>();
+        grouped.values().forEach(all::addAll);
+        return all;
+    }
+
+    // 인덱스 구축 전 DB 직접 조회
+    private List<FacilityDto> findFacilitiesInBoundsFromDb(String type, double swLat, double swLng, double neLat, double neLng) {
+        // FACILITY_MARKER의 LAYER 코드에 운영 상태 필터(운영중 병원/대피소, 기타 = 운영 중단)가 반영되어 있음
+        return FacilityLayer.fromCode(type)
+                .map(layer -> facilityMarkerRepository.findDtosInBounds(List.of(layer.getCode()), swLat, swLng, neLat, neLng))
+                .orElseGet(ArrayList::new);
     }
 
     // 시설 상세 정보 조회 (다형성 처리)
@@ -70,9 +139,22 @@ public class FacilityService {
         return new FacilityDto(facility);
     }
 
-    // 시설명 검색
-    public List<Facility> searchFacilitiesByName(String keyword) {
+    // 시설명 검색 (메모리 색인 우선, 좌표가 주어지면 가까운 시설 우선)
+    public List<FacilitySearchDto> searchFacilitiesByName(String keyword, Double lat, Double lon, int limit) {
         if (keyword == null || keyword.trim().isEmpty()) return List.of();
-        return facilityRepository.findByNameContaining(keyword.trim());
+        int size = Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS));
+
+        return facilitySearchService.search(keyword.trim(), lat, lon, size)
+                .orElseGet(() -> facilityRepository.findByNameContaining(keyword.trim()).stream()
+                        .limit(size)
+                        .map(f -> FacilitySearchDto.builder()
+                                .id(f.getId())
+                                .type(f.getType())
+                                .name(f.getName())
+                                .address(f.getAddress())
+                                .latitude(f.getLatitude())
+                                .longitude(f.getLongitude())
+                                .build())
+                        .collect(Collectors.toList()));
     }
 }
\ No newline at end of file
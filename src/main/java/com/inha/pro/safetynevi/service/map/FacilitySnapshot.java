@@ -0,0 +1,167 @@
+package com.inha.pro.safetynevi.service.map;
+
+import com.inha.pro.safetynevi.dto.map.FacilityDto;
+import com.inha.pro.safetynevi.entity.FacilityMarker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * 시설물 메모리 스냅샷 (Packed Grid 공간 인덱스)
+ * - 전국 범위를 고정 크기 격자로 나누고, 시설을 (격자, 레이어) 순으로 정렬하여 배열에 저장
+ * - cellStart[격자 * SLOTS + 레이어] 오프셋으로 특정 격자/레이어 구간을 바로 찾아 범위 검색
+ * - 생성 후 변경되지 않는 불변 객체 (재적재 시 새 스냅샷으로 교체)
+ */
+public final class FacilitySnapshot {
+
+    // 격자 범위 (대한민국 전역, 범위 밖 좌표는 가장자리 격자로 보정)
+    private static final double MIN_LAT = 32.0;
+    private static final double MAX_LAT = 39.5;
+    private static final double MIN_LON = 124.0;
+    private static final double MAX_LON = 132.0;
+    private static final double CELL_DEG = 0.05; // 약 5km
+
+    private static final int ROWS = (int) Math.ceil((MAX_LAT - MIN_LAT) / CELL_DEG);
+    private static final int COLS = (int) Math.ceil((MAX_LON - MIN_LON) / CELL_DEG);
+
+    // 레이어별 슬롯 + 어느 레이어에도 속하지 않는 시설용 슬롯 1개
+    private static final int SLOTS = FacilityLayer.values().length + 1;
+    private static final int UNLISTED_SLOT = SLOTS - 1;
+
+    private final long version;
+    private final FacilityDto[] facilities;
+    private final String[] addresses;
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final byte[] slots;
+    private final int[] cellStart;
+
+    private FacilitySnapshot(long version, FacilityDto[] facilities, String[] addresses,
+                             double[] latitudes, double[] longitudes, byte[] slots, int[] cellStart) {
+        this.version = version;
+        this.facilities = facilities;
+        this.addresses = addresses;
+        this.latitudes = latitudes;
+        this.longitudes = longitudes;
+        this.slots = slots;
+        this.cellStart = cellStart;
+    }
+
+    // 마커 목록(FACILITY_MARKER)으로부터 스냅샷 생성 (계수 정렬, O(N))
+    public static FacilitySnapshot build(List<FacilityMarker> source, long version) {
+        int n = source.size();
+        int[] keys = new int[n];
+        int[] cellStart = new int[ROWS * COLS * SLOTS + 1];
+
+        for (int i = 0; i < n; i++) {
+            FacilityMarker marker = source.get(i);
+            int slot = FacilityLayer.fromCode(marker.getLayer()).map(Enum::ordinal).orElse(UNLISTED_SLOT);
+            keys[i] = cellOf(marker.getLatitude(), marker.getLongitude()) * SLOTS + slot;
+            cellStart[keys[i] + 1]++;
+        }
+        for (int k = 1; k < cellStart.length; k++) {
+            cellStart[k] += cellStart[k - 1];
+        }
+
+        FacilityDto[] facilities = new FacilityDto[n];
+        String[] addresses = new String[n];
+        double[] latitudes = new double[n];
+        double[] longitudes = new double[n];
+        byte[] slots = new byte[n];
+        int[] cursor = cellStart.clone();
+
+        for (int i = 0; i < n; i++) {
+            FacilityMarker marker = source.get(i);
+            int pos = cursor[keys[i]]++;
+            facilities[pos] = marker.toDto();
+            addresses[pos] = marker.getAddress();
+            latitudes[pos] = marker.getLatitude();
+            longitudes[pos] = marker.getLongitude();
+            slots[pos] = (byte) (keys[i] % SLOTS);
+        }
+        return new FacilitySnapshot(version, facilities, addresses, latitudes, longitudes, slots, cellStart);
+    }
+
+    /**
+     * 지정 레이어들의 범위 내 시설 위치(pos)를 순회
+     * - 격자 단위로 후보를 좁힌 뒤 실제 좌표로 경계 포함(BETWEEN) 여부를 재확인
+     */
+    public void forEachInBounds(int layerMask, double swLat, double swLng, double neLat, double neLng,
+                                IntConsumer action) {
+        if (layerMask == 0 || swLat > neLat || swLng > neLng) return;
+
+        int rowFrom = rowOf(swLat), rowTo = rowOf(neLat);
+        int colFrom = colOf(swLng), colTo = colOf(neLng);
+
+        for (int row = rowFrom; row <= rowTo; row++) {
+            for (int col = colFrom; col <= colTo; col++) {
+                int base = (row * COLS + col) * SLOTS;
+                for (int slot = 0; slot < UNLISTED_SLOT; slot++) {
+                    if ((layerMask & (1 << slot)) == 0) continue; // FacilityLayer.bit()와 동일한 비트 배치
+                    for (int pos = cellStart[base + slot], end = cellStart[base + slot + 1]; pos < end; pos++) {
+                        double lat = latitudes[pos];
+                        double lon = longitudes[pos];
+                        if (lat >= swLat && lat <= neLat && lon >= swLng && lon <= neLng) {
+                            action.accept(pos);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    // 단일 레이어 범위 검색 결과를 DTO 목록으로 반환
+    public List<FacilityDto> findInBounds(FacilityLayer layer, double swLat, double swLng, double neLat, double neLng) {
+        List<FacilityDto> result = new ArrayList<>();
+        forEachInBounds(layer.bit(), swLat, swLng, neLat, neLng, pos -> result.add(facilities[pos]));
+        return result;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int size() {
+        return facilities.length;
+    }
+
+    public FacilityDto get(int pos) {
+        return facilities[pos];
+    }
+
+    public String addressAt(int pos) {
+        return addresses[pos];
+    }
+
+    // 레이어에 속하지 않는 시설이면 null
+    public FacilityLayer layerAt(int pos) {
+        return (slots[pos] == UNLISTED_SLOT) ? null : FacilityLayer.values()[slots[pos]];
+    }
+
+    public double latitudeAt(int pos) {
+        return latitudes[pos];
+    }
+
+    public double longitudeAt(int pos) {
+        return longitudes[pos];
+    }
+
+    // --- 격자 좌표 계산 ---
+
+    private static int cellOf(double lat, double lon) {
+        return rowOf(lat) * COLS + colOf(lon);
+    }
+
+    private static int rowOf(double lat) {
+        return clamp((int) Math.floor((lat - MIN_LAT) / CELL_DEG), ROWS);
+    }
+
+    private static int colOf(double lon) {
+        return clamp((int) Math.floor((lon - MIN_LON) / CELL_DEG), COLS);
+    }
+
+    private static int clamp(int index, int size) {
+        return Math.max(0, Math.min(size - 1, index));
+    }
+}
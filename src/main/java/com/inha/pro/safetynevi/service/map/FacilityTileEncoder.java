@@ -0,0 +1,134 @@
+package com.inha.pro.safetynevi.service.map;
+
+import com.inha.pro.safetynevi.dto.map.FacilityDto;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시설물 타일 바이너리 인코더
+ * - z/x/y 타일(Web Mercator, XYZ 방식) 하나에 포함된 시설을 varint/증분 방식으로 압축
+ *
+ * [포맷 v1] (varint: 7bit 가변 길이 정수, zigzag: 부호 있는 정수를 varint로 표현)
+ *   헤더
+ *     4 bytes  매직 "SNFT"
+ *     1 byte   포맷 버전 (1)
+ *     varint   extent (타일 한 변의 내부 좌표 크기, 4096)
+ *     varint   문자열 사전 크기 S, 이후 S개 문자열 (varint 바이트 길이 + UTF-8)
+ *     varint   시설 수 N
+ *   시설 N개 (id 오름차순)
+ *     varint   id 증분 (첫 시설은 id 자체)
+ *     zigzag   x 증분 (타일 내부 좌표 0..extent-1, 직전 시설 기준 / 첫 시설은 0 기준)
+ *     zigzag   y 증분 (북쪽이 0)
+ *     varint   유형(type) 사전 인덱스
+ *     varint   운영 상태(operatingStatus) 사전 인덱스
+ *     varint   수용 인원 (없으면 0)
+ *     varint   이름 바이트 길이 + UTF-8
+ */
+final class FacilityTileEncoder {
+
+    static final int EXTENT = 4096;
+    private static final byte[] MAGIC = {'S', 'N', 'F', 'T'};
+    private static final int VERSION = 1;
+
+    private FacilityTileEncoder() {
+    }
+
+    // 타일 범위 내 시설 인코딩 (범위 검색 결과에서 타일 경계 밖 좌표는 제외)
+    static byte[] encode(FacilitySnapshot snapshot, FacilityLayer layer, int z, int x, int y) {
+        double n = Math.pow(2, z);
+        double west = x / n * 360.0 - 180.0;
+        double east = (x + 1) / n * 360.0 - 180.0;
+        double north = tileYToLat(y, n);
+        double south = tileYToLat(y + 1, n);
+
+        List<int[]> features = new ArrayList<>(); // {pos, px, py}
+        snapshot.forEachInBounds(layer.bit(), south, west, north, east, pos -> {
+            int px = (int) Math.floor((lonToTileX(snapshot.longitudeAt(pos), n) - x) * EXTENT);
+            int py = (int) Math.floor((latToTileY(snapshot.latitudeAt(pos), n) - y) * EXTENT);
+            if (px >= 0 && px < EXTENT && py >= 0 && py < EXTENT) {
+                features.add(new int[]{pos, px, py});
+            }
+        });
+        features.sort(Comparator.comparingLong(f -> snapshot.get(f[0]).getId()));
+
+        // 유형/상태 문자열 사전 구성
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (int[] f : features) {
+            FacilityDto dto = snapshot.get(f[0]);
+            dictionary.putIfAbsent(nullToEmpty(dto.getType()), dictionary.size());
+            dictionary.putIfAbsent(nullToEmpty(dto.getOperatingStatus()), dictionary.size());
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 + features.size() * 24);
+        out.writeBytes(MAGIC);
+        out.write(VERSION);
+        writeVarint(out, EXTENT);
+        writeVarint(out, dictionary.size());
+        for (String entry : dictionary.keySet()) {
+            writeString(out, entry);
+        }
+        writeVarint(out, features.size());
+
+        long prevId = 0;
+        int prevX = 0, prevY = 0;
+        for (int[] f : features) {
+            FacilityDto dto = snapshot.get(f[0]);
+            writeVarint(out, dto.getId() - prevId);
+            writeVarint(out, zigzag(f[1] - prevX));
+            writeVarint(out, zigzag(f[2] - prevY));
+            writeVarint(out, dictionary.get(nullToEmpty(dto.getType())));
+            writeVarint(out, dictionary.get(nullToEmpty(dto.getOperatingStatus())));
+            writeVarint(out, dto.getMaxCapacity() != null ? Math.max(0, dto.getMaxCapacity()) : 0);
+            writeString(out, nullToEmpty(dto.getName()));
+            prevId = dto.getId();
+            prevX = f[1];
+            prevY = f[2];
+        }
+        return out.toByteArray();
+    }
+
+    // --- Web Mercator 변환 ---
+
+    private static double lonToTileX(double lon, double n) {
+        return (lon + 180.0) / 360.0 * n;
+    }
+
+    private static double latToTileY(double lat, double n) {
+        double rad = Math.toRadians(lat);
+        return (1 - Math.log(Math.tan(rad) + 1 / Math.cos(rad)) / Math.PI) / 2 * n;
+    }
+
+    private static double tileYToLat(int y, double n) {
+        return Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2 * y / n))));
+    }
+
+    // --- 바이트 인코딩 ---
+
+    private static long zigzag(int value) {
+        return ((value << 1) ^ (value >> 31)) & 0xFFFFFFFFL;
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, bytes.length);
+        out.writeBytes(bytes);
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
@@ -0,0 +1,66 @@
+package com.inha.pro.safetynevi.service.map;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.inha.pro.safetynevi.exception.ServiceUnavailableException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * 시설물 바이너리 타일 서비스
+ * - 타일은 데이터 재적재 전까지 불변이므로 생성 결과를 메모리에 캐싱하여 모든 사용자가 공유
+ * - ETag는 스냅샷 버전 + 타일 좌표로 구성 (재적재 시 자동으로 변경됨)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FacilityTileService {
+
+    private static final int MAX_ZOOM = 20;
+    private static final int MAX_CACHED_TILES = 20_000;
+
+    private final FacilityIndexService facilityIndexService;
+
+    private final Cache<String, FacilityTile> tileCache = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_TILES)
+            .build();
+
+    @EventListener
+    public void onFacilityIndexRebuilt(FacilityIndexRebuiltEvent event) {
+        tileCache.invalidateAll();
+    }
+
+    // 타일 조회 (캐시 미스 시 스냅샷에서 생성)
+    public FacilityTile getTile(String type, int z, int x, int y) {
+        FacilityLayer layer = FacilityLayer.fromCode(type)
+                .orElseThrow(() -> new IllegalArgumentException("알 수 없는 시설 유형입니다: " + type));
+        if (z < 0 || z > MAX_ZOOM || x < 0 || y < 0 || x >= (1 << z) || y >= (1 << z)) {
+            throw new IllegalArgumentException("잘못된 타일 좌표입니다: " + z + "/" + x + "/" + y);
+        }
+
+        FacilitySnapshot snapshot = facilityIndexService.getSnapshot();
+        if (snapshot == null) {
+            throw new ServiceUnavailableException("시설 인덱스가 아직 준비되지 않았습니다.");
+        }
+
+        String key = layer.getCode() + "/" + z + "/" + x + "/" + y;
+        FacilityTile cached = tileCache.getIfPresent(key);
+        if (cached != null && cached.version() == snapshot.getVersion()) {
+            return cached;
+        }
+
+        FacilityTile tile = new FacilityTile(
+                snapshot.getVersion(),
+                Long.toHexString(snapshot.getVersion()) + "-" + key.replace('/', '-'),
+                FacilityTileEncoder.encode(snapshot, layer, z, x, y)
+        );
+        tileCache.put(key, tile);
+        return tile;
+    }
+
+    // 인코딩된 타일과 캐시 검증용 ETag
+    public record FacilityTile(long version, String etag, byte[] bytes) {
+    }
+}
@@ -0,0 +1,57 @@
+package com.inha.pro.safetynevi.service.map;
+
+import com.inha.pro.safetynevi.dao.map.FacilityMarkerRepository;
+import com.inha.pro.safetynevi.dao.member.MemberRepository;
+import com.inha.pro.safetynevi.entity.FacilityMarker;
+import com.inha.pro.safetynevi.entity.member.Member;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * GEO_KEY 보정 서비스
+ * - GEO_KEY 컬럼 추가 이전에 저장된 행(시설 마커/회원)의 키를 기동 시 한 번 계산
+ * - GEO_KEY는 범위 조회가 실제로 사용하는 테이블에만 둠 (FACILITY_MARKER: 지도 마커, SAFETY_MEMBER: 지역 재난 대상 회원)
+ * - 이후 저장/수정되는 행은 엔티티의 @PrePersist/@PreUpdate에서 자동 계산
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GeoKeyBackfillService {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final FacilityMarkerRepository facilityMarkerRepository;
+    private final MemberRepository memberRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        backfill("FACILITY_MARKER", facilityMarkerRepository::findByGeoKeyIsNull, FacilityMarker::refreshGeoKey);
+        backfill("SAFETY_MEMBER", memberRepository::findByGeoKeyIsNullAndLatitudeIsNotNullAndLongitudeIsNotNull, Member::refreshGeoKey);
+    }
+
+    // 미계산 행이 없을 때까지 배치 단위로 키 계산 (배치마다 트랜잭션 커밋)
+    private <T> void backfill(String table, Function<Pageable, List<T>> finder, Consumer<T> refresher) {
+        int total = 0;
+        while (true) {
+            Integer updated = transactionTemplate.execute(status -> {
+                List<T> rows = finder.apply(PageRequest.of(0, BATCH_SIZE));
+                rows.forEach(refresher);
+                return rows.size();
+            });
+            if (updated == null || updated == 0) break;
+            total += updated;
+        }
+        if (total > 0) log.info("GEO_KEY backfilled: {} ({} rows)", table, total);
+    }
+}
@@ -0,0 +1,72 @@
+package com.inha.pro.safetynevi.service.map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inha.pro.safetynevi.dto.map.RoutePathDto;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * 카카오 모빌리티 길찾기 API 클라이언트 (Non-blocking)
+ * - 전용 커넥션 풀을 공유: 동시 호출은 maxConnections개로 제한하고, 대기 요청이 maxPending개를 넘으면 즉시 실패
+ * - 연결/응답 타임아웃 적용
+ * - 응답 본문은 스트리밍으로 파싱하여 요약 정보와 경로 좌표만 추출 (KakaoRouteParser)
+ */
+@Component
+public class KakaoRouteClient {
+
+    private static final String BASE_URL = "https://apis-navi.kakaomobility.com";
+
+    private final ObjectMapper objectMapper;
+    private final WebClient webClient;
+    private final Duration responseTimeout;
+
+    public KakaoRouteClient(ObjectMapper objectMapper,
+                            @Value("${api.kakao.restKey}") String kakaoRestKey, // application.properties에 있는 키 사용
+                            @Value("${route.kakao.max-connections:50}") int maxConnections,
+                            @Value("${route.kakao.max-pending:500}") int maxPending,
+                            @Value("${route.kakao.connect-timeout-ms:2000}") int connectTimeoutMs,
+                            @Value("${route.kakao.response-timeout-ms:5000}") long responseTimeoutMs) {
+        this.objectMapper = objectMapper;
+        this.responseTimeout = Duration.ofMillis(responseTimeoutMs);
+
+        ConnectionProvider provider = ConnectionProvider.builder("kakao-route")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(maxPending)
+                .pendingAcquireTimeout(responseTimeout)
+                .maxIdleTime(Duration.ofSeconds(30))
+                .build();
+        HttpClient httpClient = HttpClient.create(provider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(responseTimeout);
+
+        this.webClient = WebClient.builder()
+                .baseUrl(BASE_URL)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .defaultHeader("Authorization", "KakaoAK " + kakaoRestKey)
+                .defaultHeader("Content-Type", "application/json")
+                .build();
+    }
+
+    public Mono<RoutePathDto> fetchRoute(double startLat, double startLon, double endLat, double endLon) {
+        return webClient.get()
+                .uri(uri -> uri.path("/v1/directions")
+                        .queryParam("origin", startLon + "," + startLat)
+                        .queryParam("destination", endLon + "," + endLat)
+                        .queryParam("priority", "RECOMMEND") // 추천 경로
+                        .build())
+                .retrieve()
+                .bodyToFlux(DataBuffer.class)
+                .collect(() -> new KakaoRouteParser(objectMapper.getFactory()), KakaoRouteParser::feed)
+                .map(KakaoRouteParser::finish)
+                .timeout(responseTimeout.multipliedBy(2)); // 커넥션 대기 + 응답 수신 전체 상한
+    }
+}
@@ -0,0 +1,154 @@
+package com.inha.pro.safetynevi.service.map;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.inha.pro.safetynevi.dto.map.RoutePathDto;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 카카오 길찾기 응답 스트리밍 파서
+ * - 응답 본문을 받는 대로 비동기(Non-blocking) JSON 파서에 공급하고, 전체 트리를 만들지 않고 필요한 값만 추출
+ *     routes[0].result_code / result_msg
+ *     routes[0].summary.distance / duration
+ *     routes[0].sections[*].roads[*].vertexes[*]
+ * - 수신한 DataBuffer는 공급 즉시 해제
+ */
+final class KakaoRouteParser {
+
+    private enum Context { OTHER, ROUTE, SUMMARY, VERTEXES }
+
+    private static final List<String> ROUTES_PATH = List.of("$", "routes");
+    private static final List<String> ROUTE_PATH = List.of("$", "routes", "#");
+    private static final List<String> SUMMARY_PATH = List.of("$", "routes", "#", "summary");
+    private static final List<String> VERTEXES_PATH = List.of("$", "routes", "#", "sections", "#", "roads", "#", "vertexes");
+
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+
+    // 현재 위치 (컨테이너 이름 스택, 배열 원소는 "#")
+    private final List<String> path = new ArrayList<>();
+    private Context context = Context.OTHER;
+    private int routeIndex = -1;
+
+    private int resultCode = -1;
+    private String resultMsg;
+    private long distance;
+    private long duration;
+    private double[] vertexes = new double[1024];
+    private int vertexCount = 0;
+
+    KakaoRouteParser(JsonFactory factory) {
+        try {
+            this.parser = factory.createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    // 수신한 본문 조각 공급 (조각 경계에 걸친 토큰은 다음 조각에서 이어서 처리)
+    void feed(DataBuffer buffer) {
+        try {
+            byte[] chunk = new byte[buffer.readableByteCount()];
+            buffer.read(chunk);
+            feeder.feedInput(chunk, 0, chunk.length);
+            drain();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    RoutePathDto finish() {
+        try {
+            feeder.endOfInput();
+            drain();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return RoutePathDto.builder()
+                .resultCode(resultCode)
+                .resultMsg(resultMsg)
+                .distance(distance)
+                .duration(duration)
+                .vertexes(Arrays.copyOf(vertexes, vertexCount))
+                .build();
+    }
+
+    private void drain() throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            switch (token) {
+                case START_OBJECT, START_ARRAY -> push();
+                case END_OBJECT, END_ARRAY -> pop();
+                case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> onNumber();
+                case VALUE_STRING -> onString();
+                default -> {
+                }
+            }
+        }
+    }
+
+    private void push() {
+        JsonStreamContext parent = parser.getParsingContext().getParent();
+        String name = parent.inRoot() ? "$" : (parent.inArray() ? "#" : parent.getCurrentName());
+        if (parent.inArray() && path.equals(ROUTES_PATH)) routeIndex++;
+        path.add(name);
+        updateContext();
+    }
+
+    private void pop() {
+        path.remove(path.size() - 1);
+        updateContext();
+    }
+
+    private void updateContext() {
+        if (routeIndex != 0) {
+            context = Context.OTHER;
+        } else if (path.equals(VERTEXES_PATH)) {
+            context = Context.VERTEXES;
+        } else if (path.equals(SUMMARY_PATH)) {
+            context = Context.SUMMARY;
+        } else if (path.equals(ROUTE_PATH)) {
+            context = Context.ROUTE;
+        } else {
+            context = Context.OTHER;
+        }
+    }
+
+    private void onNumber() throws IOException {
+        String fieldName = parser.currentName();
+        switch (context) {
+            case VERTEXES -> {
+                if (vertexCount == vertexes.length) vertexes = Arrays.copyOf(vertexes, vertexCount * 2);
+                vertexes[vertexCount++] = parser.getDoubleValue();
+            }
+            case SUMMARY -> {
+                if ("distance".equals(fieldName)) distance = parser.getLongValue();
+                else if ("duration".equals(fieldName)) duration = parser.getLongValue();
+            }
+            case ROUTE -> {
+                if ("result_code".equals(fieldName)) resultCode = parser.getIntValue();
+            }
+            default -> {
+            }
+        }
+    }
+
+    private void onString() throws IOException {
+        if (context == Context.ROUTE && "result_msg".equals(parser.currentName())) {
+            resultMsg = parser.getText();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.inha.pro.safetynevi.service.map;
+
+import com.inha.pro.safetynevi.dto.map.RoutePathDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * 카카오 모빌리티 길찾기 제공자
+ * - 출발지 격자 + 목적지 단위로 캐시된 경로를 공유 (RouteCacheService)
+ * - 캐시 공유 호출은 구독 취소 시에도 중단하지 않음 (같은 호출을 기다리는 다른 요청 보호)
+ */
+@Component
+@RequiredArgsConstructor
+public class KakaoRouteProvider implements RouteProvider {
+
+    public static final String NAME = "kakao";
+
+    private final RouteCacheService routeCacheService;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    public Mono<RoutePathDto> findRoute(double startLat, double startLon, double endLat, double endLon) {
+        return Mono.fromFuture(() -> routeCacheService.getRoute(startLat, startLon, endLat, endLon), true);
+    }
+}
@@ -0,0 +1,166 @@
+package com.inha.pro.safetynevi.service.map;
+
+import com.inha.pro.safetynevi.dto.map.RoutePathDto;
+import com.inha.pro.safetynevi.exception.ServiceUnavailableException;
+import com.inha.pro.safetynevi.service.calamity.HazardZoneIndex;
+import com.inha.pro.safetynevi.service.calamity.HazardZoneSnapshot;
+import com.inha.pro.safetynevi.util.map.GeoDistance;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeoutException;
+import java.util.function.IntPredicate;
+
+/**
+ * 오프라인 보행 길찾기 제공자
+ * - route.offline.graph-path의 사전 변환 도로 그래프(RoadGraph 형식)를 메모리 매핑하여 A* + ALT로 탐색
+ * - 그래프 적재/랜드마크 계산은 기동 완료 후 백그라운드에서 수행하며, 완료 전에는 사용 불가
+ * - 경로 파일이 설정되지 않았으면 비활성 (카카오 API만 사용)
+ * - 활성 재난 구역 안의 도로는 route.hazard.penalty배 길이로 계산하여 우회 경로 우선
+ * - 그래프 준비 전이거나 동시 탐색 수가 가득 차 route.offline.state-wait-ms 안에 탐색할 수 없으면
+ *   ServiceUnavailableException (auto 모드에서는 카카오 경로 사용)
+ * - 그래프 파일은 RoadGraphBuilder로 생성
+ */
+@Slf4j
+@Component
+public class OfflineRouteProvider implements RouteProvider {
+
+    public static final String NAME = "offline";
+
+    private static final double WALK_SPEED_MPS = 4000.0 / 3600; // 시속 4km (RouteService 도보 기준과 동일)
+    private static final int RESULT_NOT_FOUND = 1; // 카카오 응답의 "길찾기 결과를 찾을 수 없음"과 동일 코드
+
+    private final String graphPath;
+    private final int landmarkCount;
+    private final int maxConcurrentSearches;
+    private final long stateWaitMillis;
+    private final double maxSnapMeter;
+    private final float hazardPenalty;
+    private final HazardZoneIndex hazardZoneIndex;
+
+    private volatile RoadGraphRouter router;
+
+    public OfflineRouteProvider(@Value("${route.offline.graph-path:}") String graphPath,
+                                @Value("${route.offline.landmarks:8}") int landmarkCount,
+                                @Value("${route.offline.max-concurrent-searches:4}") int maxConcurrentSearches,
+                                @Value("${route.offline.state-wait-ms:2000}") long stateWaitMillis,
+                                @Value("${route.offline.max-snap-meter:500}") double maxSnapMeter,
+                                @Value("${route.hazard.penalty:20}") float hazardPenalty,
+                                HazardZoneIndex hazardZoneIndex) {
+        this.graphPath = graphPath;
+        this.landmarkCount = landmarkCount;
+        this.maxConcurrentSearches = maxConcurrentSearches;
+        this.stateWaitMillis = stateWaitMillis;
+        this.maxSnapMeter = maxSnapMeter;
+        this.hazardPenalty = hazardPenalty;
+        this.hazardZoneIndex = hazardZoneIndex;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadGraph() {
+        if (graphPath == null || graphPath.isBlank()) {
+            log.info("🛣️ 오프라인 도로 그래프 경로 미설정 - 오프라인 길찾기 비활성");
+            return;
+        }
+        Path path = Path.of(graphPath);
+        if (!Files.isReadable(path)) {
+            log.warn("🛣️ 오프라인 도로 그래프 파일을 읽을 수 없습니다: {}", path);
+            return;
+        }
+
+        Thread.ofPlatform().name("road-graph-loader").daemon().start(() -> {
+            try {
+                long startedAt = System.currentTimeMillis();
+                RoadGraph graph = RoadGraph.load(path);
+                router = RoadGraphRouter.create(graph, landmarkCount, maxConcurrentSearches, stateWaitMillis);
+                log.info("🛣️ 오프라인 도로 그래프 적재 완료: 노드 {}개, 간선 {}개 ({}ms)",
+                        graph.nodeCount(), graph.edgeCount(), System.currentTimeMillis() - startedAt);
+            } catch (Exception e) {
+                log.error("오프라인 도로 그래프 적재 실패: {}", path, e);
+            }
+        });
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return router != null;
+    }
+
+    @Override
+    public Mono<RoutePathDto> findRoute(double startLat, double startLon, double endLat, double endLon) {
+        RoadGraphRouter current = router;
+        if (current == null) {
+            return Mono.error(new ServiceUnavailableException("오프라인 도로 그래프가 준비되지 않았습니다."));
+        }
+        // 탐색 상태 대기가 있을 수 있으므로 요청/이벤트 루프 스레드가 아닌 별도 스케줄러에서 실행
+        return Mono.fromCallable(() -> route(current, startLat, startLon, endLat, endLon))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private RoutePathDto route(RoadGraphRouter current, double startLat, double startLon,
+                               double endLat, double endLon) throws InterruptedException {
+        RoadGraph graph = current.graph();
+        int source = graph.nearestNode(startLat, startLon, maxSnapMeter);
+        int target = graph.nearestNode(endLat, endLon, maxSnapMeter);
+        if (source < 0 || target < 0) {
+            return notFound("출발지 또는 도착지 주변에 도로가 없습니다.");
+        }
+
+        HazardZoneSnapshot hazards = hazardZoneIndex.current();
+        IntPredicate hazard = hazards.isEmpty()
+                ? null
+                : node -> hazards.contains(graph.latitudeAt(node), graph.longitudeAt(node));
+        RoadGraphRouter.Path path;
+        try {
+            path = current.route(source, target, hazard, hazardPenalty);
+        } catch (TimeoutException e) {
+            throw new ServiceUnavailableException("오프라인 길찾기 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        if (path == null) {
+            return notFound("연결된 도로가 없습니다.");
+        }
+
+        // 실제 출발/도착 좌표와 도로 노드 사이 구간을 포함하여 [경도, 위도, ...] 순으로 구성
+        int[] nodes = path.nodes();
+        double[] vertexes = new double[(nodes.length + 2) * 2];
+        vertexes[0] = startLon;
+        vertexes[1] = startLat;
+        for (int i = 0; i < nodes.length; i++) {
+            vertexes[2 * i + 2] = graph.longitudeAt(nodes[i]);
+            vertexes[2 * i + 3] = graph.latitudeAt(nodes[i]);
+        }
+        vertexes[vertexes.length - 2] = endLon;
+        vertexes[vertexes.length - 1] = endLat;
+
+        double distance = path.distanceMeter()
+                + GeoDistance.meter(startLat, startLon, graph.latitudeAt(source), graph.longitudeAt(source))
+                + GeoDistance.meter(endLat, endLon, graph.latitudeAt(target), graph.longitudeAt(target));
+        return RoutePathDto.builder()
+                .resultCode(0)
+                .resultMsg("길찾기 성공")
+                .distance(Math.round(distance))
+                .duration(Math.round(distance / WALK_SPEED_MPS))
+                .vertexes(vertexes)
+                .build();
+    }
+
+    private static RoutePathDto notFound(String message) {
+        return RoutePathDto.builder()
+                .resultCode(RESULT_NOT_FOUND)
+                .resultMsg(message)
+                .vertexes(new double[0])
+                .build();
+    }
+}
@@ -0,0 +1,75 @@
+package com.inha.pro.safetynevi.service.map;
+
+import com.inha.pro.safetynevi.util.map.GeoPolygonIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 오프라인 역지오코딩 서비스 (좌표 -> 시도/시군구/읍면동)
+ * - BoundaryService의 시군구/읍면동 경계를 격자 공간 색인(GeoPolygonIndex)에 올려 외부 API 호출 없이 판정
+ * - 시도는 시군구(없으면 읍면동) 행정구역 코드 앞자리로 결정
+ * - 경계 파일이 없거나 좌표가 어느 경계에도 속하지 않으면 빈 결과 (호출하는 쪽에서 대체 처리)
+ */
+@Service
+@RequiredArgsConstructor
+public class ReverseGeocodeService {
+
+    private static final double SIGUNGU_CELL_DEGREE = 0.05;
+    private static final double DONG_CELL_DEGREE = 0.02;
+
+    private final BoundaryService boundaryService;
+
+    private volatile Indexes indexes;
+
+    // 적재된 경계 목록과 색인 (목록 순서 = 색인 번호)
+    private record Indexes(List<BoundaryService.Boundary> sigungu, GeoPolygonIndex sigunguIndex,
+                           List<BoundaryService.Boundary> dong, GeoPolygonIndex dongIndex) {
+    }
+
+    // 행정구역명 (sido: "서울"과 같은 짧은 이름, 알 수 없는 단계는 null)
+    public record Region(String sido, String sigungu, String dong) {
+
+        // "구 동" 형식 주소 (카카오 coord2address의 region_2depth_name + region_3depth_name과 같은 형태)
+        public String shortAddress() {
+            if (sigungu == null) return dong;
+            return (dong == null) ? sigungu : sigungu + " " + dong;
+        }
+    }
+
+    public Optional<Region> findRegion(double lat, double lon) {
+        Indexes loaded = getIndexes();
+
+        int sigunguPos = loaded.sigunguIndex().find(lat, lon);
+        int dongPos = loaded.dongIndex().find(lat, lon);
+        if (sigunguPos < 0 && dongPos < 0) return Optional.empty();
+
+        BoundaryService.Boundary sigungu = (sigunguPos >= 0) ? loaded.sigungu().get(sigunguPos) : null;
+        BoundaryService.Boundary dong = (dongPos >= 0) ? loaded.dong().get(dongPos) : null;
+        String sido = BoundaryService.sidoNameOf((sigungu != null) ? sigungu.code() : dong.code());
+        return Optional.of(new Region(sido,
+                (sigungu != null) ? sigungu.name() : null,
+                (dong != null) ? dong.name() : null));
+    }
+
+    private Indexes getIndexes() {
+        Indexes loaded = indexes;
+        if (loaded == null) {
+            synchronized (this) {
+                if (indexes == null) indexes = build();
+                loaded = indexes;
+            }
+        }
+        return loaded;
+    }
+
+    private Indexes build() {
+        List<BoundaryService.Boundary> sigungu = boundaryService.getBoundaries();
+        List<BoundaryService.Boundary> dong = boundaryService.getDongBoundaries();
+        return new Indexes(
+                sigungu, new GeoPolygonIndex(sigungu.stream().map(BoundaryService.Boundary::polygon).toList(), SIGUNGU_CELL_DEGREE),
+                dong, new GeoPolygonIndex(dong.stream().map(BoundaryService.Boundary::polygon).toList(), DONG_CELL_DEGREE));
+    }
+}
@@ -0,0 +1,163 @@
+package com.inha.pro.safetynevi.service.map;
+
+import com.inha.pro.safetynevi.util.map.GeoDistance;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 오프라인 길찾기용 도로(보행) 네트워크 그래프 (메모리 매핑, 불변)
+ * - OSM 등 원천 데이터를 사전 변환한 바이너리 파일을 읽기 전용으로 매핑 (힙에 적재하지 않음)
+ * - 인접 리스트는 CSR(Compressed Sparse Row) 형식: 노드 v의 간선은 [firstEdge[v], firstEdge[v + 1])
+ * - 보행 네트워크이므로 양방향 간선이 모두 기록된 대칭 그래프를 가정
+ * - 파일은 RoadGraphBuilder로 생성 (노드/도로 구간 CSV -> 아래 형식)
+ *
+ * [파일 형식] (Big-Endian, 모든 값 4바이트)
+ *   int   magic (0x534E5247, "SNRG"), version (1)
+ *   int   nodeCount(n), edgeCount(m), landmarkCount(k)
+ *   float latitude[n], longitude[n]
+ *   int   firstEdge[n + 1]
+ *   int   edgeTarget[m]
+ *   float edgeLength[m]          간선 길이 (m, 양 끝점 직선거리 이상)
+ *   int   landmark[k]            ALT 랜드마크 노드 (k = 0이면 적재 시 계산)
+ *   float landmarkDistance[k][n] 랜드마크에서 각 노드까지 최단거리 (m)
+ */
+public final class RoadGraph {
+
+    static final int MAGIC = 0x534E5247;
+    static final int VERSION = 1;
+    private static final int HEADER_INTS = 5;
+
+    // 최근접 노드 탐색용 격자 (약 500m)
+    private static final double MIN_LAT = 32.0;
+    private static final double MIN_LON = 124.0;
+    private static final double CELL_DEG = 0.005;
+    private static final int ROWS = 1500; // 위도 32 ~ 39.5
+    private static final int COLS = 1600; // 경도 124 ~ 132
+
+    private final int nodeCount;
+    private final int edgeCount;
+    private final FloatBuffer latitudes;
+    private final FloatBuffer longitudes;
+    private final IntBuffer firstEdge;
+    private final IntBuffer edgeTarget;
+    private final FloatBuffer edgeLength;
+    private final FloatBuffer[] landmarkDistances;
+
+    // 격자별 노드 목록 (격자 순 정렬, cellStart 오프셋)
+    private final int[] cellStart;
+    private final int[] cellNodes;
+
+    private RoadGraph(ByteBuffer buffer) {
+        IntBuffer header = slice(buffer, 0, HEADER_INTS).asIntBuffer();
+        if (header.get(0) != MAGIC || header.get(1) != VERSION) {
+            throw new IllegalStateException("지원하지 않는 도로 그래프 파일 형식입니다.");
+        }
+        nodeCount = header.get(2);
+        edgeCount = header.get(3);
+        int landmarkCount = header.get(4);
+
+        int offset = HEADER_INTS;
+        latitudes = slice(buffer, offset, nodeCount).asFloatBuffer();
+        offset += nodeCount;
+        longitudes = slice(buffer, offset, nodeCount).asFloatBuffer();
+        offset += nodeCount;
+        firstEdge = slice(buffer, offset, nodeCount + 1).asIntBuffer();
+        offset += nodeCount + 1;
+        edgeTarget = slice(buffer, offset, edgeCount).asIntBuffer();
+        offset += edgeCount;
+        edgeLength = slice(buffer, offset, edgeCount).asFloatBuffer();
+        offset += edgeCount;
+
+        offset += landmarkCount; // 랜드마크 노드 번호 (탐색에는 거리표만 사용)
+        landmarkDistances = new FloatBuffer[landmarkCount];
+        for (int l = 0; l < landmarkCount; l++) {
+            landmarkDistances[l] = slice(buffer, offset, nodeCount).asFloatBuffer();
+            offset += nodeCount;
+        }
+
+        // 노드 격자 색인 (계수 정렬)
+        int[] cells = new int[nodeCount];
+        cellStart = new int[ROWS * COLS + 1];
+        for (int v = 0; v < nodeCount; v++) {
+            cells[v] = cellOf(latitudes.get(v), longitudes.get(v));
+            cellStart[cells[v] + 1]++;
+        }
+        for (int c = 1; c < cellStart.length; c++) cellStart[c] += cellStart[c - 1];
+        cellNodes = new int[nodeCount];
+        int[] cursor = cellStart.clone();
+        for (int v = 0; v < nodeCount; v++) cellNodes[cursor[cells[v]]++] = v;
+    }
+
+    // 그래프 파일 메모리 매핑 (2GB 미만 파일)
+    public static RoadGraph load(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new RoadGraph(buffer);
+        }
+    }
+
+    private static ByteBuffer slice(ByteBuffer buffer, int intOffset, int intCount) {
+        return buffer.slice(intOffset * Integer.BYTES, intCount * Integer.BYTES);
+    }
+
+    public int nodeCount() { return nodeCount; }
+    public int edgeCount() { return edgeCount; }
+    public double latitudeAt(int node) { return latitudes.get(node); }
+    public double longitudeAt(int node) { return longitudes.get(node); }
+    public int firstEdge(int node) { return firstEdge.get(node); }
+    public int edgeTarget(int edge) { return edgeTarget.get(edge); }
+    public float edgeLength(int edge) { return edgeLength.get(edge); }
+
+    // 파일에 포함된 랜드마크 거리표 (없으면 빈 배열)
+    FloatBuffer[] landmarkDistances() { return landmarkDistances.clone(); }
+
+    /**
+     * 좌표에서 가장 가까운 노드 (maxMeter 이내에 없으면 -1)
+     * - 격자를 한 겹씩 넓혀 가며 탐색하고, 남은 바깥 격자가 현재 최근접보다 멀면 종료
+     */
+    public int nearestNode(double lat, double lon, double maxMeter) {
+        int row = clamp((int) Math.floor((lat - MIN_LAT) / CELL_DEG), ROWS);
+        int col = clamp((int) Math.floor((lon - MIN_LON) / CELL_DEG), COLS);
+        double cellMeter = CELL_DEG * 111_320 * Math.cos(Math.toRadians(lat)); // 격자 한 칸의 최소 폭
+        int maxRing = (int) Math.ceil(maxMeter / cellMeter) + 1;
+
+        int best = -1;
+        double bestMeter = maxMeter;
+        for (int ring = 0; ring <= maxRing; ring++) {
+            if (best >= 0 && (ring - 1) * cellMeter > bestMeter) break;
+            for (int r = row - ring; r <= row + ring; r++) {
+                if (r < 0 || r >= ROWS) continue;
+                for (int c = col - ring; c <= col + ring; c++) {
+                    if (c < 0 || c >= COLS) continue;
+                    if (Math.abs(r - row) != ring && Math.abs(c - col) != ring) continue; // 이번 겹의 테두리만
+                    int cell = r * COLS + c;
+                    for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+                        int v = cellNodes[i];
+                        double d = GeoDistance.meter(lat, lon, latitudes.get(v), longitudes.get(v));
+                        if (d <= bestMeter) {
+                            bestMeter = d;
+                            best = v;
+                        }
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    private static int cellOf(double lat, double lon) {
+        return clamp((int) Math.floor((lat - MIN_LAT) / CELL_DEG), ROWS) * COLS
+                + clamp((int) Math.floor((lon - MIN_LON) / CELL_DEG), COLS);
+    }
+
+    private static int clamp(int index, int size) {
+        return Math.max(0, Math.min(size - 1, index));
+    }
+}
@@ -0,0 +1,159 @@
+package com.inha.pro.safetynevi.service.map;
+
+import com.inha.pro.safetynevi.util.map.GeoDistance;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 오프라인 도로 그래프 파일(RoadGraph 형식, "SNRG") 생성기
+ * - 노드(위경도)와 도로 구간을 받아 양방향 간선의 CSR 인접 리스트로 정렬하여 기록
+ * - 간선 길이를 생략하면 양 끝점 직선거리 사용 (RoadGraph의 "직선거리 이상" 조건 충족)
+ * - 랜드마크 거리표는 기록하지 않음 (적재 시 RoadGraphRouter가 계산)
+ *
+ * [명령줄 사용] OSM 등에서 추출한 CSV 두 개를 변환 (첫 줄이 숫자가 아니면 헤더로 간주)
+ *   nodes.csv : id,latitude,longitude
+ *   edges.csv : fromId,toId[,lengthMeter]    보행 가능한 도로 구간 (한 방향만 적으면 됨)
+ *
+ *   java -cp SafetyNevi.jar -Dloader.main=com.inha.pro.safetynevi.service.map.RoadGraphBuilder \
+ *        org.springframework.boot.loader.launch.PropertiesLauncher nodes.csv edges.csv road-graph.bin
+ *   생성된 파일 경로를 route.offline.graph-path에 설정
+ */
+public final class RoadGraphBuilder {
+
+    private float[] latitudes = new float[1024];
+    private float[] longitudes = new float[1024];
+    private int nodeCount = 0;
+
+    // 간선은 방향별로 하나씩 (from, to, length)
+    private int[] edgeFrom = new int[2048];
+    private int[] edgeTo = new int[2048];
+    private float[] edgeLength = new float[2048];
+    private int edgeCount = 0;
+
+    // 노드 추가 (반환값 = 노드 번호, 추가 순서대로 0부터)
+    public int addNode(double lat, double lon) {
+        if (nodeCount == latitudes.length) {
+            latitudes = Arrays.copyOf(latitudes, nodeCount * 2);
+            longitudes = Arrays.copyOf(longitudes, nodeCount * 2);
+        }
+        latitudes[nodeCount] = (float) lat;
+        longitudes[nodeCount] = (float) lon;
+        return nodeCount++;
+    }
+
+    // 양방향 도로 구간 추가 (길이: 직선거리)
+    public void addRoad(int from, int to) {
+        addRoad(from, to, GeoDistance.meter(latitudes[from], longitudes[from], latitudes[to], longitudes[to]));
+    }
+
+    // 양방향 도로 구간 추가 (길이 m, 직선거리보다 짧으면 직선거리로 보정)
+    public void addRoad(int from, int to, double lengthMeter) {
+        if (from < 0 || from >= nodeCount || to < 0 || to >= nodeCount) {
+            throw new IllegalArgumentException("존재하지 않는 노드입니다: " + from + " -> " + to);
+        }
+        if (from == to) return;
+        double straight = GeoDistance.meter(latitudes[from], longitudes[from], latitudes[to], longitudes[to]);
+        float length = (float) Math.max(lengthMeter, straight);
+        addEdge(from, to, length);
+        addEdge(to, from, length);
+    }
+
+    private void addEdge(int from, int to, float length) {
+        if (edgeCount == edgeFrom.length) {
+            edgeFrom = Arrays.copyOf(edgeFrom, edgeCount * 2);
+            edgeTo = Arrays.copyOf(edgeTo, edgeCount * 2);
+            edgeLength = Arrays.copyOf(edgeLength, edgeCount * 2);
+        }
+        edgeFrom[edgeCount] = from;
+        edgeTo[edgeCount] = to;
+        edgeLength[edgeCount] = length;
+        edgeCount++;
+    }
+
+    // RoadGraph 형식으로 기록 (간선은 출발 노드 기준 계수 정렬)
+    public void write(OutputStream out) throws IOException {
+        int[] firstEdge = new int[nodeCount + 1];
+        for (int e = 0; e < edgeCount; e++) firstEdge[edgeFrom[e] + 1]++;
+        for (int v = 0; v < nodeCount; v++) firstEdge[v + 1] += firstEdge[v];
+
+        int[] targets = new int[edgeCount];
+        float[] lengths = new float[edgeCount];
+        int[] cursor = Arrays.copyOf(firstEdge, nodeCount);
+        for (int e = 0; e < edgeCount; e++) {
+            int slot = cursor[edgeFrom[e]]++;
+            targets[slot] = edgeTo[e];
+            lengths[slot] = edgeLength[e];
+        }
+
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(RoadGraph.MAGIC);
+        data.writeInt(RoadGraph.VERSION);
+        data.writeInt(nodeCount);
+        data.writeInt(edgeCount);
+        data.writeInt(0); // 랜드마크 없음
+        for (int v = 0; v < nodeCount; v++) data.writeFloat(latitudes[v]);
+        for (int v = 0; v < nodeCount; v++) data.writeFloat(longitudes[v]);
+        for (int v = 0; v <= nodeCount; v++) data.writeInt(firstEdge[v]);
+        for (int e = 0; e < edgeCount; e++) data.writeInt(targets[e]);
+        for (int e = 0; e < edgeCount; e++) data.writeFloat(lengths[e]);
+        data.flush();
+    }
+
+    public void write(Path path) throws IOException {
+        try (OutputStream out = Files.newOutputStream(path)) {
+            write(out);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            System.err.println("usage: RoadGraphBuilder <nodes.csv> <edges.csv> <output>");
+            System.exit(2);
+        }
+        RoadGraphBuilder builder = new RoadGraphBuilder();
+        Map<Long, Integer> nodeIds = new HashMap<>();
+
+        try (BufferedReader reader = Files.newBufferedReader(Path.of(args[0]), StandardCharsets.UTF_8)) {
+            for (String line; (line = reader.readLine()) != null; ) {
+                String[] cols = line.split(",");
+                if (cols.length < 3 || !isNumber(cols[0])) continue;
+                nodeIds.put(Long.parseLong(cols[0].trim()),
+                        builder.addNode(Double.parseDouble(cols[1].trim()), Double.parseDouble(cols[2].trim())));
+            }
+        }
+        try (BufferedReader reader = Files.newBufferedReader(Path.of(args[1]), StandardCharsets.UTF_8)) {
+            for (String line; (line = reader.readLine()) != null; ) {
+                String[] cols = line.split(",");
+                if (cols.length < 2 || !isNumber(cols[0])) continue;
+                Integer from = nodeIds.get(Long.parseLong(cols[0].trim()));
+                Integer to = nodeIds.get(Long.parseLong(cols[1].trim()));
+                if (from == null || to == null) continue; // 추출 범위 밖 노드를 잇는 구간
+                if (cols.length >= 3 && !cols[2].isBlank()) builder.addRoad(from, to, Double.parseDouble(cols[2].trim()));
+                else builder.addRoad(from, to);
+            }
+        }
+
+        builder.write(Path.of(args[2]));
+        System.out.printf("road graph written: %d nodes, %d edges -> %s%n", builder.nodeCount, builder.edgeCount, args[2]);
+    }
+
+    private static boolean isNumber(String value) {
+        String trimmed = value.trim();
+        if (trimmed.isEmpty()) return false;
+        for (int i = 0; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if (!(Character.isDigit(c) || (i == 0 && c == '-'))) return false;
+        }
+        return true;
+    }
+}
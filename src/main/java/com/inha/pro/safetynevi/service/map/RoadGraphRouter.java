@@ -0,0 +1,290 @@
+package com.inha.pro.safetynevi.service.map;
+
+import com.inha.pro.safetynevi.util.map.GeoDistance;
+
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.IntPredicate;
+
+/**
+ * 도로 그래프 최단경로 탐색기 (A* + ALT)
+ * - ALT(A*, Landmarks, Triangle inequality): 랜드마크 L에서의 최단거리 d(L, ·)로
+ *   |d(L, t) - d(L, v)| <= d(v, t) 인 하한을 얻어 A* 휴리스틱으로 사용 (직선거리 하한과 함께 최댓값)
+ * - 그래프 파일에 랜드마크 거리표가 없으면 생성 시 최원점(Farthest) 방식으로 선정하여 계산
+ * - 탐색 상태 배열(노드 수 크기)은 재사용하며, 동시 탐색 수만큼만 생성
+ *   (초과 요청은 최대 stateWait 동안 대기하고, 그래도 없으면 TimeoutException)
+ * - 위험 노드(재난 구역 내부)로 들어가는 간선은 길이에 가중치를 곱해 우회 유도
+ *   (비용이 늘기만 하므로 휴리스틱은 그대로 유효, 구역 안에서 출발해도 빠져나오는 경로는 찾을 수 있음)
+ */
+final class RoadGraphRouter {
+
+    private final RoadGraph graph;
+    private final FloatBuffer[] landmarks;
+    private final BlockingQueue<SearchState> states;
+    private final long stateWaitMillis;
+
+    private RoadGraphRouter(RoadGraph graph, FloatBuffer[] landmarks, int maxConcurrentSearches, long stateWaitMillis) {
+        this.graph = graph;
+        this.landmarks = landmarks;
+        this.stateWaitMillis = stateWaitMillis;
+        this.states = new ArrayBlockingQueue<>(maxConcurrentSearches);
+        for (int i = 0; i < maxConcurrentSearches; i++) states.add(new SearchState(graph.nodeCount()));
+    }
+
+    static RoadGraphRouter create(RoadGraph graph, int landmarkCount, int maxConcurrentSearches, long stateWaitMillis) {
+        FloatBuffer[] landmarks = graph.landmarkDistances();
+        if (landmarks.length == 0 && landmarkCount > 0) {
+            landmarks = selectLandmarks(graph, landmarkCount);
+        }
+        return new RoadGraphRouter(graph, landmarks, maxConcurrentSearches, stateWaitMillis);
+    }
+
+    RoadGraph graph() {
+        return graph;
+    }
+
+    // 탐색 결과 (경유 노드 순서, 총 거리 m)
+    record Path(int[] nodes, double distanceMeter) {
+    }
+
+    /**
+     * source -> target 최단경로 (도달 불가면 null)
+     * @param hazard        위험 노드 판정 (null이면 가중치 없음)
+     * @param hazardPenalty 위험 노드로 들어가는 간선 길이 배수
+     * @throws TimeoutException 동시 탐색 수가 가득 차 stateWait 안에 탐색 상태를 얻지 못한 경우
+     */
+    Path route(int source, int target, IntPredicate hazard, float hazardPenalty) throws InterruptedException, TimeoutException {
+        SearchState s = states.poll(stateWaitMillis, TimeUnit.MILLISECONDS);
+        if (s == null) throw new TimeoutException("도로 그래프 탐색 대기 시간 초과");
+        try {
+            return search(s, source, target, hazard, hazardPenalty);
+        } finally {
+            states.add(s);
+        }
+    }
+
+    private Path search(SearchState s, int source, int target, IntPredicate hazard, float hazardPenalty) {
+        s.reset();
+        double targetLat = graph.latitudeAt(target), targetLon = graph.longitudeAt(target);
+
+        s.relax(source, 0f, -1);
+        s.heap.push(heuristic(source, target, targetLat, targetLon), source);
+        while (!s.heap.isEmpty()) {
+            int v = s.heap.pop();
+            if (s.isClosed(v)) continue;
+            s.close(v);
+            if (v == target) return toPath(s.nodes(target));
+
+            float gv = s.g(v);
+            for (int e = graph.firstEdge(v), end = graph.firstEdge(v + 1); e < end; e++) {
+                int w = graph.edgeTarget(e);
+                if (s.isClosed(w)) continue;
+                float length = graph.edgeLength(e);
+                float gw = gv + ((hazard != null && hazard.test(w)) ? length * hazardPenalty : length);
+                if (gw < s.g(w)) {
+                    s.relax(w, gw, v);
+                    double h = heuristic(w, target, targetLat, targetLon);
+                    if (h != Double.POSITIVE_INFINITY) s.heap.push(gw + h, w);
+                }
+            }
+        }
+        return null;
+    }
+
+    // 경유 노드 -> 경로 (가중치를 제외한 실제 거리 합산)
+    private Path toPath(int[] nodes) {
+        double distance = 0;
+        for (int i = 0; i + 1 < nodes.length; i++) {
+            float shortest = Float.POSITIVE_INFINITY;
+            for (int e = graph.firstEdge(nodes[i]), end = graph.firstEdge(nodes[i] + 1); e < end; e++) {
+                if (graph.edgeTarget(e) == nodes[i + 1]) shortest = Math.min(shortest, graph.edgeLength(e));
+            }
+            distance += shortest;
+        }
+        return new Path(nodes, distance);
+    }
+
+    // 목적지까지 거리의 하한 (직선거리, 랜드마크 삼각부등식 중 최댓값, 연결되지 않았으면 무한대)
+    private double heuristic(int v, int target, double targetLat, double targetLon) {
+        double h = GeoDistance.meter(graph.latitudeAt(v), graph.longitudeAt(v), targetLat, targetLon);
+        for (FloatBuffer d : landmarks) {
+            float dv = d.get(v), dt = d.get(target);
+            if (dv == Float.POSITIVE_INFINITY && dt == Float.POSITIVE_INFINITY) continue;
+            if (dv == Float.POSITIVE_INFINITY || dt == Float.POSITIVE_INFINITY) return Double.POSITIVE_INFINITY;
+            h = Math.max(h, Math.abs(dt - dv));
+        }
+        return h;
+    }
+
+    // --- 랜드마크 선정 ---
+
+    // 최원점 방식: 직전까지 선정된 랜드마크들로부터 가장 먼(도달 가능한) 노드를 다음 랜드마크로 선정
+    private static FloatBuffer[] selectLandmarks(RoadGraph graph, int count) {
+        int n = graph.nodeCount();
+        if (n == 0) return new FloatBuffer[0];
+
+        float[] minDistance = new float[n];
+        Arrays.fill(minDistance, Float.POSITIVE_INFINITY);
+        FloatBuffer[] result = new FloatBuffer[count];
+
+        int next = farthest(dijkstra(graph, 0), null); // 임의 노드에서 가장 먼 노드부터 시작
+        for (int l = 0; l < count; l++) {
+            float[] distance = dijkstra(graph, next);
+            result[l] = FloatBuffer.wrap(distance);
+            for (int v = 0; v < n; v++) minDistance[v] = Math.min(minDistance[v], distance[v]);
+            next = farthest(minDistance, distance);
+        }
+        return result;
+    }
+
+    // 도달 가능한 노드 중 거리가 가장 큰 노드 (reachable이 주어지면 해당 배열 기준 도달 가능 노드만)
+    private static int farthest(float[] distance, float[] reachable) {
+        int best = 0;
+        float bestDistance = -1;
+        for (int v = 0; v < distance.length; v++) {
+            float d = distance[v];
+            if (d == Float.POSITIVE_INFINITY) continue;
+            if (reachable != null && reachable[v] == Float.POSITIVE_INFINITY) continue;
+            if (d > bestDistance) {
+                bestDistance = d;
+                best = v;
+            }
+        }
+        return best;
+    }
+
+    private static float[] dijkstra(RoadGraph graph, int source) {
+        float[] distance = new float[graph.nodeCount()];
+        Arrays.fill(distance, Float.POSITIVE_INFINITY);
+        boolean[] closed = new boolean[graph.nodeCount()];
+        MinHeap heap = new MinHeap();
+
+        distance[source] = 0f;
+        heap.push(0, source);
+        while (!heap.isEmpty()) {
+            int v = heap.pop();
+            if (closed[v]) continue;
+            closed[v] = true;
+            for (int e = graph.firstEdge(v), end = graph.firstEdge(v + 1); e < end; e++) {
+                int w = graph.edgeTarget(e);
+                float d = distance[v] + graph.edgeLength(e);
+                if (d < distance[w]) {
+                    distance[w] = d;
+                    heap.push(d, w);
+                }
+            }
+        }
+        return distance;
+    }
+
+    // --- 탐색 상태 ---
+
+    // 노드별 상태는 세대 번호(stamp)로 유효성을 판별하여 매 탐색마다 배열을 초기화하지 않음
+    private static final class SearchState {
+        private final int[] stamp;
+        private final float[] g;
+        private final int[] parent;
+        private final boolean[] closed;
+        private final MinHeap heap = new MinHeap();
+        private int generation = 0;
+
+        SearchState(int n) {
+            stamp = new int[n];
+            g = new float[n];
+            parent = new int[n];
+            closed = new boolean[n];
+        }
+
+        void reset() {
+            heap.clear();
+            if (++generation == Integer.MAX_VALUE) {
+                Arrays.fill(stamp, 0);
+                generation = 1;
+            }
+        }
+
+        float g(int v) {
+            return (stamp[v] == generation) ? g[v] : Float.POSITIVE_INFINITY;
+        }
+
+        void relax(int v, float distance, int from) {
+            if (stamp[v] != generation) {
+                stamp[v] = generation;
+                closed[v] = false;
+            }
+            g[v] = distance;
+            parent[v] = from;
+        }
+
+        boolean isClosed(int v) {
+            return stamp[v] == generation && closed[v];
+        }
+
+        void close(int v) {
+            closed[v] = true;
+        }
+
+        int[] nodes(int target) {
+            int length = 0;
+            for (int v = target; v >= 0; v = parent[v]) length++;
+            int[] nodes = new int[length];
+            for (int v = target, i = length - 1; v >= 0; v = parent[v], i--) nodes[i] = v;
+            return nodes;
+        }
+    }
+
+    // (우선순위, 노드) 이진 최소 힙 (갱신 대신 중복 삽입, 꺼낼 때 확정 여부로 걸러냄)
+    private static final class MinHeap {
+        private double[] keys = new double[256];
+        private int[] values = new int[256];
+        private int size = 0;
+
+        void push(double key, int value) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            int i = size++;
+            while (i > 0) {
+                int p = (i - 1) >>> 1;
+                if (keys[p] <= key) break;
+                keys[i] = keys[p];
+                values[i] = values[p];
+                i = p;
+            }
+            keys[i] = key;
+            values[i] = value;
+        }
+
+        int pop() {
+            int top = values[0];
+            double key = keys[--size];
+            int value = values[size];
+            int i = 0;
+            while (true) {
+                int c = 2 * i + 1;
+                if (c >= size) break;
+                if (c + 1 < size && keys[c + 1] < keys[c]) c++;
+                if (keys[c] >= key) break;
+                keys[i] = keys[c];
+                values[i] = values[c];
+                i = c;
+            }
+            keys[i] = key;
+            values[i] = value;
+            return top;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void clear() {
+            size = 0;
+        }
+    }
+}
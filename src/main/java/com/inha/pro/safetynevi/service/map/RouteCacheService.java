@@ -0,0 +1,98 @@
+package com.inha.pro.safetynevi.service.map;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.inha.pro.safetynevi.dto.map.RouteCacheStatsDto;
+import com.inha.pro.safetynevi.dto.map.RoutePathDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 길찾기 경로 캐시 서비스
+ * - 키: 출발지 격자(originCellMeter, 기본 100m) + 목적지 좌표(약 1m 단위 반올림, 사실상 목적지 시설)
+ * - 같은 격자에서 출발하는 요청은 격자 중심 좌표로 한 번만 카카오 API를 호출하고 결과를 공유
+ * - AsyncCache이므로 동일 키의 동시 요청은 진행 중인 호출 하나를 함께 기다림 (Single-flight)
+ * - 실패한 호출은 캐시에 남지 않음 (다음 요청에서 재시도)
+ */
+@Service
+public class RouteCacheService {
+
+    private static final double METERS_PER_DEG_LAT = 111_320;
+    private static final double REFERENCE_LAT = 36.0; // 경도 간격 계산 기준 위도
+    private static final double DESTINATION_SCALE = 100_000; // 소수점 5자리 (약 1m)
+
+    private final KakaoRouteClient kakaoRouteClient;
+    private final double latStep;
+    private final double lonStep;
+    private final AsyncCache<RouteKey, RoutePathDto> routeCache;
+
+    private final LongAdder upstreamCalls = new LongAdder();
+    private final LongAdder upstreamFailures = new LongAdder();
+    private final LongAdder upstreamMillis = new LongAdder();
+    private final AtomicLong upstreamMaxMillis = new AtomicLong();
+
+    public RouteCacheService(KakaoRouteClient kakaoRouteClient,
+                             @Value("${route.cache.origin-cell-meter:100}") int originCellMeter,
+                             @Value("${route.cache.ttl-minutes:10}") long ttlMinutes,
+                             @Value("${route.cache.max-size:10000}") long maxSize) {
+        this.kakaoRouteClient = kakaoRouteClient;
+        this.latStep = originCellMeter / METERS_PER_DEG_LAT;
+        this.lonStep = originCellMeter / (METERS_PER_DEG_LAT * Math.cos(Math.toRadians(REFERENCE_LAT)));
+        this.routeCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .buildAsync();
+    }
+
+    // 경로 조회 (캐시 미스 시 카카오 API 호출, 동일 키 동시 요청은 하나로 병합)
+    public CompletableFuture<RoutePathDto> getRoute(double startLat, double startLon, double endLat, double endLon) {
+        RouteKey key = new RouteKey(
+                (int) Math.floor(startLat / latStep),
+                (int) Math.floor(startLon / lonStep),
+                Math.round(endLat * DESTINATION_SCALE) / DESTINATION_SCALE,
+                Math.round(endLon * DESTINATION_SCALE) / DESTINATION_SCALE);
+        return routeCache.get(key, this::load);
+    }
+
+    private CompletableFuture<RoutePathDto> load(RouteKey key, Executor executor) {
+        upstreamCalls.increment();
+        long startedAt = System.nanoTime();
+        return kakaoRouteClient.fetchRoute(
+                        (key.originRow() + 0.5) * latStep, (key.originCol() + 0.5) * lonStep,
+                        key.endLat(), key.endLon())
+                .toFuture()
+                .whenComplete((route, error) -> {
+                    long millis = (System.nanoTime() - startedAt) / 1_000_000;
+                    upstreamMillis.add(millis);
+                    upstreamMaxMillis.accumulateAndGet(millis, Math::max);
+                    if (error != null) upstreamFailures.increment();
+                });
+    }
+
+    public RouteCacheStatsDto getStats() {
+        CacheStats stats = routeCache.synchronous().stats();
+        long calls = upstreamCalls.sum();
+        return RouteCacheStatsDto.builder()
+                .size(routeCache.synchronous().estimatedSize())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .upstreamCalls(calls)
+                .upstreamFailures(upstreamFailures.sum())
+                .upstreamAvgMillis(calls > 0 ? (double) upstreamMillis.sum() / calls : 0)
+                .upstreamMaxMillis(upstreamMaxMillis.get())
+                .build();
+    }
+
+    private record RouteKey(int originRow, int originCol, double endLat, double endLon) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.inha.pro.safetynevi.service.map;
+
+import com.inha.pro.safetynevi.dto.map.RoutePathDto;
+import reactor.core.publisher.Mono;
+
+/**
+ * 길찾기 경로 제공자
+ * - kakao: 카카오 모빌리티 API (캐시 경유)
+ * - offline: 내장 도로 그래프 기반 탐색 (네트워크 불필요)
+ */
+public interface RouteProvider {
+
+    // 제공자 이름 (/api/route/path?provider= 값)
+    String getName();
+
+    // 현재 경로 탐색 가능 여부 (예: 오프라인 그래프 적재 완료)
+    boolean isAvailable();
+
+    Mono<RoutePathDto> findRoute(double startLat, double startLon, double endLat, double endLon);
+}
@@ -1,146 +1,375 @@
 package com.inha.pro.safetynevi.service.map;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.inha.pro.safetynevi.dao.map.ShelterRepository;
+import com.inha.pro.safetynevi.dto.map.BatchRouteDto;
 import com.inha.pro.safetynevi.dto.map.RouteDto;
-import com.inha.pro.safetynevi.entity.Shelter;
+import com.inha.pro.safetynevi.dto.map.RouteOriginDto;
+import com.inha.pro.safetynevi.dto.map.RoutePathDto;
+import com.inha.pro.safetynevi.exception.ServiceUnavailableException;
+import com.inha.pro.safetynevi.service.calamity.HazardZoneIndex;
+import com.inha.pro.safetynevi.service.calamity.HazardZoneSnapshot;
+import com.inha.pro.safetynevi.util.map.GeoDistance;
+import com.inha.pro.safetynevi.util.map.HilbertCurve;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class RouteService {
 
-    private final ShelterRepository shelterRepository;
+    private final ShelterIndexService shelterIndexService;
+    private final ShelterCoverageService shelterCoverageService;
+    private final KakaoRouteProvider kakaoRouteProvider;
+    private final OfflineRouteProvider offlineRouteProvider;
+    private final HazardZoneIndex hazardZoneIndex;
+    private final ShelterLoadService shelterLoadService;
+
+    // 길찾기 제공자 자동 선택 (카카오 우선, 실패 시 오프라인 그래프)
+    public static final String ROUTE_PROVIDER_AUTO = "auto";
 
     // 평균 속도 설정
     private static final double WALK_SPEED_KMPH = 4.0; // 시속 4km
     private static final double CAR_SPEED_KMPH = 30.0; // 시속 30km (도심 재난 상황 가정)
 
+    // 대형 대피소 기준을 충족하는 시설이 없을 때 비교할 주변 후보 수
+    private static final int LARGE_SHELTER_CANDIDATES = 50;
+
+    // 혼잡도 반영 시 1순위 추천으로 비교할 가까운 운영중 대피소 수
+    private static final int LOAD_BALANCE_CANDIDATES = 8;
+
+    // 길찾기 목적지를 대피소로 간주하는 최대 거리 (m)
+    private static final double ROUTE_DESTINATION_SNAP_METER = 30;
+
+    // 재난 구역 내 대피소를 제외할 때 조회하는 최대 후보 수
+    private static final int MAX_HAZARD_CANDIDATES = 1024;
+
+    // 일괄 추천 설정 (요청으로 받는 최대 출발지 수, 후보를 공유하는 묶음 크기, 묶음당 공유 후보 수)
+    public static final int MAX_BATCH_ORIGINS = 1_000;
+    private static final int BATCH_CHUNK_SIZE = 64;
+    private static final int BATCH_SHARED_CANDIDATES = 128;
+    private static final int ORIGIN_INDEX_BITS = 20; // 정렬 키에 담을 수 있는 출발지 수 < 2^20
+
+    // 일괄 추천 전용 스레드 풀 (스레드 수와 대기열 크기 제한, 가득 차면 503)
+    private static final int BATCH_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+    private static final int BATCH_QUEUE_CAPACITY = 32;
+    private final ExecutorService batchExecutor = new ThreadPoolExecutor(
+            BATCH_THREADS, BATCH_THREADS, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(BATCH_QUEUE_CAPACITY),
+            r -> {
+                Thread thread = new Thread(r, "route-batch");
+                thread.setDaemon(true);
+                return thread;
+            });
+
     /**
      * 현재 위치 기준 최적의 대피소 3곳 추천
+     * - 전체 대피소를 읽지 않고 KD-Tree 최근접 탐색으로 조건별 후보만 조회
+     * - 커버리지 격자가 준비되어 있으면 운영중/대형 대피소는 격자 조회(O(1))로 대체
+     * - 1순위 추천은 실시간 혼잡도를 반영하고, 추천 결과를 혼잡도 집계에 기록 (requester: ShelterLoadService 참고)
+     */
+    public List<RouteDto> getOptimalShelters(double currentLat, double currentLon, String requester) {
+        ShelterKdTree tree = shelterIndexService.getTree();
+        ShelterCoverageGrid grid = shelterCoverageService.getGrid(tree);
+        BitSet blocked = hazardZoneIndex.blockedShelters(tree);
+        List<RouteDto> results = recommend(tree, grid, blocked, true, currentLat, currentLon, tree::nearest);
+        if (!results.isEmpty()) shelterLoadService.recordRecommended(results.get(0).getFacilityId(), requester);
+        return results;
+    }
+
+    /**
+     * 여러 출발지에 대한 일괄 대피소 추천 (관리자 API 요청, 최대 MAX_BATCH_ORIGINS개)
+     */
+    public List<BatchRouteDto> getOptimalSheltersBatch(List<RouteOriginDto> origins) {
+        if (origins != null && origins.size() > MAX_BATCH_ORIGINS) {
+            throw new IllegalArgumentException("한 번에 요청할 수 있는 출발지는 최대 " + MAX_BATCH_ORIGINS + "개입니다.");
+        }
+        return recommendAll(origins);
+    }
+
+    /**
+     * 출발지 전체에 대한 대피소 추천 (재난 구역 내 회원/즐겨찾기 장소 등 서버가 조회한 출발지)
+     * - 출발지를 힐베르트 곡선 순으로 정렬한 뒤 인접한 BATCH_CHUNK_SIZE개씩 묶어 대피소 후보를 공유
+     * - 묶음은 전용 스레드 풀에서 병렬 처리 (요청당 작업 BATCH_THREADS개가 남은 묶음을 나눠 가져감)
+     * - 결과는 입력 순서대로 반환
      */
-    public List<RouteDto> getOptimalShelters(double currentLat, double currentLon) {
-        // 1. 모든 대피소 가져오기 (실제 서비스에선 반경 5km 등으로 1차 필터링 권장)
-        List<Shelter> allShelters = shelterRepository.findAll();
-
-        // 2. DTO 변환 및 거리 계산
-        List<RouteDto> candidates = allShelters.stream()
-                .map(shelter -> {
-                    double dist = calculateDistance(currentLat, currentLon, shelter.getLatitude(), shelter.getLongitude());
-                    return RouteDto.builder()
-                            .facilityId(shelter.getId())
-                            .name(shelter.getName())
-                            .type("shelter")
-                            .latitude(shelter.getLatitude())
-                            .longitude(shelter.getLongitude())
-                            .operatingStatus(shelter.getOperatingStatus())
-                            .maxCapacity(shelter.getMaxCapacity() != null ? shelter.getMaxCapacity() : 0)
-                            .distanceMeter(dist)
-                            .timeWalk(calculateTime(dist, WALK_SPEED_KMPH))
-                            .timeCar(calculateTime(dist, CAR_SPEED_KMPH))
+    public List<BatchRouteDto> recommendAll(List<RouteOriginDto> origins) {
+        if (origins == null || origins.isEmpty()) return List.of();
+        if (origins.size() >= (1 << ORIGIN_INDEX_BITS)) {
+            throw new IllegalArgumentException("출발지가 너무 많습니다: " + origins.size());
+        }
+
+        ShelterKdTree tree = shelterIndexService.getTree();
+        ShelterCoverageGrid grid = shelterCoverageService.getGrid(tree);
+        BitSet blocked = hazardZoneIndex.blockedShelters(tree);
+
+        // 힐베르트 키 상위 비트 + 입력 순번 하위 비트로 정렬 (인접 출발지가 같은 묶음에 모이도록)
+        int n = origins.size();
+        long[] sortKeys = new long[n];
+        for (int i = 0; i < n; i++) {
+            RouteOriginDto origin = origins.get(i);
+            sortKeys[i] = (HilbertCurve.encode(origin.getLatitude(), origin.getLongitude()) << ORIGIN_INDEX_BITS) | i;
+        }
+        Arrays.sort(sortKeys);
+
+        int[] order = new int[n];
+        double[] lats = new double[n];
+        double[] lons = new double[n];
+        for (int k = 0; k < n; k++) {
+            order[k] = (int) (sortKeys[k] & ((1L << ORIGIN_INDEX_BITS) - 1));
+            lats[k] = origins.get(order[k]).getLatitude();
+            lons[k] = origins.get(order[k]).getLongitude();
+        }
+
+        BatchRouteDto[] results = new BatchRouteDto[n];
+        int chunks = (n + BATCH_CHUNK_SIZE - 1) / BATCH_CHUNK_SIZE;
+        AtomicInteger nextChunk = new AtomicInteger();
+        Runnable worker = () -> {
+            for (int chunk; (chunk = nextChunk.getAndIncrement()) < chunks; ) {
+                int from = chunk * BATCH_CHUNK_SIZE;
+                int to = Math.min(n, from + BATCH_CHUNK_SIZE);
+                SharedShelterCandidates shared = SharedShelterCandidates.around(tree, lats, lons, from, to, BATCH_SHARED_CANDIDATES);
+
+                for (int k = from; k < to; k++) {
+                    RouteOriginDto origin = origins.get(order[k]);
+                    results[order[k]] = BatchRouteDto.builder()
+                            .key(origin.getKey())
+                            .source(origin.getSource())
+                            .latitude(lats[k])
+                            .longitude(lons[k])
+                            .routes(recommend(tree, grid, blocked, false, lats[k], lons[k], shared::nearest))
                             .build();
-                })
-                .collect(Collectors.toList());
+                }
+            }
+        };
+
+        // 대기열이 차면 이미 등록된 작업만으로 처리 (하나도 등록하지 못하면 503)
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < Math.min(BATCH_THREADS, chunks); i++) {
+            try {
+                futures.add(batchExecutor.submit(worker));
+            } catch (RejectedExecutionException e) {
+                break;
+            }
+        }
+        if (futures.isEmpty()) {
+            throw new ServiceUnavailableException("일괄 추천 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            for (Future<?> future : futures) future.get();
+        } catch (InterruptedException e) {
+            nextChunk.set(chunks);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("일괄 추천이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            nextChunk.set(chunks);
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw new IllegalStateException("일괄 추천 실패", e.getCause());
+        }
+        return Arrays.asList(results);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        batchExecutor.shutdownNow();
+    }
+
+    // 조건별 최근접 대피소 조회 방식 (단건: KD-Tree 직접 조회, 일괄: 묶음 공유 후보)
+    @FunctionalInterface
+    private interface ShelterFinder {
+        int[] nearest(double lat, double lon, int k, boolean requireOperating, int minCapacity);
+    }
+
+    /**
+     * 단건/일괄 공통 추천 로직
+     * - blocked: 재난 구역 안에 있어 추천에서 제외할 대피소 (트리 위치 비트셋)
+     *   제외 대상이 있으면 격자 결과가 제외 대상일 때 최근접 탐색으로 대체하고, 탐색 결과에서도 걸러냄
+     * - balanceLoad: 1순위(운영중)를 가까운 후보 중 "거리 x 혼잡 가중치"가 가장 작은 곳으로 선택
+     */
+    private List<RouteDto> recommend(ShelterKdTree tree, ShelterCoverageGrid grid, BitSet blocked, boolean balanceLoad,
+                                     double currentLat, double currentLon, ShelterFinder finder) {
+        if (!blocked.isEmpty()) {
+            ShelterFinder unfiltered = finder;
+            finder = (lat, lon, k, requireOperating, minCapacity) ->
+                    nearestOutsideHazards(unfiltered, blocked, lat, lon, k, requireOperating, minCapacity);
+        }
+        int cell = (grid != null) ? grid.cellOf(currentLat, currentLon) : -1;
 
-        // 3. 추천 로직 적용
         List<RouteDto> results = new ArrayList<>();
+        Set<Integer> picked = new HashSet<>();
 
-        // [1순위] 최적 대피소 (운영중이고 + 수용인원 100명 이상 + 거리 가중치)
-        // 간단하게: "운영중"인 곳 중에서 가장 가까운 곳
-        candidates.stream()
-                .filter(s -> isOperating(s.getOperatingStatus()))
-                .min(Comparator.comparingDouble(RouteDto::getDistanceMeter))
-                .ifPresent(best -> {
-                    best.setRecommendationType("✅ 최적 추천 (운영중)");
-                    results.add(best);
-                });
+        // [1순위] 최적 대피소: "운영중"인 곳 중에서 가장 가까운 곳
+        int gridOperating = (cell >= 0) ? grid.operatingAt(cell) : -1;
+        int[] operating;
+        if (balanceLoad && !shelterLoadService.isEmpty()) {
+            operating = leastLoaded(tree, finder.nearest(currentLat, currentLon, LOAD_BALANCE_CANDIDATES, true, 0), currentLat, currentLon);
+        } else if (cell >= 0 && !(gridOperating >= 0 && blocked.get(gridOperating))) {
+            operating = (gridOperating >= 0) ? new int[]{gridOperating} : new int[0];
+        } else {
+            operating = finder.nearest(currentLat, currentLon, 1, true, 0);
+        }
+        for (int pos : operating) {
+            results.add(toRouteDto(tree, pos, currentLat, currentLon, "✅ 최적 추천 (운영중)"));
+            picked.add(pos);
+        }
 
         // [2순위] 최단 거리 (상태 무관, 급할 때 무조건 가까운 곳)
-        candidates.stream()
-                .filter(s -> results.stream().noneMatch(r -> r.getFacilityId().equals(s.getFacilityId()))) // 이미 뽑힌거 제외
-                .min(Comparator.comparingDouble(RouteDto::getDistanceMeter))
-                .ifPresent(nearest -> {
-                    nearest.setRecommendationType("⚡ 최단 거리");
-                    results.add(nearest);
-                });
-
-        // [3순위] 대형 대피소 (수용인원 많은 순, 거리가 좀 멀더라도)
-        candidates.stream()
-                .filter(s -> results.stream().noneMatch(r -> r.getFacilityId().equals(s.getFacilityId())))
-                .sorted(Comparator.comparingInt(RouteDto::getMaxCapacity).reversed()) // 수용인원 내림차순
-                .findFirst()
-                .ifPresent(largest -> {
-                    largest.setRecommendationType("🏢 대형 시설");
-                    results.add(largest);
-                });
+        for (int pos : finder.nearest(currentLat, currentLon, picked.size() + 1, false, 0)) {
+            if (picked.add(pos)) {
+                results.add(toRouteDto(tree, pos, currentLat, currentLon, "⚡ 최단 거리"));
+                break;
+            }
+        }
+
+        // [3순위] 대형 대피소: 수용인원 기준 이상 중 가장 가까운 곳 (없으면 주변 후보 중 수용인원 최대)
+        int gridLarge = (cell >= 0) ? grid.largeAt(cell) : -1;
+        int largest = (gridLarge >= 0 && !picked.contains(gridLarge) && !blocked.get(gridLarge)) ? gridLarge : -1;
+        if (largest < 0) {
+            for (int pos : finder.nearest(currentLat, currentLon, picked.size() + 1, false, ShelterIndexService.LARGE_SHELTER_CAPACITY)) {
+                if (!picked.contains(pos)) {
+                    largest = pos;
+                    break;
+                }
+            }
+        }
+        if (largest < 0) {
+            for (int pos : finder.nearest(currentLat, currentLon, LARGE_SHELTER_CANDIDATES, false, 0)) {
+                if (!picked.contains(pos) && (largest < 0 || tree.capacityAt(pos) > tree.capacityAt(largest))) {
+                    largest = pos;
+                }
+            }
+        }
+        if (largest >= 0) {
+            results.add(toRouteDto(tree, largest, currentLat, currentLon, "🏢 대형 시설"));
+        }
 
         return results;
     }
 
-    // --- Helper Methods ---
+    // 후보 중 "거리 x 혼잡 가중치"가 가장 작은 대피소 (후보가 없으면 빈 배열)
+    private int[] leastLoaded(ShelterKdTree tree, int[] candidates, double currentLat, double currentLon) {
+        int best = -1;
+        double bestScore = Double.MAX_VALUE;
+        for (int pos : candidates) {
+            double distance = GeoDistance.meter(currentLat, currentLon, tree.latitudeAt(pos), tree.longitudeAt(pos));
+            double score = distance * shelterLoadService.penalty(tree.idAt(pos), tree.capacityAt(pos));
+            if (score < bestScore) {
+                bestScore = score;
+                best = pos;
+            }
+        }
+        return (best >= 0) ? new int[]{best} : new int[0];
+    }
+
+    // 재난 구역 밖 대피소 k개 (후보를 두 배씩 늘려 가며 조회, 상한 도달 시 찾은 만큼만 반환)
+    private int[] nearestOutsideHazards(ShelterFinder finder, BitSet blocked, double lat, double lon,
+                                        int k, boolean requireOperating, int minCapacity) {
+        for (int want = k; ; want *= 2) {
+            int[] candidates = finder.nearest(lat, lon, want, requireOperating, minCapacity);
+            int[] result = new int[k];
+            int size = 0;
+            for (int pos : candidates) {
+                if (blocked.get(pos)) continue;
+                result[size++] = pos;
+                if (size == k) return result;
+            }
+            if (candidates.length < want || want >= MAX_HAZARD_CANDIDATES) return Arrays.copyOf(result, size);
+        }
+    }
 
-    // Haversine 공식 (직선 거리 계산, 단위: 미터)
-    private double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
-        double R = 6371; // 지구 반지름 (km)
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLon = Math.toRadians(lon2 - lon1);
-        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) +
-                Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) *
-                Math.sin(dLon / 2) * Math.sin(dLon / 2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        return R * c * 1000; // 미터 단위 반환
+    private RouteDto toRouteDto(ShelterKdTree tree, int pos, double currentLat, double currentLon, String recommendationType) {
+        double dist = GeoDistance.meter(currentLat, currentLon, tree.latitudeAt(pos), tree.longitudeAt(pos));
+        return RouteDto.builder()
+                .facilityId(tree.idAt(pos))
+                .name(tree.nameAt(pos))
+                .type("shelter")
+                .latitude(tree.latitudeAt(pos))
+                .longitude(tree.longitudeAt(pos))
+                .operatingStatus(tree.statusAt(pos))
+                .maxCapacity(tree.capacityAt(pos))
+                .distanceMeter(dist)
+                .timeWalk(calculateTime(dist, WALK_SPEED_KMPH))
+                .timeCar(calculateTime(dist, CAR_SPEED_KMPH))
+                .recommendationType(recommendationType)
+                .build();
     }
 
+    // --- Helper Methods ---
+
     // 시간 계산 (분 단위)
     private int calculateTime(double distanceMeter, double speedKmph) {
         double speedMpm = (speedKmph * 1000) / 60; // 분당 미터 속도
         return (int) Math.ceil(distanceMeter / speedMpm);
     }
 
-    private boolean isOperating(String status) {
-        return status != null && (status.contains("정상") || status.contains("영업") || status.contains("운영"));
-    }
-
-    @Value("${api.kakao.restKey}") // application.properties에 있는 키 사용
-    private String kakaoRestKey;
-
-    private final WebClient webClient = WebClient.create();
-
     /**
-     * 카카오 모빌리티 API를 호출하여 실제 경로(Vertex) 데이터를 가져옵니다.
+     * 출발지 -> 목적지 상세 경로 (경로 좌표 + 거리/시간)
+     * @param provider kakao: 카카오 모빌리티, offline: 내장 도로 그래프,
+     *                 auto: 카카오 우선, 호출 실패 시 오프라인 그래프로 대체 (그래프 준비 시)
+     * @param requester 혼잡도 집계용 요청자 식별자 (null이면 집계하지 않음)
      */
-    public JsonNode getKakaoRoute(double startLat, double startLon, double endLat, double endLon) {
-        String url = "https://apis-navi.kakaomobility.com/v1/directions"
-                + "?origin=" + startLon + "," + startLat
-                + "&destination=" + endLon + "," + endLat
-                + "&priority=RECOMMEND"; // 추천 경로
-
-        try {
-            String response = webClient.get()
-                    .uri(url)
-                    .header("Authorization", "KakaoAK " + kakaoRestKey)
-                    .header("Content-Type", "application/json")
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block(); // 간단한 구현을 위해 동기식(block) 처리
+    public Mono<RoutePathDto> getRoutePath(double startLat, double startLon, double endLat, double endLon,
+                                           String provider, String requester) {
+        recordRouteDestination(endLat, endLon, requester);
+        Mono<RoutePathDto> route = switch (provider) {
+            case KakaoRouteProvider.NAME -> kakaoRouteProvider.findRoute(startLat, startLon, endLat, endLon);
+            case OfflineRouteProvider.NAME -> offlineRouteProvider.findRoute(startLat, startLon, endLat, endLon);
+            case ROUTE_PROVIDER_AUTO -> kakaoRouteProvider.findRoute(startLat, startLon, endLat, endLon)
+                    .onErrorResume(e -> {
+                        if (!offlineRouteProvider.isAvailable()) return Mono.error(e);
+                        log.warn("카카오 길찾기 실패, 오프라인 경로로 대체: {}", e.toString());
+                        return offlineRouteProvider.findRoute(startLat, startLon, endLat, endLon);
+                    })
+                    // 카카오 경로는 재난 구역을 우회할 수 없으므로 구역을 지나면 오프라인 경로(우회 가중치 적용)로 교체
+                    // (오프라인 탐색이 대기 초과 등으로 실패하면 카카오 경로 유지)
+                    .flatMap(path -> (passesHazard(path) && offlineRouteProvider.isAvailable())
+                            ? offlineRouteProvider.findRoute(startLat, startLon, endLat, endLon)
+                                    .onErrorResume(e -> Mono.just(path))
+                            : Mono.just(path));
+            default -> throw new IllegalArgumentException("지원하지 않는 경로 제공자입니다: " + provider);
+        };
+        return route
+                .map(path -> path.toBuilder().throughHazard(passesHazard(path)).build()) // 캐시된 객체는 수정하지 않음
+                .doOnError(e -> log.error("길찾기 경로 탐색 실패", e));
+    }
 
-            ObjectMapper mapper = new ObjectMapper();
-            return mapper.readTree(response);
+    // 목적지가 대피소이면 혼잡도 집계에 기록
+    private void recordRouteDestination(double endLat, double endLon, String requester) {
+        ShelterKdTree tree = shelterIndexService.getTree();
+        int[] nearest = tree.nearest(endLat, endLon, 1, false, 0);
+        if (nearest.length == 0) return;
+        int pos = nearest[0];
+        if (GeoDistance.meter(endLat, endLon, tree.latitudeAt(pos), tree.longitudeAt(pos)) <= ROUTE_DESTINATION_SNAP_METER) {
+            shelterLoadService.recordRouted(tree.idAt(pos), requester);
+        }
+    }
 
-        } catch (Exception e) {
-            log.error("카카오 길찾기 API 호출 실패", e);
-            return null;
+    // 경로 좌표 중 활성 재난 구역 안에 있는 지점이 있는지
+    private boolean passesHazard(RoutePathDto path) {
+        HazardZoneSnapshot hazards = hazardZoneIndex.current();
+        if (hazards.isEmpty() || path.getVertexes() == null) return false;
+        double[] vertexes = path.getVertexes();
+        for (int i = 0; i + 1 < vertexes.length; i += 2) {
+            if (hazards.contains(vertexes[i + 1], vertexes[i])) return true;
         }
+        return false;
     }
-}
\ No newline at end of file
+}
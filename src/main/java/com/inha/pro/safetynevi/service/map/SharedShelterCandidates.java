@@ -0,0 +1,135 @@
+package com.inha.pro.safetynevi.service.map;
+
+import java.util.Arrays;
+
+/**
+ * 인접 출발지(또는 격자) 묶음이 함께 사용하는 대피소 후보 집합
+ * - 묶음 중심 기준 가까운 대피소 N개를 한 번만 조회하고, 각 출발지의 최근접 탐색은 이 후보 안에서 수행
+ * - 후보 밖 대피소는 중심에서 cover 이상 떨어져 있으므로, 출발지에서 (cover - 중심까지 거리) 이내로
+ *   찾은 결과는 전체 트리 탐색과 동일함을 보장. 보장되지 않으면 KD-Tree로 직접 조회
+ *   (거리는 단위 벡터 간 직선(현) 거리로 비교하므로 삼각부등식이 그대로 성립)
+ * - 후보 좌표는 단위 벡터 배열(SoA)로 모아 두고 DistanceKernel로 일괄 계산 (출발지당 삼각함수 없음)
+ * - 계산용 버퍼를 보유하므로 스레드 간 공유하지 않음 (묶음 하나는 한 스레드가 처리)
+ */
+final class SharedShelterCandidates {
+
+    private final ShelterKdTree tree;
+    private final boolean requireOperating; // 후보 조건 (조회 조건은 이보다 느슨할 수 없음)
+    private final int minCapacity;
+    private final double[] center = new double[3];
+    private final int[] candidates;
+    private final double coverChord; // 중심에서 이 현 거리 미만의 (조건을 만족하는) 대피소는 모두 후보에 포함
+
+    // 후보 단위 벡터 (SoA), 출발지별 거리 계산 버퍼
+    private final double[] xs;
+    private final double[] ys;
+    private final double[] zs;
+    private final double[] chord2;
+    private final double[] query = new double[3];
+
+    private SharedShelterCandidates(ShelterKdTree tree, double centerLat, double centerLon, int size,
+                                    boolean requireOperating, int minCapacity) {
+        this.tree = tree;
+        this.requireOperating = requireOperating;
+        this.minCapacity = minCapacity;
+        this.candidates = tree.nearest(centerLat, centerLon, size, requireOperating, minCapacity);
+        int n = candidates.length;
+        this.xs = new double[n];
+        this.ys = new double[n];
+        this.zs = new double[n];
+        this.chord2 = new double[n];
+        for (int c = 0; c < n; c++) {
+            xs[c] = tree.unitVectorAt(0, candidates[c]);
+            ys[c] = tree.unitVectorAt(1, candidates[c]);
+            zs[c] = tree.unitVectorAt(2, candidates[c]);
+        }
+
+        DistanceKernel.toUnitVector(centerLat, centerLon, center);
+        this.coverChord = (n < size)
+                ? Double.MAX_VALUE // 조건을 만족하는 대피소 전체가 후보
+                : Math.sqrt(chordSquared(center, xs[n - 1], ys[n - 1], zs[n - 1]));
+    }
+
+    // 출발지 [from, to) 구간의 중심을 기준으로 후보 구성 (조건 없음)
+    static SharedShelterCandidates around(ShelterKdTree tree, double[] lats, double[] lons, int from, int to, int size) {
+        double latSum = 0, lonSum = 0;
+        for (int i = from; i < to; i++) {
+            latSum += lats[i];
+            lonSum += lons[i];
+        }
+        int count = Math.max(1, to - from);
+        return new SharedShelterCandidates(tree, latSum / count, lonSum / count, size, false, 0);
+    }
+
+    // 지정 좌표를 중심으로, 조건을 만족하는 대피소만 후보로 구성
+    static SharedShelterCandidates around(ShelterKdTree tree, double centerLat, double centerLon, int size,
+                                          boolean requireOperating, int minCapacity) {
+        return new SharedShelterCandidates(tree, centerLat, centerLon, size, requireOperating, minCapacity);
+    }
+
+    /**
+     * 조건을 만족하는 가까운 대피소 k개 (ShelterKdTree.nearest와 동일한 규약)
+     * @return 트리 위치 배열 (가까운 순)
+     */
+    int[] nearest(double lat, double lon, int k, boolean requireOperating, int minCapacity) {
+        if (k <= 0) return new int[0];
+
+        DistanceKernel.toUnitVector(lat, lon, query);
+        DistanceKernel.chordSquared(query[0], query[1], query[2], xs, ys, zs, candidates.length, chord2);
+
+        int[] positions = new int[k];
+        double[] distances = new double[k]; // 현 길이 제곱
+        int size = 0;
+        for (int c = 0; c < candidates.length; c++) {
+            double d = chord2[c];
+            if (size == k && d >= distances[size - 1]) continue;
+            int pos = candidates[c];
+            if (requireOperating && !tree.isOperatingAt(pos)) continue;
+            if (tree.capacityAt(pos) < minCapacity) continue;
+
+            int i = (size < k) ? size++ : size - 1;
+            while (i > 0 && distances[i - 1] > d) {
+                positions[i] = positions[i - 1];
+                distances[i] = distances[i - 1];
+                i--;
+            }
+            positions[i] = pos;
+            distances[i] = d;
+        }
+
+        if (coverChord == Double.MAX_VALUE) return Arrays.copyOf(positions, size);
+        if (size == k && isCovered(distances[k - 1], query[0], query[1], query[2])) return positions;
+        return tree.nearest(lat, lon, k, requireOperating, minCapacity);
+    }
+
+    /**
+     * 후보 조건을 만족하는 가장 가까운 대피소 1개 (단위 벡터로 질의, 없으면 -1)
+     * - lat/lon은 후보로 보장되지 않을 때 KD-Tree 조회에만 사용
+     */
+    int nearestOne(double qx, double qy, double qz, double lat, double lon) {
+        DistanceKernel.chordSquared(qx, qy, qz, xs, ys, zs, candidates.length, chord2);
+        int best = -1;
+        double bestDistance = Double.MAX_VALUE;
+        for (int c = 0; c < candidates.length; c++) {
+            if (chord2[c] < bestDistance) {
+                bestDistance = chord2[c];
+                best = c;
+            }
+        }
+
+        if (coverChord == Double.MAX_VALUE) return (best >= 0) ? candidates[best] : -1;
+        if (best >= 0 && isCovered(bestDistance, qx, qy, qz)) return candidates[best];
+        int[] nearest = tree.nearest(lat, lon, 1, requireOperating, minCapacity);
+        return (nearest.length > 0) ? nearest[0] : -1;
+    }
+
+    // 후보 밖 대피소가 더 가까울 수 없는지 (찾은 거리 <= cover - 중심에서 질의점까지 거리)
+    private boolean isCovered(double foundChordSquared, double qx, double qy, double qz) {
+        return Math.sqrt(foundChordSquared) <= coverChord - Math.sqrt(chordSquared(center, qx, qy, qz));
+    }
+
+    static double chordSquared(double[] a, double x, double y, double z) {
+        double dx = x - a[0], dy = y - a[1], dz = z - a[2];
+        return dx * dx + dy * dy + dz * dz;
+    }
+}
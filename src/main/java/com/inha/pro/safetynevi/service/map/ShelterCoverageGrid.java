@@ -0,0 +1,217 @@
+package com.inha.pro.safetynevi.service.map;
+
+import com.inha.pro.safetynevi.dto.map.CoverageHeatmapDto;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 전국 대피소 커버리지 격자 (사전 계산, 불변)
+ * - 대한민국 본토/제주/울릉 범위를 cellMeter(기본 250m) 격자로 나누고, 격자 중심 기준으로
+ *   가장 가까운 운영중 대피소 / 대형 대피소(수용 인원 기준 이상)와 그 거리를 미리 계산
+ * - 대피소는 KD-Tree 위치(pos)로 저장하므로 격자는 생성에 사용한 트리와 함께 사용해야 함
+ * - 격자 수가 수백만 개이므로 힙 밖(Direct Buffer)에 저장
+ *     int  운영중 최근접 대피소 pos (없으면 -1)
+ *     int  대형 최근접 대피소 pos (없으면 -1)
+ *     char 각 거리 (10m 단위, 최대 655km에서 포화)
+ */
+public final class ShelterCoverageGrid {
+
+    private static final double MIN_LAT = 33.0;
+    private static final double MAX_LAT = 38.7;
+    private static final double MIN_LON = 124.5;
+    private static final double MAX_LON = 131.0;
+    private static final double METERS_PER_DEG_LAT = 111_320;
+    private static final double REFERENCE_LAT = 36.0; // 경도 간격 계산 기준 위도
+
+    // 격자 수 상한 (격자당 12바이트, 약 600MB), 넘으면 cellMeter 설정 오류로 처리
+    static final long MAX_CELLS = 50_000_000L;
+
+    private static final int DISTANCE_UNIT_M = 10;
+    private static final char DISTANCE_UNKNOWN = Character.MAX_VALUE;
+
+    // 생성 시 대피소 후보를 공유하는 격자 묶음 크기 (TILE x TILE), 묶음당 후보 수
+    private static final int TILE = 16;
+    private static final int TILE_CANDIDATES = 32;
+
+    private final ShelterKdTree tree;
+    private final int cellMeter;
+    private final double latStep;
+    private final double lonStep;
+    private final int rows;
+    private final int cols;
+
+    private final IntBuffer operating;
+    private final IntBuffer large;
+    private final CharBuffer operatingDistance;
+    private final CharBuffer largeDistance;
+
+    private ShelterCoverageGrid(ShelterKdTree tree, int cellMeter) {
+        this.tree = tree;
+        this.cellMeter = cellMeter;
+        this.latStep = cellMeter / METERS_PER_DEG_LAT;
+        this.lonStep = cellMeter / (METERS_PER_DEG_LAT * Math.cos(Math.toRadians(REFERENCE_LAT)));
+        this.rows = (int) Math.ceil((MAX_LAT - MIN_LAT) / latStep);
+        this.cols = (int) Math.ceil((MAX_LON - MIN_LON) / lonStep);
+
+        int cells = (int) validateCellMeter(cellMeter);
+        this.operating = ByteBuffer.allocateDirect(Math.multiplyExact(cells, Integer.BYTES)).asIntBuffer();
+        this.large = ByteBuffer.allocateDirect(Math.multiplyExact(cells, Integer.BYTES)).asIntBuffer();
+        this.operatingDistance = ByteBuffer.allocateDirect(Math.multiplyExact(cells, Character.BYTES)).asCharBuffer();
+        this.largeDistance = ByteBuffer.allocateDirect(Math.multiplyExact(cells, Character.BYTES)).asCharBuffer();
+    }
+
+    /**
+     * 격자 크기 검증
+     * @return 전국 격자 수
+     * @throws IllegalArgumentException cellMeter가 0 이하이거나 격자 수가 MAX_CELLS를 넘는 경우
+     */
+    public static long validateCellMeter(int cellMeter) {
+        if (cellMeter <= 0) {
+            throw new IllegalArgumentException("route.coverage.cell-meter는 0보다 커야 합니다: " + cellMeter);
+        }
+        double latStep = cellMeter / METERS_PER_DEG_LAT;
+        double lonStep = cellMeter / (METERS_PER_DEG_LAT * Math.cos(Math.toRadians(REFERENCE_LAT)));
+        long cells = (long) Math.ceil((MAX_LAT - MIN_LAT) / latStep) * (long) Math.ceil((MAX_LON - MIN_LON) / lonStep);
+        if (cells > MAX_CELLS) {
+            throw new IllegalArgumentException("route.coverage.cell-meter=" + cellMeter + "이면 격자가 " + cells
+                    + "개로 상한(" + MAX_CELLS + ")을 넘습니다. 더 큰 값을 사용하세요.");
+        }
+        return cells;
+    }
+
+    /**
+     * TILE x TILE 격자 묶음 단위로 병렬 계산
+     * - 묶음마다 중심 기준 대피소 후보를 조건별로 한 번 조회하고, 각 격자는 후보 안에서 DistanceKernel로 탐색
+     *   (후보로 보장되지 않는 격자만 KD-Tree 직접 조회, 결과는 격자마다 KD-Tree를 조회한 것과 동일)
+     * - 격자 중심 단위 벡터는 행별 위도, 열별 경도의 삼각함수 값을 미리 계산해 곱으로 구성
+     */
+    public static ShelterCoverageGrid build(ShelterKdTree tree, int cellMeter, int largeCapacity) {
+        ShelterCoverageGrid grid = new ShelterCoverageGrid(tree, cellMeter);
+        double[] rowCos = new double[grid.rows], rowSin = new double[grid.rows];
+        double[] colCos = new double[grid.cols], colSin = new double[grid.cols];
+        for (int row = 0; row < grid.rows; row++) {
+            double phi = Math.toRadians(grid.latOf(row));
+            rowCos[row] = Math.cos(phi);
+            rowSin[row] = Math.sin(phi);
+        }
+        for (int col = 0; col < grid.cols; col++) {
+            double lambda = Math.toRadians(grid.lonOf(col));
+            colCos[col] = Math.cos(lambda);
+            colSin[col] = Math.sin(lambda);
+        }
+
+        int tileRows = (grid.rows + TILE - 1) / TILE, tileCols = (grid.cols + TILE - 1) / TILE;
+        IntStream.range(0, tileRows).parallel().forEach(tileRow -> {
+            int rowFrom = tileRow * TILE, rowTo = Math.min(grid.rows, rowFrom + TILE);
+            for (int tileCol = 0; tileCol < tileCols; tileCol++) {
+                int colFrom = tileCol * TILE, colTo = Math.min(grid.cols, colFrom + TILE);
+                double centerLat = (grid.latOf(rowFrom) + grid.latOf(rowTo - 1)) / 2;
+                double centerLon = (grid.lonOf(colFrom) + grid.lonOf(colTo - 1)) / 2;
+                SharedShelterCandidates operating = SharedShelterCandidates.around(tree, centerLat, centerLon, TILE_CANDIDATES, true, 0);
+                SharedShelterCandidates large = SharedShelterCandidates.around(tree, centerLat, centerLon, TILE_CANDIDATES, false, largeCapacity);
+
+                for (int row = rowFrom; row < rowTo; row++) {
+                    for (int col = colFrom; col < colTo; col++) {
+                        double qx = rowCos[row] * colCos[col], qy = rowCos[row] * colSin[col], qz = rowSin[row];
+                        double lat = grid.latOf(row), lon = grid.lonOf(col);
+                        int cell = row * grid.cols + col;
+                        grid.fill(cell, qx, qy, qz, operating.nearestOne(qx, qy, qz, lat, lon), grid.operating, grid.operatingDistance);
+                        grid.fill(cell, qx, qy, qz, large.nearestOne(qx, qy, qz, lat, lon), grid.large, grid.largeDistance);
+                    }
+                }
+            }
+        });
+        return grid;
+    }
+
+    // 격자 중심 위도/경도
+    private double latOf(int row) {
+        return MIN_LAT + (row + 0.5) * latStep;
+    }
+
+    private double lonOf(int col) {
+        return MIN_LON + (col + 0.5) * lonStep;
+    }
+
+    private void fill(int cell, double qx, double qy, double qz, int pos, IntBuffer target, CharBuffer distance) {
+        if (pos < 0) {
+            target.put(cell, -1);
+            distance.put(cell, DISTANCE_UNKNOWN);
+            return;
+        }
+        double dx = tree.unitVectorAt(0, pos) - qx, dy = tree.unitVectorAt(1, pos) - qy, dz = tree.unitVectorAt(2, pos) - qz;
+        double meters = DistanceKernel.toMeter(dx * dx + dy * dy + dz * dz);
+        target.put(cell, pos);
+        distance.put(cell, (char) Math.min(DISTANCE_UNKNOWN - 1, Math.round(meters / DISTANCE_UNIT_M)));
+    }
+
+    // 좌표가 속한 격자 번호 (격자 범위 밖이면 -1)
+    // - 마지막 행/열은 MAX_LAT/MAX_LON 너머까지 덮으므로 그 중심 좌표(findUnderserved 결과)도 격자 안으로 판정
+    public int cellOf(double lat, double lon) {
+        if (lat < MIN_LAT || lon < MIN_LON) return -1;
+        int row = (int) ((lat - MIN_LAT) / latStep);
+        int col = (int) ((lon - MIN_LON) / lonStep);
+        if (row >= rows || col >= cols) return -1;
+        return row * cols + col;
+    }
+
+    public int operatingAt(int cell) {
+        return operating.get(cell);
+    }
+
+    public int largeAt(int cell) {
+        return large.get(cell);
+    }
+
+    public ShelterKdTree getTree() {
+        return tree;
+    }
+
+    /**
+     * 범위 내 사각지대 격자 (최근접 대피소가 thresholdMeter보다 먼 격자)
+     * - 범위 내 격자가 maxCells보다 많으면 일정 간격으로 표본 추출
+     * @param largeOnly true면 대형 대피소 기준, false면 운영중 대피소 기준
+     */
+    public CoverageHeatmapDto findUnderserved(boolean largeOnly, double thresholdMeter,
+                                              double swLat, double swLng, double neLat, double neLng, int maxCells) {
+        CharBuffer distance = largeOnly ? largeDistance : operatingDistance;
+        int rowFrom = clampRow(swLat), rowTo = clampRow(neLat);
+        int colFrom = clampCol(swLng), colTo = clampCol(neLng);
+        long total = (long) (rowTo - rowFrom + 1) * (colTo - colFrom + 1);
+        int stride = (int) Math.max(1, Math.ceil(Math.sqrt((double) total / Math.max(1, maxCells))));
+
+        List<CoverageHeatmapDto.CellDto> cells = new ArrayList<>();
+        if (swLat <= neLat && swLng <= neLng) {
+            for (int row = rowFrom; row <= rowTo; row += stride) {
+                for (int col = colFrom; col <= colTo; col += stride) {
+                    char d = distance.get(row * cols + col);
+                    if (d != DISTANCE_UNKNOWN && (double) d * DISTANCE_UNIT_M <= thresholdMeter) continue;
+                    cells.add(CoverageHeatmapDto.CellDto.builder()
+                            .latitude(MIN_LAT + (row + 0.5) * latStep)
+                            .longitude(MIN_LON + (col + 0.5) * lonStep)
+                            .distanceMeter(d == DISTANCE_UNKNOWN ? null : d * DISTANCE_UNIT_M)
+                            .build());
+                }
+            }
+        }
+
+        return CoverageHeatmapDto.builder()
+                .cellMeter(cellMeter * stride)
+                .thresholdMeter(thresholdMeter)
+                .cells(cells)
+                .build();
+    }
+
+    private int clampRow(double lat) {
+        return Math.max(0, Math.min(rows - 1, (int) Math.floor((lat - MIN_LAT) / latStep)));
+    }
+
+    private int clampCol(double lon) {
+        return Math.max(0, Math.min(cols - 1, (int) Math.floor((lon - MIN_LON) / lonStep)));
+    }
+}
@@ -0,0 +1,75 @@
+package com.inha.pro.safetynevi.service.map;
+
+import com.inha.pro.safetynevi.dto.map.CoverageHeatmapDto;
+import com.inha.pro.safetynevi.exception.ServiceUnavailableException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 대피소 커버리지 격자 관리 서비스
+ * - 대피소 KD-Tree가 재구성될 때마다 백그라운드 스레드에서 격자를 새로 계산 (계산 중에는 이전 격자 또는 KD-Tree 사용)
+ * - 경로 추천의 O(1) 조회와 관리자 사각지대 히트맵에 사용
+ */
+@Slf4j
+@Service
+public class ShelterCoverageService {
+
+    private static final int MAX_HEATMAP_CELLS = 20_000;
+
+    private final int cellMeter;
+    private final ExecutorService builder = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "shelter-coverage-builder");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile ShelterCoverageGrid grid;
+
+    public ShelterCoverageService(@Value("${route.coverage.cell-meter:250}") int cellMeter) {
+        ShelterCoverageGrid.validateCellMeter(cellMeter); // 잘못된 설정은 기동 시 실패
+        this.cellMeter = cellMeter;
+    }
+
+    @EventListener
+    public void onShelterIndexRebuilt(ShelterIndexRebuiltEvent event) {
+        builder.submit(() -> {
+            long start = System.currentTimeMillis();
+            try {
+                this.grid = ShelterCoverageGrid.build(event.tree(), cellMeter, ShelterIndexService.LARGE_SHELTER_CAPACITY);
+                log.info("Shelter coverage grid rebuilt: {}m cells ({} ms)", cellMeter, System.currentTimeMillis() - start);
+            } catch (Exception e) {
+                log.error("Shelter coverage grid build failed", e);
+            }
+        });
+    }
+
+    // 주어진 트리로 계산된 격자 (아직 계산 전이거나 다른 트리 기준이면 null)
+    public ShelterCoverageGrid getGrid(ShelterKdTree tree) {
+        ShelterCoverageGrid current = this.grid;
+        return (current != null && current.getTree() == tree) ? current : null;
+    }
+
+    // 사각지대 히트맵 (largeOnly: 대형 대피소 기준 여부)
+    public CoverageHeatmapDto findUnderserved(boolean largeOnly, double thresholdKm,
+                                              double swLat, double swLng, double neLat, double neLng) {
+        if (thresholdKm <= 0) {
+            throw new IllegalArgumentException("기준 거리는 0보다 커야 합니다.");
+        }
+        ShelterCoverageGrid current = this.grid;
+        if (current == null) {
+            throw new ServiceUnavailableException("대피소 커버리지 격자가 아직 준비되지 않았습니다.");
+        }
+        return current.findUnderserved(largeOnly, thresholdKm * 1000, swLat, swLng, neLat, neLng, MAX_HEATMAP_CELLS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        builder.shutdownNow();
+    }
+}
@@ -0,0 +1,8 @@
+package com.inha.pro.safetynevi.service.map;
+
+/**
+ * 대피소 KD-Tree 재구성 완료 이벤트
+ * - 트리 위치(pos)를 참조하는 파생 구조(커버리지 격자 등)를 다시 계산하는 신호
+ */
+public record ShelterIndexRebuiltEvent(ShelterKdTree tree) {
+}
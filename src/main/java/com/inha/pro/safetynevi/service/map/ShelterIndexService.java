@@ -0,0 +1,70 @@
+package com.inha.pro.safetynevi.service.map;
+
+import com.inha.pro.safetynevi.dao.map.ShelterRepository;
+import com.inha.pro.safetynevi.dto.map.FacilityDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 대피소 최근접 탐색 인덱스 관리 서비스
+ * - 시설 인덱스가 재구축될 때마다 스냅샷의 대피소(운영 상태 무관 전체)로 KD-Tree 재구성
+ * - 스냅샷 구축 전 요청이 오면 DB에서 한 번 읽어 임시 트리 구성
+ * - 재구성 후 ShelterIndexRebuiltEvent를 발행하여 커버리지 격자 등 파생 구조 재계산
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ShelterIndexService {
+
+    // 대형 대피소 기준 (최소 수용 인원)
+    public static final int LARGE_SHELTER_CAPACITY = 1000;
+
+    private static final String SHELTER_TYPE = "shelter";
+
+    private final ShelterRepository shelterRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile ShelterKdTree tree;
+
+    @EventListener
+    public void onFacilityIndexRebuilt(FacilityIndexRebuiltEvent event) {
+        long start = System.currentTimeMillis();
+        FacilitySnapshot snapshot = event.snapshot();
+
+        List<FacilityDto> shelters = new ArrayList<>();
+        for (int pos = 0; pos < snapshot.size(); pos++) {
+            if (SHELTER_TYPE.equals(snapshot.get(pos).getType())) shelters.add(snapshot.get(pos));
+        }
+        ShelterKdTree rebuilt = ShelterKdTree.build(shelters, ShelterIndexService::isOperating);
+        this.tree = rebuilt;
+        log.info("Shelter KD-tree rebuilt: {} shelters ({} ms)", shelters.size(), System.currentTimeMillis() - start);
+        eventPublisher.publishEvent(new ShelterIndexRebuiltEvent(rebuilt));
+    }
+
+    public ShelterKdTree getTree() {
+        ShelterKdTree current = this.tree;
+        if (current != null) return current;
+
+        synchronized (this) {
+            if (this.tree == null) {
+                List<FacilityDto> shelters = shelterRepository.findAll().stream()
+                        .map(FacilityDto::new)
+                        .collect(Collectors.toList());
+                this.tree = ShelterKdTree.build(shelters, ShelterIndexService::isOperating);
+            }
+            return this.tree;
+        }
+    }
+
+    // 운영 중 여부 판별 (경로 추천 기준)
+    public static boolean isOperating(String status) {
+        return status != null && (status.contains("정상") || status.contains("영업") || status.contains("운영"));
+    }
+}
@@ -0,0 +1,250 @@
+package com.inha.pro.safetynevi.service.map;
+
+import com.inha.pro.safetynevi.dto.map.FacilityDto;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * 대피소 최근접 탐색용 KD-Tree (메모리 상주, 불변)
+ * - 위경도를 3차원 단위 벡터로 변환하여 저장 (벡터 간 직선거리 순서 = 지표면 거리 순서, 경도 경계 문제 없음)
+ * - 배열 기반 암시적 트리: 구간 [lo, hi)의 중앙 위치 mid가 노드, 좌/우 자식은 [lo, mid), [mid + 1, hi)
+ * - 노드마다 하위 트리의 최대 수용 인원/운영중 포함 여부를 보관하여 조건을 만족할 수 없는 가지는 탐색 생략
+ */
+public final class ShelterKdTree {
+
+    private final long[] ids;
+    private final String[] names;
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final String[] statuses;
+    private final int[] capacities;
+    private final boolean[] operating;
+
+    private final double[][] coords;   // [축][위치] 단위 벡터 좌표
+    private final byte[] axes;         // 노드별 분할 축
+    private final int[] maxCapacity;   // 노드별 하위 트리 최대 수용 인원
+    private final boolean[] anyOperating; // 노드별 하위 트리 운영중 대피소 존재 여부
+
+    private ShelterKdTree(int n) {
+        ids = new long[n];
+        names = new String[n];
+        latitudes = new double[n];
+        longitudes = new double[n];
+        statuses = new String[n];
+        capacities = new int[n];
+        operating = new boolean[n];
+        coords = new double[3][n];
+        axes = new byte[n];
+        maxCapacity = new int[n];
+        anyOperating = new boolean[n];
+    }
+
+    // 대피소 목록으로 트리 구성 (O(N log N))
+    public static ShelterKdTree build(List<FacilityDto> shelters, Predicate<String> isOperating) {
+        int n = shelters.size();
+        double[][] raw = new double[3][n];
+        for (int i = 0; i < n; i++) {
+            FacilityDto s = shelters.get(i);
+            toUnitVector(s.getLatitude(), s.getLongitude(), raw, i);
+        }
+
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) order[i] = i;
+        byte[] axes = new byte[n];
+        partition(order, raw, axes, 0, n);
+
+        // 트리 순서대로 데이터 재배치
+        ShelterKdTree tree = new ShelterKdTree(n);
+        for (int pos = 0; pos < n; pos++) {
+            FacilityDto s = shelters.get(order[pos]);
+            tree.ids[pos] = s.getId();
+            tree.names[pos] = s.getName();
+            tree.latitudes[pos] = s.getLatitude();
+            tree.longitudes[pos] = s.getLongitude();
+            tree.statuses[pos] = s.getOperatingStatus();
+            tree.capacities[pos] = (s.getMaxCapacity() != null) ? s.getMaxCapacity() : 0;
+            tree.operating[pos] = isOperating.test(s.getOperatingStatus());
+            for (int axis = 0; axis < 3; axis++) tree.coords[axis][pos] = raw[axis][order[pos]];
+        }
+        System.arraycopy(axes, 0, tree.axes, 0, n);
+        tree.summarize(0, n);
+        return tree;
+    }
+
+    /**
+     * 조건을 만족하는 가까운 대피소 k개
+     * @return 트리 위치 배열 (가까운 순)
+     */
+    public int[] nearest(double lat, double lon, int k, boolean requireOperating, int minCapacity) {
+        if (k <= 0 || ids.length == 0) return new int[0];
+        double[] q = new double[3];
+        toUnitVector(lat, lon, q);
+
+        Candidates best = new Candidates(k);
+        search(0, ids.length, q, requireOperating, minCapacity, best);
+        return best.sorted();
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public long idAt(int pos) { return ids[pos]; }
+    public String nameAt(int pos) { return names[pos]; }
+    public double latitudeAt(int pos) { return latitudes[pos]; }
+    public double longitudeAt(int pos) { return longitudes[pos]; }
+    public String statusAt(int pos) { return statuses[pos]; }
+    public int capacityAt(int pos) { return capacities[pos]; }
+    public boolean isOperatingAt(int pos) { return operating[pos]; }
+
+    // 단위 벡터 좌표 (axis: 0=x, 1=y, 2=z, DistanceKernel과 같은 척도)
+    double unitVectorAt(int axis, int pos) { return coords[axis][pos]; }
+
+    // --- 탐색 ---
+
+    private void search(int lo, int hi, double[] q, boolean requireOperating, int minCapacity, Candidates best) {
+        if (lo >= hi) return;
+        int mid = (lo + hi) >>> 1;
+        if (requireOperating && !anyOperating[mid]) return;
+        if (maxCapacity[mid] < minCapacity) return;
+
+        if ((!requireOperating || operating[mid]) && capacities[mid] >= minCapacity) {
+            double dx = coords[0][mid] - q[0], dy = coords[1][mid] - q[1], dz = coords[2][mid] - q[2];
+            best.offer(mid, dx * dx + dy * dy + dz * dz);
+        }
+
+        int axis = axes[mid];
+        double diff = q[axis] - coords[axis][mid];
+        if (diff < 0) {
+            search(lo, mid, q, requireOperating, minCapacity, best);
+            if (diff * diff < best.worst()) search(mid + 1, hi, q, requireOperating, minCapacity, best);
+        } else {
+            search(mid + 1, hi, q, requireOperating, minCapacity, best);
+            if (diff * diff < best.worst()) search(lo, mid, q, requireOperating, minCapacity, best);
+        }
+    }
+
+    // --- 구성 ---
+
+    // 구간의 분산이 가장 큰 축 기준 중앙값으로 재귀 분할
+    private static void partition(int[] order, double[][] raw, byte[] axes, int lo, int hi) {
+        if (hi - lo <= 1) return;
+        int axis = widestAxis(order, raw, lo, hi);
+        int mid = (lo + hi) >>> 1;
+        select(order, raw[axis], lo, hi - 1, mid);
+        axes[mid] = (byte) axis;
+        partition(order, raw, axes, lo, mid);
+        partition(order, raw, axes, mid + 1, hi);
+    }
+
+    private static int widestAxis(int[] order, double[][] raw, int lo, int hi) {
+        int widest = 0;
+        double widestSpan = -1;
+        for (int axis = 0; axis < 3; axis++) {
+            double min = Double.MAX_VALUE, max = -Double.MAX_VALUE;
+            for (int i = lo; i < hi; i++) {
+                double v = raw[axis][order[i]];
+                if (v < min) min = v;
+                if (v > max) max = v;
+            }
+            if (max - min > widestSpan) {
+                widestSpan = max - min;
+                widest = axis;
+            }
+        }
+        return widest;
+    }
+
+    // Quickselect: order[k]에 k번째 값이 오도록 [left, right] 구간 부분 정렬
+    private static void select(int[] order, double[] values, int left, int right, int k) {
+        while (left < right) {
+            double pivot = values[order[(left + right) >>> 1]];
+            int i = left, j = right;
+            while (i <= j) {
+                while (values[order[i]] < pivot) i++;
+                while (values[order[j]] > pivot) j--;
+                if (i <= j) {
+                    int t = order[i];
+                    order[i++] = order[j];
+                    order[j--] = t;
+                }
+            }
+            if (k <= j) right = j;
+            else if (k >= i) left = i;
+            else return;
+        }
+    }
+
+    // 하위 트리 요약 (최대 수용 인원, 운영중 포함 여부)
+    private void summarize(int lo, int hi) {
+        if (lo >= hi) return;
+        int mid = (lo + hi) >>> 1;
+        summarize(lo, mid);
+        summarize(mid + 1, hi);
+
+        int cap = capacities[mid];
+        boolean op = operating[mid];
+        if (lo < mid) {
+            int left = (lo + mid) >>> 1;
+            cap = Math.max(cap, maxCapacity[left]);
+            op |= anyOperating[left];
+        }
+        if (mid + 1 < hi) {
+            int right = (mid + 1 + hi) >>> 1;
+            cap = Math.max(cap, maxCapacity[right]);
+            op |= anyOperating[right];
+        }
+        maxCapacity[mid] = cap;
+        anyOperating[mid] = op;
+    }
+
+    private static void toUnitVector(double lat, double lon, double[][] out, int i) {
+        double phi = Math.toRadians(lat), lambda = Math.toRadians(lon);
+        double cosPhi = Math.cos(phi);
+        out[0][i] = cosPhi * Math.cos(lambda);
+        out[1][i] = cosPhi * Math.sin(lambda);
+        out[2][i] = Math.sin(phi);
+    }
+
+    private static void toUnitVector(double lat, double lon, double[] out) {
+        double phi = Math.toRadians(lat), lambda = Math.toRadians(lon);
+        double cosPhi = Math.cos(phi);
+        out[0] = cosPhi * Math.cos(lambda);
+        out[1] = cosPhi * Math.sin(lambda);
+        out[2] = Math.sin(phi);
+    }
+
+    // 거리 오름차순으로 유지되는 상위 k개 후보 (k가 작으므로 삽입 정렬)
+    private static final class Candidates {
+        private final int[] positions;
+        private final double[] distances;
+        private int size = 0;
+
+        Candidates(int k) {
+            positions = new int[k];
+            distances = new double[k];
+        }
+
+        void offer(int pos, double d2) {
+            if (size == positions.length && d2 >= distances[size - 1]) return;
+            int i = (size < positions.length) ? size++ : size - 1;
+            while (i > 0 && distances[i - 1] > d2) {
+                positions[i] = positions[i - 1];
+                distances[i] = distances[i - 1];
+                i--;
+            }
+            positions[i] = pos;
+            distances[i] = d2;
+        }
+
+        double worst() {
+            return (size < positions.length) ? Double.MAX_VALUE : distances[size - 1];
+        }
+
+        int[] sorted() {
+            return Arrays.copyOf(positions, size);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.inha.pro.safetynevi.service.map;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.inha.pro.safetynevi.dto.map.ShelterOccupancyDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대피소 실시간 혼잡도 추정 서비스
+ * - 최근 windowMinutes 동안 대피소별로 추천(1순위) 받은 사용자 수와 길찾기 목적지로 선택된 횟수를 집계
+ * - 추천 후 자동 길찾기가 이어지므로 같은 사용자가 두 번 집계되지 않도록 추정 인원 = max(추천, 길찾기)
+ * - 추정 인원이 수용 인원의 penaltyStart 비율을 넘으면 추천 점수(거리)에 가중치를 곱해 인근 대피소로 분산
+ * - 요청자(로그인 회원 또는 기존 세션)별로 대피소당 윈도 안에서 한 번만 집계하고, 식별할 수 없는 익명 요청은 집계하지 않음
+ *   (반복 호출로 특정 대피소의 혼잡도를 부풀려 추천에서 밀어내지 못하도록)
+ */
+@Service
+public class ShelterLoadService {
+
+    private static final int BUCKETS_PER_WINDOW = 30;
+    private static final double MAX_LOAD_RATIO = 1.5; // 가중치 계산 시 혼잡 비율 상한
+    private static final long MAX_COUNTED_KEYS = 500_000; // 중복 집계 방지 키 상한
+
+    private final ShelterIndexService shelterIndexService;
+    private final long bucketMillis;
+    private final double penaltyStart;
+    private final double penaltyWeight;
+
+    private final Map<Long, Load> loads = new ConcurrentHashMap<>();
+    // 이미 집계한 (종류, 요청자, 대피소) - 윈도 길이 후 만료
+    private final Cache<String, Boolean> counted;
+
+    // 대피소별 집계 (추천, 길찾기)
+    private final class Load {
+        private final SlidingWindowCounter recommended = new SlidingWindowCounter(bucketMillis, BUCKETS_PER_WINDOW);
+        private final SlidingWindowCounter routed = new SlidingWindowCounter(bucketMillis, BUCKETS_PER_WINDOW);
+
+        long estimate(long now) {
+            return Math.max(recommended.sum(now), routed.sum(now));
+        }
+    }
+
+    public ShelterLoadService(ShelterIndexService shelterIndexService,
+                              @Value("${shelter.load.window-minutes:30}") long windowMinutes,
+                              @Value("${shelter.load.penalty-start:0.7}") double penaltyStart,
+                              @Value("${shelter.load.penalty-weight:2}") double penaltyWeight) {
+        this.shelterIndexService = shelterIndexService;
+        this.bucketMillis = Math.max(1, windowMinutes * 60_000 / BUCKETS_PER_WINDOW);
+        this.penaltyStart = penaltyStart;
+        this.penaltyWeight = penaltyWeight;
+        this.counted = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(windowMinutes))
+                .maximumSize(MAX_COUNTED_KEYS)
+                .build();
+    }
+
+    // 1순위 추천 기록 (requester: 요청자 식별자, null이면 집계하지 않음)
+    public void recordRecommended(long shelterId, String requester) {
+        if (firstInWindow("recommended", requester, shelterId)) {
+            loads.computeIfAbsent(shelterId, id -> new Load()).recommended.increment(System.currentTimeMillis());
+        }
+    }
+
+    // 길찾기 목적지 기록 (requester: 요청자 식별자, null이면 집계하지 않음)
+    public void recordRouted(long shelterId, String requester) {
+        if (firstInWindow("routed", requester, shelterId)) {
+            loads.computeIfAbsent(shelterId, id -> new Load()).routed.increment(System.currentTimeMillis());
+        }
+    }
+
+    private boolean firstInWindow(String kind, String requester, long shelterId) {
+        if (requester == null) return false;
+        return counted.asMap().putIfAbsent(kind + ":" + requester + ":" + shelterId, Boolean.TRUE) == null;
+    }
+
+    // 집계 중인 대피소가 있는지 (없으면 추천 시 혼잡도 계산 생략)
+    public boolean isEmpty() {
+        return loads.isEmpty();
+    }
+
+    public long estimatedLoad(long shelterId) {
+        Load load = loads.get(shelterId);
+        return (load != null) ? load.estimate(System.currentTimeMillis()) : 0;
+    }
+
+    /**
+     * 추천 거리 가중치 (1 이상)
+     * - 수용 인원 정보가 없거나 혼잡 비율이 penaltyStart 미만이면 1
+     * - 이후 비율에 비례해 증가, 수용 인원에 도달하면 1 + penaltyWeight
+     */
+    public double penalty(long shelterId, int capacity) {
+        if (capacity <= 0) return 1;
+        double ratio = Math.min(MAX_LOAD_RATIO, (double) estimatedLoad(shelterId) / capacity);
+        if (ratio <= penaltyStart) return 1;
+        return 1 + penaltyWeight * (ratio - penaltyStart) / (1 - penaltyStart);
+    }
+
+    /**
+     * 현재 추정 인원이 많은 대피소 순 (관리자용)
+     * - 윈도 안에 기록이 없는 대피소는 이때 정리 (정리 직후 들어온 기록 일부는 유실될 수 있음, 추정치이므로 허용)
+     */
+    public List<ShelterOccupancyDto> getTopLoads(int limit) {
+        long now = System.currentTimeMillis();
+        ShelterKdTree tree = shelterIndexService.getTree();
+        Map<Long, Integer> positions = new HashMap<>();
+        for (int pos = 0; pos < tree.size(); pos++) positions.put(tree.idAt(pos), pos);
+
+        List<ShelterOccupancyDto> result = new ArrayList<>();
+        loads.forEach((id, load) -> {
+            long recommended = load.recommended.sum(now), routed = load.routed.sum(now);
+            if (recommended == 0 && routed == 0) {
+                loads.remove(id, load);
+                return;
+            }
+            Integer pos = positions.get(id);
+            if (pos == null) return;
+
+            long estimated = Math.max(recommended, routed);
+            int capacity = tree.capacityAt(pos);
+            result.add(ShelterOccupancyDto.builder()
+                    .shelterId(id).name(tree.nameAt(pos))
+                    .latitude(tree.latitudeAt(pos)).longitude(tree.longitudeAt(pos))
+                    .capacity(capacity)
+                    .recommended(recommended).routed(routed).estimatedLoad(estimated)
+                    .loadRatio(capacity > 0 ? (double) estimated / capacity : null)
+                    .build());
+        });
+        result.sort(Comparator.comparingLong(ShelterOccupancyDto::getEstimatedLoad).reversed());
+        return (result.size() > limit) ? result.subList(0, limit) : result;
+    }
+}
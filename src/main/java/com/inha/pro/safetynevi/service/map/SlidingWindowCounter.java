@@ -0,0 +1,49 @@
+package com.inha.pro.safetynevi.service.map;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 잠금 없는 슬라이딩 윈도 카운터
+ * - 윈도를 일정 길이의 구간(bucket) N개로 나눈 원형 배열, 구간마다 LongAdder(스트라이프 카운터) 사용
+ * - 새 구간에 처음 기록하는 스레드가 CAS로 구간을 교체 (다른 스레드는 교체된 구간에 기록)
+ * - 합계는 윈도 안의 구간만 더하므로 오래된 기록은 별도 정리 없이 자연히 빠짐 (구간 단위 근사)
+ */
+final class SlidingWindowCounter {
+
+    private final long bucketMillis;
+    private final AtomicReferenceArray<Bucket> buckets;
+
+    private record Bucket(long index, LongAdder count) {
+    }
+
+    SlidingWindowCounter(long bucketMillis, int bucketCount) {
+        this.bucketMillis = bucketMillis;
+        this.buckets = new AtomicReferenceArray<>(bucketCount);
+    }
+
+    void increment(long now) {
+        long index = now / bucketMillis;
+        int slot = (int) (index % buckets.length());
+        while (true) {
+            Bucket bucket = buckets.get(slot);
+            if (bucket != null && bucket.index() >= index) {
+                // 시계가 늦은 스레드의 기록은 최신 구간에 합산
+                bucket.count().increment();
+                return;
+            }
+            // 성공/실패와 관계없이 다시 읽어 최신 구간에 기록
+            buckets.compareAndSet(slot, bucket, new Bucket(index, new LongAdder()));
+        }
+    }
+
+    long sum(long now) {
+        long oldest = now / bucketMillis - buckets.length() + 1;
+        long sum = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            Bucket bucket = buckets.get(i);
+            if (bucket != null && bucket.index() >= oldest) sum += bucket.count().sum();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,221 @@
+package com.inha.pro.safetynevi.service.map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 기상청 초단기실황 캐시 서비스
+ * - 키: 기상청 격자(nx, ny) + 발표 시각(base_time, 매시 정각), 다음 발표 자료를 조회하는 시점에 만료
+ * - AsyncCache이므로 같은 키의 동시 요청은 진행 중인 호출 하나를 함께 기다림 (Single-flight)
+ * - 격자별 마지막 정상 관측값을 격자 번호로 색인한 배열에 보관
+ *   - 현재 발표 시각의 값이면 기상청 호출 없이 즉시 응답 (WeatherPrefetchService가 미리 채운 격자 포함)
+ *   - 기상청 응답이 staleTimeout보다 늦거나 실패하면 이전 값을 먼저 응답
+ *     (호출은 계속 진행되어 성공하면 캐시와 마지막 관측값이 갱신됨, 실패한 호출은 캐시에 남지 않음)
+ *   - 기상청 호출 자체는 fetchTimeout 안에 끝나지 않으면 실패로 처리 (응답 없는 호출이 캐시에 남아 같은 키를 계속 막지 않도록)
+ * - 격자별 마지막 요청 시각도 같은 방식으로 보관 (프리패치 대상 선정용)
+ * - 관측값이 바뀌면 WeatherObservationChangedEvent 발행 (실시간 전송용)
+ */
+@Slf4j
+@Service
+public class WeatherCacheService {
+
+    private static final DateTimeFormatter BASE_DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter BASE_TIME = DateTimeFormatter.ofPattern("HH00");
+    private static final Duration PUBLISH_DELAY = Duration.ofMinutes(30); // 정각 자료를 조회할 수 있게 되기까지의 여유
+    private static final List<String> CATEGORIES = List.of("T1H", "SKY", "PTY");
+    private static final int GRID_NX = 149; // 기상청 격자 범위 (nx: 1~149, ny: 1~253)
+    private static final int GRID_NY = 253;
+
+    private final WebClient webClient = WebClient.create();
+    private final ApplicationEventPublisher eventPublisher;
+    private final String kmaServiceKey;
+    private final Duration staleTimeout;
+    private final Duration fetchTimeout;
+    private final AsyncCache<WeatherKey, Map<String, String>> weatherCache;
+    private final AtomicReferenceArray<Observation> latest = new AtomicReferenceArray<>(GRID_NX * GRID_NY);
+    private final AtomicLongArray lastRequested = new AtomicLongArray(GRID_NX * GRID_NY); // epoch ms, 0이면 요청 없음
+
+    private record WeatherKey(int nx, int ny, LocalDateTime baseTime) {
+    }
+
+    // 발표 시각별 관측값
+    private record Observation(LocalDateTime baseTime, Map<String, String> values) {
+    }
+
+    // 기상청 격자 좌표
+    public record GridCell(int nx, int ny) {
+    }
+
+    public WeatherCacheService(ApplicationEventPublisher eventPublisher,
+                               @Value("${api.kma.serviceKey}") String kmaServiceKey,
+                               @Value("${weather.cache.stale-timeout-ms:1500}") long staleTimeoutMs,
+                               @Value("${weather.cache.fetch-timeout-ms:5000}") long fetchTimeoutMs,
+                               @Value("${weather.cache.max-size:20000}") long maxSize) {
+        this.eventPublisher = eventPublisher;
+        this.kmaServiceKey = kmaServiceKey;
+        this.staleTimeout = Duration.ofMillis(staleTimeoutMs);
+        this.fetchTimeout = Duration.ofMillis(fetchTimeoutMs);
+        this.weatherCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.creating((WeatherKey key, Map<String, String> value) -> untilNextBase(key.baseTime())))
+                .buildAsync();
+    }
+
+    /**
+     * 격자의 현재 초단기실황 (T1H: 기온, SKY: 하늘상태, PTY: 강수형태)
+     */
+    public Mono<Map<String, String>> getObservation(int nx, int ny) {
+        LocalDateTime baseTime = currentBaseTime();
+        int cell = cellIndex(nx, ny);
+        Observation cached = null;
+        if (cell >= 0) {
+            lastRequested.set(cell, System.currentTimeMillis());
+            cached = latest.get(cell);
+            if (cached != null && cached.baseTime().equals(baseTime)) return Mono.just(cached.values());
+        }
+
+        CompletableFuture<Map<String, String>> future = weatherCache.get(new WeatherKey(nx, ny, baseTime), this::load);
+        Mono<Map<String, String>> fresh = Mono.fromFuture(future, true); // 먼저 응답해도 호출은 취소하지 않음
+
+        if (cached == null) return fresh;
+        Map<String, String> stale = cached.values();
+        return fresh
+                .timeout(staleTimeout, Mono.fromSupplier(() -> {
+                    log.debug("기상청 응답 지연, 이전 관측값 사용: nx={}, ny={}", nx, ny);
+                    return stale;
+                }))
+                .onErrorResume(e -> {
+                    log.warn("기상청 조회 실패, 이전 관측값 사용: nx={}, ny={}, {}", nx, ny, e.toString());
+                    return Mono.just(stale);
+                });
+    }
+
+    // 현재 발표 시각의 관측값을 이미 보유한 격자인지
+    public boolean isFresh(int nx, int ny) {
+        int cell = cellIndex(nx, ny);
+        Observation cached = (cell >= 0) ? latest.get(cell) : null;
+        return cached != null && cached.baseTime().equals(currentBaseTime());
+    }
+
+    /**
+     * 현재 발표 시각의 관측값을 미리 조회 (요청 시각은 기록하지 않음)
+     * - 이미 보유했거나 같은 키를 조회 중이면 추가 호출 없음, 실패는 그대로 전달
+     */
+    public Mono<Void> prefetch(int nx, int ny) {
+        if (isFresh(nx, ny)) return Mono.empty();
+        return Mono.fromFuture(weatherCache.get(new WeatherKey(nx, ny, currentBaseTime()), this::load), true).then();
+    }
+
+    // since 이후 요청된 격자 (최근 요청 순)
+    public List<GridCell> getRecentCells(Duration since) {
+        long from = System.currentTimeMillis() - since.toMillis();
+        List<long[]> recent = new ArrayList<>(); // {요청 시각, 격자 번호}
+        for (int cell = 0; cell < lastRequested.length(); cell++) {
+            long requestedAt = lastRequested.get(cell);
+            if (requestedAt >= from) recent.add(new long[]{requestedAt, cell});
+        }
+        recent.sort((a, b) -> Long.compare(b[0], a[0]));
+        return recent.stream().map(r -> toCell((int) r[1])).toList();
+    }
+
+    private CompletableFuture<Map<String, String>> load(WeatherKey key, Executor executor) {
+        return fetch(key.nx(), key.ny(), key.baseTime())
+                .timeout(fetchTimeout)
+                .map(WeatherCacheService::parse)
+                .doOnNext(values -> store(key, values))
+                .toFuture();
+    }
+
+    // 기상청 초단기실황 API 호출
+    Mono<JsonNode> fetch(int nx, int ny, LocalDateTime baseTime) {
+        String url = "http://apis.data.go.kr/1360000/VilageFcstInfoService_2.0/getUltraSrtNcst" +
+                "?serviceKey=" + kmaServiceKey +
+                "&pageNo=1&numOfRows=10&dataType=JSON" +
+                "&base_date=" + baseTime.format(BASE_DATE) + "&base_time=" + baseTime.format(BASE_TIME) +
+                "&nx=" + nx + "&ny=" + ny;
+        return webClient.get().uri(url).retrieve().bodyToMono(JsonNode.class);
+    }
+
+    // 마지막 관측값 갱신 (늦게 도착한 이전 발표 시각의 응답이 최신 값을 덮어쓰지 않도록)
+    private void store(WeatherKey key, Map<String, String> values) {
+        int cell = cellIndex(key.nx(), key.ny());
+        if (cell < 0) return;
+        Observation observation = new Observation(key.baseTime(), values);
+        Observation prev = latest.getAndAccumulate(cell, observation,
+                (current, next) -> (current != null && current.baseTime().isAfter(next.baseTime())) ? current : next);
+
+        boolean replaced = prev == null || !prev.baseTime().isAfter(observation.baseTime());
+        if (replaced && (prev == null || !prev.values().equals(values))) {
+            eventPublisher.publishEvent(new WeatherObservationChangedEvent(key.nx(), key.ny(), values));
+        }
+    }
+
+    // 기상청 격자 범위 안인지 (nx: 1~149, ny: 1~253)
+    public static boolean isInGrid(int nx, int ny) {
+        return cellIndex(nx, ny) >= 0;
+    }
+
+    // 격자 좌표 -> 배열 번호 (격자 범위 밖이면 -1)
+    private static int cellIndex(int nx, int ny) {
+        if (nx < 1 || nx > GRID_NX || ny < 1 || ny > GRID_NY) return -1;
+        return (ny - 1) * GRID_NX + (nx - 1);
+    }
+
+    private static GridCell toCell(int cell) {
+        return new GridCell(cell % GRID_NX + 1, cell / GRID_NX + 1);
+    }
+
+    // 응답 -> 관측값 (항목이 없으면 예외, 캐시에 저장되지 않음)
+    private static Map<String, String> parse(JsonNode weatherData) {
+        JsonNode items = weatherData.path("response").path("body").path("items").path("item");
+        if (!items.isArray() || items.isEmpty()) {
+            String resultMsg = weatherData.path("response").path("header").path("resultMsg").asText("응답 형식 오류");
+            throw new IllegalStateException("기상청 초단기실황 응답에 관측값이 없습니다: " + resultMsg);
+        }
+
+        Map<String, String> map = new HashMap<>();
+        for (JsonNode item : items) {
+            String category = item.path("category").asText();
+            if (CATEGORIES.contains(category)) {
+                map.put(category, item.path("obsrValue").asText());
+            }
+        }
+        return Map.copyOf(map);
+    }
+
+    LocalDateTime now() {
+        return LocalDateTime.now();
+    }
+
+    // 현재 조회할 발표 시각 (30분 전 시각의 정각)
+    private LocalDateTime currentBaseTime() {
+        return now().minus(PUBLISH_DELAY).truncatedTo(ChronoUnit.HOURS);
+    }
+
+    // 다음 발표 자료를 조회하게 되는 시점까지 남은 시간
+    private Duration untilNextBase(LocalDateTime baseTime) {
+        Duration remaining = Duration.between(now(), baseTime.plusHours(1).plus(PUBLISH_DELAY));
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+}
@@ -0,0 +1,10 @@
+package com.inha.pro.safetynevi.service.map;
+
+import java.util.Map;
+
+/**
+ * 격자 관측값 변경 이벤트
+ * - 새 발표 시각의 관측값이 이전 값과 다를 때(또는 처음 조회될 때) WeatherCacheService가 발행
+ */
+public record WeatherObservationChangedEvent(int nx, int ny, Map<String, String> values) {
+}
@@ -0,0 +1,177 @@
+package com.inha.pro.safetynevi.service.map;
+
+import com.inha.pro.safetynevi.dao.map.FavoritePlaceRepository;
+import com.inha.pro.safetynevi.dao.member.MemberRepository;
+import com.inha.pro.safetynevi.service.calamity.HazardZoneIndex;
+import com.inha.pro.safetynevi.service.calamity.HazardZoneSnapshot;
+import com.inha.pro.safetynevi.util.map.GpsConverter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.support.CronTrigger;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 기상청 초단기실황 프리패치 서비스
+ * - 발표 자료를 조회할 수 있게 된 직후(cron) 사용자가 많은 격자의 관측값을 미리 조회하여 WeatherCacheService에 적재
+ * - 대상 격자 우선순위: 활성 재난 구역 > 최근 요청된 격자 > 실시간 구독 중인 격자 > 회원 집/즐겨찾기 장소 (인원이 많은 격자 순),
+ *   최대 maxCells개
+ * - 동시 호출 수(concurrency)와 초당 호출 수(ratePerSecond)를 제한하여 기상청 API 호출 한도를 지킴
+ * - 전용 스케줄러 스레드에서만 실행 (애플리케이션 전체 @EnableScheduling은 사용하지 않음)
+ */
+@Slf4j
+@Service
+public class WeatherPrefetchService {
+
+    private static final double HAZARD_SAMPLE_DEGREE = 0.02; // 재난 구역 격자 샘플 간격 (기상청 격자 5km보다 촘촘하게)
+    private static final int MAX_HAZARD_SAMPLES = 2_500;     // 구역당 샘플 상한
+    private static final Duration MAX_RUN_TIME = Duration.ofMinutes(50);
+
+    private final WeatherCacheService weatherCacheService;
+    private final GpsConverter gpsConverter;
+    private final MemberRepository memberRepository;
+    private final FavoritePlaceRepository favoritePlaceRepository;
+    private final HazardZoneIndex hazardZoneIndex;
+    private final WeatherPushService weatherPushService;
+
+    private final boolean enabled;
+    private final String cron;
+    private final int maxCells;
+    private final int concurrency;
+    private final Duration callInterval;
+    private final Duration recentWindow;
+    private final ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+
+    public WeatherPrefetchService(WeatherCacheService weatherCacheService,
+                                  GpsConverter gpsConverter,
+                                  MemberRepository memberRepository,
+                                  FavoritePlaceRepository favoritePlaceRepository,
+                                  HazardZoneIndex hazardZoneIndex,
+                                  WeatherPushService weatherPushService,
+                                  @Value("${weather.prefetch.enabled:true}") boolean enabled,
+                                  @Value("${weather.prefetch.cron:0 32 * * * *}") String cron,
+                                  @Value("${weather.prefetch.max-cells:400}") int maxCells,
+                                  @Value("${weather.prefetch.concurrency:4}") int concurrency,
+                                  @Value("${weather.prefetch.rate-per-second:10}") int ratePerSecond,
+                                  @Value("${weather.prefetch.recent-hours:24}") long recentHours) {
+        this.weatherCacheService = weatherCacheService;
+        this.gpsConverter = gpsConverter;
+        this.memberRepository = memberRepository;
+        this.favoritePlaceRepository = favoritePlaceRepository;
+        this.hazardZoneIndex = hazardZoneIndex;
+        this.weatherPushService = weatherPushService;
+        this.enabled = enabled;
+        this.cron = cron;
+        this.maxCells = maxCells;
+        this.concurrency = Math.max(1, concurrency);
+        this.callInterval = Duration.ofMillis(1000 / Math.max(1, ratePerSecond));
+        this.recentWindow = Duration.ofHours(recentHours);
+
+        scheduler.setPoolSize(1); // 한 번에 한 회차만 실행 (이전 회차가 끝나지 않으면 다음 회차는 대기)
+        scheduler.setThreadNamePrefix("weather-prefetch-");
+        scheduler.setDaemon(true);
+    }
+
+    // 기동 직후 한 번 채우고, 이후 매 발표 주기마다 실행
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) return;
+        scheduler.initialize();
+        scheduler.execute(this::prefetch);
+        scheduler.schedule(this::prefetch, new CronTrigger(cron));
+        log.info("🌤️ 날씨 프리패치 스케줄 등록: cron={}, 최대 {}개 격자", cron, maxCells);
+    }
+
+    void prefetch() {
+        long start = System.currentTimeMillis();
+        try {
+            List<WeatherCacheService.GridCell> targets = findHotCells().stream()
+                    .filter(cell -> !weatherCacheService.isFresh(cell.nx(), cell.ny()))
+                    .toList();
+
+            Integer fetched = Flux.fromIterable(targets)
+                    .delayElements(callInterval) // 초당 호출 수 제한
+                    .flatMap(cell -> weatherCacheService.prefetch(cell.nx(), cell.ny())
+                            .thenReturn(1)
+                            .onErrorResume(e -> {
+                                log.debug("날씨 프리패치 실패: nx={}, ny={}, {}", cell.nx(), cell.ny(), e.toString());
+                                return Mono.just(0);
+                            }), concurrency)
+                    .reduce(0, Integer::sum)
+                    .block(MAX_RUN_TIME);
+            log.info("🌤️ 날씨 프리패치 완료: {}/{}개 격자 ({} ms)", fetched, targets.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("날씨 프리패치 실패", e);
+        }
+    }
+
+    // 프리패치 대상 격자 (우선순위 순, 최대 maxCells개)
+    private List<WeatherCacheService.GridCell> findHotCells() {
+        Set<WeatherCacheService.GridCell> cells = new LinkedHashSet<>();
+        addHazardCells(cells);
+        cells.addAll(weatherCacheService.getRecentCells(recentWindow));
+        cells.addAll(weatherPushService.getSubscribedCells()); // 구독은 요청 없이 늘릴 수 있으므로 실제 요청 격자 다음
+
+        List<Object[]> locations = new ArrayList<>(memberRepository.findAllHomeLocations());
+        locations.addAll(favoritePlaceRepository.findAllLocations());
+        int count = locations.size();
+        double[] lats = new double[count], lons = new double[count];
+        for (int i = 0; i < count; i++) {
+            lats[i] = (Double) locations.get(i)[0];
+            lons[i] = (Double) locations.get(i)[1];
+        }
+        int[] xs = new int[count], ys = new int[count];
+        gpsConverter.convertGpsToGrid(lats, lons, count, xs, ys);
+
+        Map<WeatherCacheService.GridCell, Integer> residents = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            residents.merge(new WeatherCacheService.GridCell(xs[i], ys[i]), 1, Integer::sum);
+        }
+        residents.entrySet().stream()
+                .sorted(Map.Entry.<WeatherCacheService.GridCell, Integer>comparingByValue().reversed())
+                .forEach(e -> cells.add(e.getKey()));
+
+        return cells.stream().limit(maxCells).toList();
+    }
+
+    // 활성 재난 구역을 덮는 격자 (구역 외접 사각형을 샘플링하여 구역 안의 점만, 작은 구역은 중심점 포함)
+    private void addHazardCells(Set<WeatherCacheService.GridCell> cells) {
+        HazardZoneSnapshot hazards = hazardZoneIndex.current();
+        for (HazardZoneSnapshot.Bounds bounds : hazards.zoneBounds()) {
+            cells.add(toCell((bounds.minLat() + bounds.maxLat()) / 2, (bounds.minLon() + bounds.maxLon()) / 2));
+
+            double step = HAZARD_SAMPLE_DEGREE;
+            double area = (bounds.maxLat() - bounds.minLat()) * (bounds.maxLon() - bounds.minLon());
+            if (area / (step * step) > MAX_HAZARD_SAMPLES) step = Math.sqrt(area / MAX_HAZARD_SAMPLES);
+
+            for (double lat = bounds.minLat(); lat <= bounds.maxLat(); lat += step) {
+                for (double lon = bounds.minLon(); lon <= bounds.maxLon(); lon += step) {
+                    if (hazards.contains(lat, lon)) cells.add(toCell(lat, lon));
+                }
+            }
+        }
+    }
+
+    private WeatherCacheService.GridCell toCell(double lat, double lon) {
+        GpsConverter.LatXLngY grid = gpsConverter.convertGpsToGrid(lat, lon);
+        return new WeatherCacheService.GridCell(grid.x, grid.y);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+}
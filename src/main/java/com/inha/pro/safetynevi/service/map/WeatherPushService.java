@@ -0,0 +1,107 @@
+package com.inha.pro.safetynevi.service.map;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 격자별 날씨 실시간 전송 서비스 (STOMP)
+ * - 클라이언트는 /api/weather 응답의 격자 좌표(nx, ny)로 /topic/weather/{nx}/{ny}를 구독
+ * - 격자 관측값이 바뀌면(WeatherObservationChangedEvent) 구독자가 있는 격자에만 한 번 발행, 분배는 브로커가 담당
+ * - 구독 중인 격자는 WeatherPrefetchService가 발표 주기마다 갱신 (격자/발표 시각당 기상청 호출 1회)
+ * - 격자 범위 밖 좌표와 세션당 MAX_SUBSCRIPTIONS_PER_SESSION개를 넘는 구독은 추적하지 않음 (프리패치 대상 부풀리기 방지)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WeatherPushService {
+
+    public static final String TOPIC_PREFIX = "/topic/weather/";
+    public static final int MAX_SUBSCRIPTIONS_PER_SESSION = 5;
+    private static final Pattern TOPIC = Pattern.compile("^/topic/weather/(\\d{1,3})/(\\d{1,3})$");
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final WeatherService weatherService;
+
+    // 세션 ID -> 구독 ID -> 격자 (구독 해제 메시지에는 destination이 없으므로 보관)
+    private final Map<String, Map<String, WeatherCacheService.GridCell>> sessions = new ConcurrentHashMap<>();
+    // 격자별 구독 수
+    private final Map<WeatherCacheService.GridCell, Integer> subscribers = new ConcurrentHashMap<>();
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        if (destination == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) return;
+        Matcher matcher = TOPIC.matcher(destination);
+        if (!matcher.matches()) return;
+
+        int nx = Integer.parseInt(matcher.group(1));
+        int ny = Integer.parseInt(matcher.group(2));
+        if (!WeatherCacheService.isInGrid(nx, ny)) return;
+
+        WeatherCacheService.GridCell cell = new WeatherCacheService.GridCell(nx, ny);
+        Map<String, WeatherCacheService.GridCell> subscriptions =
+                sessions.computeIfAbsent(accessor.getSessionId(), id -> new ConcurrentHashMap<>());
+        if (subscriptions.size() >= MAX_SUBSCRIPTIONS_PER_SESSION
+                && !subscriptions.containsKey(accessor.getSubscriptionId())) {
+            log.debug("날씨 구독 한도 초과: session={}, destination={}", accessor.getSessionId(), destination);
+            return;
+        }
+        WeatherCacheService.GridCell previous = subscriptions.put(accessor.getSubscriptionId(), cell);
+        if (previous != null) release(previous);
+        subscribers.merge(cell, 1, Integer::sum);
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        if (accessor.getSessionId() == null || accessor.getSubscriptionId() == null) return;
+        Map<String, WeatherCacheService.GridCell> subscriptions = sessions.get(accessor.getSessionId());
+        if (subscriptions == null) return;
+
+        WeatherCacheService.GridCell cell = subscriptions.remove(accessor.getSubscriptionId());
+        if (cell != null) release(cell);
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, WeatherCacheService.GridCell> subscriptions = sessions.remove(event.getSessionId());
+        if (subscriptions != null) subscriptions.values().forEach(this::release);
+    }
+
+    // 관측값이 바뀐 격자에 구독자가 있으면 발행 (주소는 클라이언트가 최초 조회 값 유지)
+    @EventListener
+    public void onObservationChanged(WeatherObservationChangedEvent event) {
+        WeatherCacheService.GridCell cell = new WeatherCacheService.GridCell(event.nx(), event.ny());
+        if (!subscribers.containsKey(cell)) return;
+
+        try {
+            messagingTemplate.convertAndSend(TOPIC_PREFIX + event.nx() + "/" + event.ny(),
+                    weatherService.toWeatherDto(null, event.nx(), event.ny(), event.values()));
+        } catch (Exception e) {
+            log.warn("날씨 실시간 전송 실패: nx={}, ny={}, {}", event.nx(), event.ny(), e.toString());
+        }
+    }
+
+    // 구독자가 있는 격자 (프리패치 대상)
+    public List<WeatherCacheService.GridCell> getSubscribedCells() {
+        return List.copyOf(subscribers.keySet());
+    }
+
+    private void release(WeatherCacheService.GridCell cell) {
+        subscribers.computeIfPresent(cell, (c, count) -> (count > 1) ? count - 1 : null);
+    }
+}
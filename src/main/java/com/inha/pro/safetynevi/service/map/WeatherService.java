@@ -10,15 +10,14 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * 날씨 정보 서비스
- * - WebClient(Non-blocking)를 사용하여 기상청 API와 카카오 주소 API를 병렬 호출
+ * - WebClient(Non-blocking)를 사용하여 기상청 API와 주소 조회를 병렬 처리
+ * - 기상청 관측값은 격자/발표 시각 단위로 WeatherCacheService에서 공유
+ * - 주소는 ReverseGeocodeService(오프라인 경계 색인)로 먼저 찾고, 읍면동까지 찾지 못하면 카카오 API로 대체 (kakaoFallback)
  */
 @Slf4j
 @Service
@@ -26,36 +25,57 @@ import java.util.Map;
 public class WeatherService {
 
     private final GpsConverter gpsConverter;
+    private final WeatherCacheService weatherCacheService;
+    private final ReverseGeocodeService reverseGeocodeService;
     private final WebClient webClient = WebClient.create();
 
-    @Value("${api.kma.serviceKey}")
-    private String kmaServiceKey;
-
     @Value("${api.kakao.restKey}")
     private String kakaoRestKey;
 
+    @Value("${geocode.kakao-fallback:true}")
+    private boolean kakaoFallback;
+
     public Mono<WeatherDto> getWeatherInfo(double lat, double lon) {
         // 주소 조회와 날씨 조회를 병렬(zip)로 처리
-        Mono<String> addressMono = getAddressFromKakao(lat, lon);
+        Mono<String> addressMono = getAddress(lat, lon);
         GpsConverter.LatXLngY grid = gpsConverter.convertGpsToGrid(lat, lon);
-        Mono<JsonNode> weatherMono = getKmaWeather(grid.x, grid.y);
+        Mono<Map<String, String>> weatherMono = weatherCacheService.getObservation(grid.x, grid.y)
+                .onErrorResume(e -> {
+                    log.error("Weather fetch error: nx={}, ny={}", grid.x, grid.y, e);
+                    return Mono.just(Map.of());
+                });
 
         return Mono.zip(addressMono, weatherMono)
-                .map(tuple -> {
-                    String address = tuple.getT1();
-                    JsonNode weatherData = tuple.getT2();
-                    Map<String, String> weatherMap = parseKmaWeather(weatherData);
+                .map(tuple -> toWeatherDto(tuple.getT1(), grid.x, grid.y, tuple.getT2()));
+    }
 
-                    String status = combineWeatherStatus(
-                            weatherMap.getOrDefault("PTY", "0"),
-                            weatherMap.getOrDefault("SKY", "0")
-                    );
+    // 격자 관측값 -> 응답 DTO (WeatherPushService의 실시간 전송에도 사용, 이때 주소는 null)
+    WeatherDto toWeatherDto(String address, int nx, int ny, Map<String, String> weatherMap) {
+        String status = combineWeatherStatus(
+                weatherMap.getOrDefault("PTY", "0"),
+                weatherMap.getOrDefault("SKY", "0")
+        );
+
+        return WeatherDto.builder()
+                .address(address)
+                .temp(weatherMap.getOrDefault("T1H", "N/A"))
+                .weatherStatus(status)
+                .nx(nx)
+                .ny(ny)
+                .build();
+    }
 
-                    return WeatherDto.builder()
-                            .address(address)
-                            .temp(weatherMap.getOrDefault("T1H", "N/A"))
-                            .weatherStatus(status)
-                            .build();
+    // 오프라인 역지오코딩 결과 (읍면동까지 찾으면 외부 호출 없음)
+    private Mono<String> getAddress(double lat, double lon) {
+        Optional<ReverseGeocodeService.Region> region = reverseGeocodeService.findRegion(lat, lon);
+        if (region.isPresent() && region.get().dong() != null) return Mono.just(region.get().shortAddress());
+
+        String local = region.map(ReverseGeocodeService.Region::shortAddress).orElse("주소 정보 없음");
+        if (!kakaoFallback) return Mono.just(local);
+        return getAddressFromKakao(lat, lon)
+                .onErrorResume(e -> {
+                    log.warn("카카오 주소 조회 실패: lat={}, lon={}, {}", lat, lon, e.toString());
+                    return Mono.just(local);
                 });
     }
 
@@ -76,33 +96,6 @@ public class WeatherService {
                 });
     }
 
-    private Mono<JsonNode> getKmaWeather(int nx, int ny) {
-        LocalDateTime now = LocalDateTime.now().minusMinutes(30);
-        String baseDate = now.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        String baseTime = now.format(DateTimeFormatter.ofPattern("HH00"));
-
-        String url = "http://apis.data.go.kr/1360000/VilageFcstInfoService_2.0/getUltraSrtNcst" +
-                "?serviceKey=" + kmaServiceKey +
-                "&pageNo=1&numOfRows=10&dataType=JSON" +
-                "&base_date=" + baseDate + "&base_time=" + baseTime + "&nx=" + nx + "&ny=" + ny;
-
-        return webClient.get().uri(url).retrieve().bodyToMono(JsonNode.class);
-    }
-
-    private Map<String, String> parseKmaWeather(JsonNode weatherData) {
-        Map<String, String> map = new HashMap<>();
-        try {
-            JsonNode items = weatherData.get("response").get("body").get("items").get("item");
-            for (JsonNode item : items) {
-                String category = item.get("category").asText();
-                if (List.of("T1H", "SKY", "PTY").contains(category)) {
-                    map.put(category, item.get("obsrValue").asText());
-                }
-            }
-        } catch (Exception e) { log.error("Weather parse error", e); }
-        return map;
-    }
-
     private String combineWeatherStatus(String pty, String sky) {
         if (!"0".equals(pty)) {
             return switch (pty) {
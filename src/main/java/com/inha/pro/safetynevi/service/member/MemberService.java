@@ -3,6 +3,7 @@ package com.inha.pro.safetynevi.service.member;
 import com.inha.pro.safetynevi.dao.member.*;
 import com.inha.pro.safetynevi.dto.member.MemberSignupDto;
 import com.inha.pro.safetynevi.entity.member.*;
+import com.inha.pro.safetynevi.service.map.ReverseGeocodeService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -24,6 +25,7 @@ public class MemberService {
     private final AccessLogRepository accessLogRepository;
     private final InquiryRepository inquiryRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ReverseGeocodeService reverseGeocodeService;
 
     // --- 회원 가입 ---
     public void signup(MemberSignupDto dto) {
@@ -37,7 +39,7 @@ public class MemberService {
                 .nickname(dto.getNickname())
                 .address(dto.getAddress())
                 .detailAddress(dto.getDetailAddress())
-                .areaName(dto.getAreaName())
+                .areaName(resolveAreaName(dto))
                 .latitude(dto.getLatitude())
                 .longitude(dto.getLongitude())
                 .emergencyPhone(dto.getEmergencyPhone())
@@ -47,6 +49,17 @@ public class MemberService {
         memberRepository.save(member);
     }
 
+    // 시군구명은 입력값(다음 주소 API의 sigungu) 우선 - 지역 재난 알림의 areaName 매칭 기준과 같은 표기
+    // 입력값이 비어 있고 가입 좌표가 있을 때만 오프라인 역지오코딩으로 보충
+    private String resolveAreaName(MemberSignupDto dto) {
+        String areaName = dto.getAreaName();
+        if (areaName != null && !areaName.isBlank()) return areaName;
+        if (dto.getLatitude() == null || dto.getLongitude() == null) return areaName;
+        return reverseGeocodeService.findRegion(dto.getLatitude(), dto.getLongitude())
+                .map(ReverseGeocodeService.Region::sigungu)
+                .orElse(areaName);
+    }
+
     private void validatePassword(String pw) {
         if (pw == null || pw.length() < 8) throw new IllegalArgumentException("비밀번호는 8자 이상이어야 합니다.");
         int strength = 0;
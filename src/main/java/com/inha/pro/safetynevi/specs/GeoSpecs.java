@@ -0,0 +1,37 @@
+package com.inha.pro.safetynevi.specs;
+
+import com.inha.pro.safetynevi.util.map.HilbertCurve;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 좌표 범위 검색 조건 (JPA Specification)
+ * - geoKey/latitude/longitude 필드를 가진 엔티티 공용 (FacilityMarker, Member)
+ * - 사각형을 힐베르트 키 구간 몇 개로 분해하여 GEO_KEY 인덱스 범위 스캔 후, 실제 좌표로 정확히 재필터링
+ */
+@Component
+public class GeoSpecs {
+
+    // (GEO_KEY BETWEEN a1 AND b1 OR ...) AND LATITUDE BETWEEN .. AND LONGITUDE BETWEEN ..
+    public static <T> Specification<T> withinBounds(double swLat, double swLng, double neLat, double neLng) {
+        List<long[]> ranges = HilbertCurve.ranges(swLat, swLng, neLat, neLng);
+        return (root, query, criteriaBuilder) -> {
+            if (ranges.isEmpty()) return criteriaBuilder.disjunction();
+
+            Path<Long> geoKey = root.get("geoKey");
+            Predicate[] keyRanges = ranges.stream()
+                    .map(range -> criteriaBuilder.between(geoKey, range[0], range[1]))
+                    .toArray(Predicate[]::new);
+
+            return criteriaBuilder.and(
+                    criteriaBuilder.or(keyRanges),
+                    criteriaBuilder.between(root.<Double>get("latitude"), swLat, neLat),
+                    criteriaBuilder.between(root.<Double>get("longitude"), swLng, neLng)
+            );
+        };
+    }
+}
@@ -0,0 +1,29 @@
+package com.inha.pro.safetynevi.util.map;
+
+/**
+ * 두 위경도 좌표 사이의 직선(대원) 거리 유틸리티
+ * - Haversine 공식, 지구 반지름 6371km (구면 근사)
+ * - 경로 추천/재난 구역 판정/시설 검색/도로 그래프 휴리스틱이 모두 같은 거리 기준을 쓰도록 한 곳에 둠
+ */
+public final class GeoDistance {
+
+    public static final double EARTH_RADIUS_KM = 6371;
+
+    private GeoDistance() {
+    }
+
+    // 직선 거리 (미터)
+    public static double meter(double lat1, double lon1, double lat2, double lon2) {
+        return km(lat1, lon1, lat2, lon2) * 1000;
+    }
+
+    // 직선 거리 (킬로미터)
+    public static double km(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return EARTH_RADIUS_KM * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+}
@@ -0,0 +1,92 @@
+package com.inha.pro.safetynevi.util.map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 위경도 (멀티)폴리곤
+ * - GeoJSON Polygon / MultiPolygon geometry로부터 생성 (좌표 순서 [경도, 위도])
+ * - 포함 여부는 외곽선/구멍을 구분하지 않고 모든 링에 대해 짝홀(Even-Odd) 규칙으로 판정
+ * - 외접 사각형(Bounding Box)으로 먼저 걸러 대부분의 좌표는 링 순회 없이 판정
+ */
+public final class GeoPolygon {
+
+    private final double[][] ringLats;
+    private final double[][] ringLons;
+    private final double minLat;
+    private final double maxLat;
+    private final double minLon;
+    private final double maxLon;
+
+    private GeoPolygon(List<double[][]> rings) {
+        int n = rings.size();
+        ringLats = new double[n][];
+        ringLons = new double[n][];
+        double minLat = Double.MAX_VALUE, maxLat = -Double.MAX_VALUE;
+        double minLon = Double.MAX_VALUE, maxLon = -Double.MAX_VALUE;
+        for (int r = 0; r < n; r++) {
+            ringLats[r] = rings.get(r)[0];
+            ringLons[r] = rings.get(r)[1];
+            for (int i = 0; i < ringLats[r].length; i++) {
+                minLat = Math.min(minLat, ringLats[r][i]);
+                maxLat = Math.max(maxLat, ringLats[r][i]);
+                minLon = Math.min(minLon, ringLons[r][i]);
+                maxLon = Math.max(maxLon, ringLons[r][i]);
+            }
+        }
+        this.minLat = minLat;
+        this.maxLat = maxLat;
+        this.minLon = minLon;
+        this.maxLon = maxLon;
+    }
+
+    // GeoJSON geometry 노드로부터 생성 (Polygon / MultiPolygon 외에는 null)
+    public static GeoPolygon fromGeoJson(JsonNode geometry) {
+        if (geometry == null) return null;
+        String type = geometry.path("type").asText();
+        JsonNode coordinates = geometry.path("coordinates");
+
+        List<double[][]> rings = new ArrayList<>();
+        if ("Polygon".equals(type)) {
+            coordinates.forEach(ring -> rings.add(toRing(ring)));
+        } else if ("MultiPolygon".equals(type)) {
+            coordinates.forEach(polygon -> polygon.forEach(ring -> rings.add(toRing(ring))));
+        } else {
+            return null;
+        }
+        return rings.isEmpty() ? null : new GeoPolygon(rings);
+    }
+
+    private static double[][] toRing(JsonNode ring) {
+        double[] lats = new double[ring.size()];
+        double[] lons = new double[ring.size()];
+        for (int i = 0; i < ring.size(); i++) {
+            lons[i] = ring.get(i).get(0).asDouble();
+            lats[i] = ring.get(i).get(1).asDouble();
+        }
+        return new double[][]{lats, lons};
+    }
+
+    public boolean contains(double lat, double lon) {
+        if (lat < minLat || lat > maxLat || lon < minLon || lon > maxLon) return false;
+
+        boolean inside = false;
+        for (int r = 0; r < ringLats.length; r++) {
+            double[] lats = ringLats[r], lons = ringLons[r];
+            for (int i = 0, j = lats.length - 1; i < lats.length; j = i++) {
+                if ((lats[i] > lat) != (lats[j] > lat)
+                        && lon < (lons[j] - lons[i]) * (lat - lats[i]) / (lats[j] - lats[i]) + lons[i]) {
+                    inside = !inside;
+                }
+            }
+        }
+        return inside;
+    }
+
+    public double getMinLat() { return minLat; }
+    public double getMaxLat() { return maxLat; }
+    public double getMinLon() { return minLon; }
+    public double getMaxLon() { return maxLon; }
+}
@@ -0,0 +1,90 @@
+package com.inha.pro.safetynevi.util.map;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 폴리곤 공간 색인 (균등 위경도 격자)
+ * - 전체 외접 사각형을 cellDegree 크기 셀로 나누고, 셀마다 외접 사각형이 겹치는 폴리곤 번호를 보관
+ * - 조회는 좌표가 속한 셀의 후보만 포함 여부를 판정하므로 폴리곤 수와 무관하게 후보 몇 개만 검사
+ * - 생성 후 변경하지 않으므로 스레드 간 공유 가능
+ */
+public final class GeoPolygonIndex {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final List<GeoPolygon> polygons;
+    private final double minLat;
+    private final double minLon;
+    private final double cellDegree;
+    private final int rows;
+    private final int cols;
+    private final int[][] cells; // [row * cols + col] -> 폴리곤 번호
+
+    public GeoPolygonIndex(List<GeoPolygon> polygons, double cellDegree) {
+        this.polygons = List.copyOf(polygons);
+        this.cellDegree = cellDegree;
+
+        double minLat = Double.MAX_VALUE, maxLat = -Double.MAX_VALUE;
+        double minLon = Double.MAX_VALUE, maxLon = -Double.MAX_VALUE;
+        for (GeoPolygon polygon : this.polygons) {
+            minLat = Math.min(minLat, polygon.getMinLat());
+            maxLat = Math.max(maxLat, polygon.getMaxLat());
+            minLon = Math.min(minLon, polygon.getMinLon());
+            maxLon = Math.max(maxLon, polygon.getMaxLon());
+        }
+        this.minLat = minLat;
+        this.minLon = minLon;
+        this.rows = this.polygons.isEmpty() ? 0 : (int) ((maxLat - minLat) / cellDegree) + 1;
+        this.cols = this.polygons.isEmpty() ? 0 : (int) ((maxLon - minLon) / cellDegree) + 1;
+
+        List<List<Integer>> buckets = new ArrayList<>(rows * cols);
+        for (int i = 0; i < rows * cols; i++) buckets.add(null);
+        for (int p = 0; p < this.polygons.size(); p++) {
+            GeoPolygon polygon = this.polygons.get(p);
+            int rowFrom = row(polygon.getMinLat()), rowTo = row(polygon.getMaxLat());
+            int colFrom = col(polygon.getMinLon()), colTo = col(polygon.getMaxLon());
+            for (int r = rowFrom; r <= rowTo; r++) {
+                for (int c = colFrom; c <= colTo; c++) {
+                    int cell = r * cols + c;
+                    if (buckets.get(cell) == null) buckets.set(cell, new ArrayList<>(2));
+                    buckets.get(cell).add(p);
+                }
+            }
+        }
+
+        this.cells = new int[rows * cols][];
+        for (int i = 0; i < cells.length; i++) {
+            List<Integer> bucket = buckets.get(i);
+            cells[i] = (bucket == null) ? EMPTY : bucket.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    /**
+     * 좌표를 포함하는 폴리곤 번호 (생성 시 목록 순서, 없으면 -1)
+     * - 경계가 겹치는 경우 셀 후보 중 먼저 등록된 폴리곤
+     */
+    public int find(double lat, double lon) {
+        if (rows == 0) return -1;
+        int r = (int) Math.floor((lat - minLat) / cellDegree);
+        int c = (int) Math.floor((lon - minLon) / cellDegree);
+        if (r < 0 || r >= rows || c < 0 || c >= cols) return -1;
+
+        for (int p : cells[r * cols + c]) {
+            if (polygons.get(p).contains(lat, lon)) return p;
+        }
+        return -1;
+    }
+
+    public int size() {
+        return polygons.size();
+    }
+
+    private int row(double lat) {
+        return Math.min(rows - 1, (int) ((lat - minLat) / cellDegree));
+    }
+
+    private int col(double lon) {
+        return Math.min(cols - 1, (int) ((lon - minLon) / cellDegree));
+    }
+}
@@ -4,27 +4,34 @@ import org.springframework.stereotype.Component;
 
 /**
  * GPS 좌표 변환기
- * - 위도/경도(WGS84)를 기상청 API용 격자 좌표(X, Y)로 변환
+ * - 위도/경도(WGS84)를 기상청 API용 격자 좌표(X, Y)로 변환 (역변환 포함)
  * - Lambert Conformal Conic Projection(람베르트 정각 원추 투영법) 적용
+ * - 투영 상수(sn, sf, ro)는 클래스 로딩 시 한 번만 계산, 좌표당 tan/pow/sin/cos 각 1회
+ * - 대량 변환은 배열 API 사용 (좌표당 객체 생성 없음)
  */
 @Component
 public class GpsConverter {
 
-    public LatXLngY convertGpsToGrid(double lat, double lon) {
-        double RE = 6371.00877; // 지구 반경(km)
-        double GRID = 5.0;      // 격자 간격(km)
-        double SLAT1 = 30.0;    // 투영 위도1
-        double SLAT2 = 60.0;    // 투영 위도2
-        double OLON = 126.0;    // 기준점 경도
-        double OLAT = 38.0;     // 기준점 위도
-        double XO = 43;         // 기준점 X좌표
-        double YO = 136;        // 기준점 Y좌표
-        double DEGRAD = Math.PI / 180.0;
+    private static final double RE = 6371.00877; // 지구 반경(km)
+    private static final double GRID = 5.0;      // 격자 간격(km)
+    private static final double SLAT1 = 30.0;    // 투영 위도1
+    private static final double SLAT2 = 60.0;    // 투영 위도2
+    private static final double OLON = 126.0;    // 기준점 경도
+    private static final double OLAT = 38.0;     // 기준점 위도
+    private static final double XO = 43;         // 기준점 X좌표
+    private static final double YO = 136;        // 기준점 Y좌표
+    private static final double DEGRAD = Math.PI / 180.0;
+    private static final double RADDEG = 180.0 / Math.PI;
+
+    private static final double SN;
+    private static final double RE_SF; // re * sf
+    private static final double RO;
+    private static final double OLON_RAD = OLON * DEGRAD;
 
+    static {
         double re = RE / GRID;
         double slat1 = SLAT1 * DEGRAD;
         double slat2 = SLAT2 * DEGRAD;
-        double olon = OLON * DEGRAD;
         double olat = OLAT * DEGRAD;
 
         double sn = Math.tan(Math.PI * 0.25 + slat2 * 0.5) / Math.tan(Math.PI * 0.25 + slat1 * 0.5);
@@ -33,31 +40,88 @@ public class GpsConverter {
         double sf = Math.tan(Math.PI * 0.25 + slat1 * 0.5);
         sf = Math.pow(sf, sn) * Math.cos(slat1) / sn;
 
-        double ro = Math.tan(Math.PI * 0.25 + olat * 0.5);
-        ro = re * sf / Math.pow(ro, sn);
+        SN = sn;
+        RE_SF = re * sf;
+        RO = RE_SF / Math.pow(Math.tan(Math.PI * 0.25 + olat * 0.5), sn);
+    }
 
+    public LatXLngY convertGpsToGrid(double lat, double lon) {
         LatXLngY rs = new LatXLngY();
         rs.lat = lat;
         rs.lng = lon;
 
-        double ra = Math.tan(Math.PI * 0.25 + (lat) * DEGRAD * 0.5);
-        ra = re * sf / Math.pow(ra, sn);
+        long grid = toGrid(lat, lon);
+        rs.x = gridX(grid);
+        rs.y = gridY(grid);
+        return rs;
+    }
 
-        double theta = lon * DEGRAD - olon;
-        if (theta > Math.PI) theta -= 2.0 * Math.PI;
-        if (theta < -Math.PI) theta += 2.0 * Math.PI;
-        theta *= sn;
+    /**
+     * 좌표 배열 일괄 변환 (convertGpsToGrid와 같은 결과)
+     * - lats[i], lons[i] -> xs[i], ys[i] (i < count)
+     */
+    public void convertGpsToGrid(double[] lats, double[] lons, int count, int[] xs, int[] ys) {
+        for (int i = 0; i < count; i++) {
+            long grid = toGrid(lats[i], lons[i]);
+            xs[i] = gridX(grid);
+            ys[i] = gridY(grid);
+        }
+    }
 
-        rs.x = (int) (Math.floor(ra * Math.sin(theta) + XO + 0.5));
-        rs.y = (int) (Math.floor(ro - ra * Math.cos(theta) + YO + 0.5));
+    // 격자 -> 위경도 (격자 중심 좌표)
+    public LatXLngY convertGridToGps(int x, int y) {
+        double xn = x - XO;
+        double yn = RO - y + YO;
+        double ra = Math.sqrt(xn * xn + yn * yn);
+        if (SN < 0.0) ra = -ra;
+        double alat = 2.0 * Math.atan(Math.pow(RE_SF / ra, 1.0 / SN)) - Math.PI * 0.5;
 
+        double theta;
+        if (Math.abs(xn) <= 0.0) {
+            theta = 0.0;
+        } else if (Math.abs(yn) <= 0.0) {
+            theta = Math.PI * 0.5;
+            if (xn < 0.0) theta = -theta;
+        } else {
+            theta = Math.atan2(xn, yn);
+        }
+
+        LatXLngY rs = new LatXLngY();
+        rs.lat = alat * RADDEG;
+        rs.lng = (theta / SN + OLON_RAD) * RADDEG;
+        rs.x = x;
+        rs.y = y;
         return rs;
     }
 
+    // 위경도 -> 격자 (X는 상위 32비트, Y는 하위 32비트에 담아 객체 생성 없이 반환)
+    private static long toGrid(double lat, double lon) {
+        double ra = RE_SF / Math.pow(Math.tan(Math.PI * 0.25 + lat * DEGRAD * 0.5), SN);
+        double theta = theta(lon);
+        int x = (int) Math.floor(ra * Math.sin(theta) + XO + 0.5);
+        int y = (int) Math.floor(RO - ra * Math.cos(theta) + YO + 0.5);
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    private static int gridX(long grid) {
+        return (int) (grid >> 32);
+    }
+
+    private static int gridY(long grid) {
+        return (int) grid;
+    }
+
+    private static double theta(double lon) {
+        double theta = lon * DEGRAD - OLON_RAD;
+        if (theta > Math.PI) theta -= 2.0 * Math.PI;
+        if (theta < -Math.PI) theta += 2.0 * Math.PI;
+        return theta * SN;
+    }
+
     public static class LatXLngY {
         public double lat;
         public double lng;
         public int x;
         public int y;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,144 @@
+package com.inha.pro.safetynevi.util.map;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 힐베르트 곡선(Hilbert Curve) 공간 키 유틸리티
+ * - 대한민국 범위(위도 32~39.5, 경도 124~132)를 2^16 x 2^16 격자(약 12m)로 나누고 격자를 곡선 순서 번호(GEO_KEY)로 변환
+ * - 가까운 좌표는 대체로 가까운 키를 가지므로 B-tree 인덱스 하나로 2차원 범위 검색 가능
+ * - 범위 밖 좌표는 가장자리 격자로 보정 (키/검색 범위 모두 같은 방식이므로 최종 좌표 재확인 시 누락 없음)
+ *
+ * [범위 검색]
+ *   1. 사각형을 쿼드트리 노드로 분해 (정렬된 노드 하나 = 연속된 키 구간 하나)
+ *   2. 인접 구간 병합 후, 구간 수가 maxRanges를 넘으면 간격이 가장 작은 구간끼리 병합
+ *   3. 각 구간을 GEO_KEY BETWEEN 으로 조회하고 실제 위경도로 한 번 더 필터링
+ */
+public final class HilbertCurve {
+
+    public static final int ORDER = 16;
+    public static final int DEFAULT_MAX_RANGES = 16;
+
+    private static final double MIN_LAT = 32.0;
+    private static final double MAX_LAT = 39.5;
+    private static final double MIN_LON = 124.0;
+    private static final double MAX_LON = 132.0;
+
+    private static final int SIDE = 1 << ORDER;
+    private static final int EXTRA_DEPTH = 4; // 사각형 크기 기준 노드보다 최대 몇 단계 더 세분할지
+
+    private HilbertCurve() {
+    }
+
+    // 위경도 -> GEO_KEY
+    public static long encode(double lat, double lon) {
+        return xy2d(xOf(lon), yOf(lat));
+    }
+
+    // 사각형 범위 -> GEO_KEY 구간 목록 ({시작, 끝} 포함 구간, 오름차순)
+    public static List<long[]> ranges(double swLat, double swLng, double neLat, double neLng) {
+        return ranges(swLat, swLng, neLat, neLng, DEFAULT_MAX_RANGES);
+    }
+
+    public static List<long[]> ranges(double swLat, double swLng, double neLat, double neLng, int maxRanges) {
+        List<long[]> ranges = new ArrayList<>();
+        if (swLat > neLat || swLng > neLng) return ranges;
+
+        int x0 = xOf(swLng), x1 = xOf(neLng);
+        int y0 = yOf(swLat), y1 = yOf(neLat);
+
+        // 사각형의 긴 변을 덮는 노드 크기에서 EXTRA_DEPTH 단계까지만 세분 (구간 수 상한)
+        int span = Math.max(x1 - x0, y1 - y0) + 1;
+        int minSize = Math.max(1, Integer.highestOneBit(span) >> EXTRA_DEPTH);
+
+        decompose(0, 0, SIDE, x0, y0, x1, y1, minSize, ranges);
+        ranges.sort(Comparator.comparingLong(r -> r[0]));
+        return mergeRanges(ranges, Math.max(1, maxRanges));
+    }
+
+    // --- 쿼드트리 분해 ---
+
+    private static void decompose(int nx, int ny, int size, int x0, int y0, int x1, int y1,
+                                  int minSize, List<long[]> out) {
+        if (nx > x1 || ny > y1 || nx + size - 1 < x0 || ny + size - 1 < y0) return;
+
+        boolean contained = nx >= x0 && ny >= y0 && nx + size - 1 <= x1 && ny + size - 1 <= y1;
+        if (contained || size <= minSize) {
+            long cells = (long) size * size;
+            long start = (xy2d(nx, ny) / cells) * cells; // 정렬된 노드는 연속 구간 [start, start + cells - 1]
+            out.add(new long[]{start, start + cells - 1});
+            return;
+        }
+
+        int half = size >> 1;
+        decompose(nx, ny, half, x0, y0, x1, y1, minSize, out);
+        decompose(nx + half, ny, half, x0, y0, x1, y1, minSize, out);
+        decompose(nx, ny + half, half, x0, y0, x1, y1, minSize, out);
+        decompose(nx + half, ny + half, half, x0, y0, x1, y1, minSize, out);
+    }
+
+    // 인접 구간 병합 + 최대 개수 제한 (간격이 작은 곳부터 메움)
+    private static List<long[]> mergeRanges(List<long[]> sorted, int maxRanges) {
+        List<long[]> merged = new ArrayList<>();
+        for (long[] range : sorted) {
+            long[] last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if (last != null && range[0] <= last[1] + 1) {
+                last[1] = Math.max(last[1], range[1]);
+            } else {
+                merged.add(range);
+            }
+        }
+
+        while (merged.size() > maxRanges) {
+            int best = 0;
+            long bestGap = Long.MAX_VALUE;
+            for (int i = 0; i + 1 < merged.size(); i++) {
+                long gap = merged.get(i + 1)[0] - merged.get(i)[1];
+                if (gap < bestGap) {
+                    bestGap = gap;
+                    best = i;
+                }
+            }
+            merged.get(best)[1] = merged.get(best + 1)[1];
+            merged.remove(best + 1);
+        }
+        return merged;
+    }
+
+    // --- 좌표 변환 ---
+
+    private static int xOf(double lon) {
+        return clamp((int) Math.floor((lon - MIN_LON) / (MAX_LON - MIN_LON) * SIDE));
+    }
+
+    private static int yOf(double lat) {
+        return clamp((int) Math.floor((lat - MIN_LAT) / (MAX_LAT - MIN_LAT) * SIDE));
+    }
+
+    private static int clamp(int index) {
+        return Math.max(0, Math.min(SIDE - 1, index));
+    }
+
+    // 격자 (x, y) -> 곡선 순서 번호
+    private static long xy2d(int x, int y) {
+        long d = 0;
+        for (int s = SIDE >> 1; s > 0; s >>= 1) {
+            int rx = (x & s) > 0 ? 1 : 0;
+            int ry = (y & s) > 0 ? 1 : 0;
+            d += (long) s * s * ((3 * rx) ^ ry);
+
+            // 사분면 회전
+            if (ry == 0) {
+                if (rx == 1) {
+                    x = SIDE - 1 - x;
+                    y = SIDE - 1 - y;
+                }
+                int t = x;
+                x = y;
+                y = t;
+            }
+        }
+        return d;
+    }
+}
@@ -63,7 +63,10 @@ document.addEventListener('DOMContentLoaded', () => {
                     <td><span class="status-badge" style="background-color:${badgeColor}">${item.disasterType}</span></td>
                     <td>${locationTxt}</td>
                     <td>진행중</td>
-                    <td><button class="btn-danger-soft btn-terminate" data-id="${item.id}">종료</button></td>
+                    <td>
+                        <button class="btn-primary-soft btn-evacuate" data-id="${item.id}">대피 배정</button>
+                        <button class="btn-danger-soft btn-terminate" data-id="${item.id}">종료</button>
+                    </td>
                 `;
                 tbody.appendChild(row);
             });
@@ -74,6 +77,132 @@ document.addEventListener('DOMContentLoaded', () => {
 
     loadActiveDisasters();
 
+    // Shelter Load (대피소 실시간 혼잡도)
+    const loadBody = document.getElementById('shelter-load-body');
+
+    const loadShelterLoads = async () => {
+        if (!loadBody) return;
+
+        try {
+            const res = await fetch('/api/admin/shelter-load?limit=20');
+            const list = await res.json();
+
+            loadBody.innerHTML = '';
+
+            if (list.length === 0) {
+                loadBody.innerHTML = `
+                    <tr><td colspan="5" style="text-align:center; padding:40px; color:#94a3b8;">
+                        최근 추천/길찾기 기록이 없습니다.
+                    </td></tr>`;
+                return;
+            }
+
+            list.forEach(item => {
+                const ratio = item.loadRatio;
+                const ratioTxt = ratio == null ? '-' : `${Math.round(ratio * 100)}%`;
+                const badgeColor = ratio == null ? '#94a3b8' : ratio >= 1 ? '#ef4444' : ratio >= 0.7 ? '#f59e0b' : '#10b981';
+
+                const row = document.createElement('tr');
+                row.innerHTML = `
+                    <td>${item.name}</td>
+                    <td>${item.recommended}</td>
+                    <td>${item.routed}</td>
+                    <td>${item.estimatedLoad} / ${item.capacity || '-'}</td>
+                    <td><span class="status-badge" style="background-color:${badgeColor}">${ratioTxt}</span></td>
+                `;
+                loadBody.appendChild(row);
+            });
+        } catch (err) {
+            console.error("혼잡도 로드 실패:", err);
+        }
+    };
+
+    loadShelterLoads();
+    setInterval(loadShelterLoads, 30000);
+
+    // Coverage Heatmap (대피소 사각지대)
+    const coverageMapEl = document.getElementById('coverage-map');
+    const coverageSummary = document.getElementById('coverage-summary');
+    const coverageMap = coverageMapEl
+        ? new kakao.maps.Map(coverageMapEl, { center: new kakao.maps.LatLng(37.5665, 126.9780), level: 9 })
+        : null;
+    let coverageCells = [];
+
+    // 서버 격자와 같은 간격 (경도 간격은 위도 36도 기준)
+    const METERS_PER_DEG_LAT = 111320;
+    const LON_SCALE = Math.cos(36 * Math.PI / 180);
+
+    const loadCoverage = async () => {
+        if (!coverageMap) return;
+
+        const bounds = coverageMap.getBounds();
+        const sw = bounds.getSouthWest(), ne = bounds.getNorthEast();
+        const params = new URLSearchParams({
+            thresholdKm: document.getElementById('coverage-threshold').value || 2,
+            largeOnly: document.getElementById('coverage-large-only').checked,
+            swLat: sw.getLat(), swLng: sw.getLng(), neLat: ne.getLat(), neLng: ne.getLng()
+        });
+
+        try {
+            const res = await fetch(`/api/admin/coverage/underserved?${params}`);
+            if (res.status === 503) {
+                coverageSummary.innerText = '커버리지 격자를 계산 중입니다. 잠시 후 다시 조회하세요.';
+                return;
+            }
+            if (!res.ok) throw new Error();
+            const heatmap = await res.json();
+
+            coverageCells.forEach(rect => rect.setMap(null));
+            const halfLat = heatmap.cellMeter / METERS_PER_DEG_LAT / 2;
+            const halfLng = heatmap.cellMeter / (METERS_PER_DEG_LAT * LON_SCALE) / 2;
+            coverageCells = heatmap.cells.map(cell => {
+                const color = cell.distanceMeter == null ? '#7f1d1d'
+                    : cell.distanceMeter > heatmap.thresholdMeter * 2 ? '#ef4444' : '#f59e0b';
+                return new kakao.maps.Rectangle({
+                    map: coverageMap,
+                    bounds: new kakao.maps.LatLngBounds(
+                        new kakao.maps.LatLng(cell.latitude - halfLat, cell.longitude - halfLng),
+                        new kakao.maps.LatLng(cell.latitude + halfLat, cell.longitude + halfLng)),
+                    strokeWeight: 0,
+                    fillColor: color,
+                    fillOpacity: 0.45
+                });
+            });
+            coverageSummary.innerText = `사각지대 ${heatmap.cells.length.toLocaleString()}칸 (격자 ${heatmap.cellMeter}m)`;
+        } catch (err) {
+            console.error("사각지대 히트맵 로드 실패:", err);
+            coverageSummary.innerText = '히트맵을 불러오지 못했습니다.';
+        }
+    };
+
+    document.getElementById('coverage-search-btn')?.addEventListener('click', loadCoverage);
+    loadCoverage();
+
+    // Evacuation Plan (수용 인원 제약 대피소 배정)
+    tbody?.addEventListener('click', async (e) => {
+        if (!e.target.classList.contains('btn-evacuate')) return;
+
+        const id = e.target.dataset.id;
+        const input = prompt("가상 인구 수를 입력하세요. (0 입력 시 구역 내 회원 거주지 기준)", "10000");
+        if (input === null) return;
+
+        try {
+            const res = await fetch(`/api/admin/disaster/${id}/evacuation-plan?syntheticPopulation=${parseInt(input, 10) || 0}`);
+            if (!res.ok) throw new Error();
+            const plan = await res.json();
+
+            const top = plan.shelters.slice(0, 5)
+                .map(s => `- ${s.name}: ${s.assigned} / ${s.capacity}명`)
+                .join('\n');
+            alert(`대피 배정 결과 (${plan.elapsedMillis}ms)\n`
+                + `총 ${plan.totalPeople}명 중 ${plan.assignedPeople}명 배정, 미배정 ${plan.unassignedPeople}명\n`
+                + `평균 이동 거리 ${Math.round(plan.averageDistanceMeter)}m, 최대 ${plan.maxDistanceMeter}m\n\n`
+                + `배정 인원 상위 대피소\n${top || '- 없음'}`);
+        } catch {
+            alert("대피 배정 계산에 실패했습니다.");
+        }
+    });
+
     // Terminate Disaster
     tbody?.addEventListener('click', async (e) => {
         if (!e.target.classList.contains('btn-terminate')) return;
@@ -3,11 +3,11 @@
  */
 import { map } from './map-core.js';
 import { showToast, toggleLoading, openReportModal } from './map-ui.js';
+import { subscribe } from './map-socket.js';
 
 let isWriteMode = false;
 let tempMarker = null;
 let currentOverlay = null;
-let stompClient = null;
 let boardMarkers = [];
 
 const BOARD_MARKERS = {
@@ -77,42 +77,36 @@ export function setupBoardLogic() {
     window.deleteBoardPost = deleteBoard;
 }
 
-// 웹소켓 연결 (실시간 알림 및 댓글 업데이트)
+// 웹소켓 구독 (실시간 알림 및 댓글 업데이트)
 function connectWebSocket() {
-    const socket = new SockJS('/ws');
-    stompClient = Stomp.over(socket);
-    stompClient.debug = null; // 디버그 로그 비활성화
-
-    stompClient.connect({}, () => {
-        // 새 글 알림
-        stompClient.subscribe('/topic/board/new', (msg) => {
-            const newBoard = JSON.parse(msg.body);
-            const blockedUsers = JSON.parse(localStorage.getItem('safety_blocked_users')) || [];
-
-            if(!blockedUsers.includes(newBoard.writer)) {
-                addBoardMarker(newBoard);
-                showToast(`새 글: ${newBoard.title}`);
-            }
-        });
+    // 새 글 알림
+    subscribe('/topic/board/new', (msg) => {
+        const newBoard = JSON.parse(msg.body);
+        const blockedUsers = JSON.parse(localStorage.getItem('safety_blocked_users')) || [];
 
-        // 삭제 알림
-        stompClient.subscribe('/topic/board/delete', () => loadBoards());
+        if(!blockedUsers.includes(newBoard.writer)) {
+            addBoardMarker(newBoard);
+            showToast(`새 글: ${newBoard.title}`);
+        }
+    });
 
-        // 댓글 알림
-        stompClient.subscribe('/topic/board/comment', (msg) => {
-            const data = JSON.parse(msg.body);
-            const overlay = document.querySelector('.board-overlay');
-            if (overlay && overlay.dataset.boardId == data.boardId) {
-                appendRealtimeComment(data.comment, data.parentId, data.boardId);
-            }
-        });
+    // 삭제 알림
+    subscribe('/topic/board/delete', () => loadBoards());
 
-        // 좋아요 업데이트
-        stompClient.subscribe('/topic/board/like', (msg) => {
-            const data = JSON.parse(msg.body);
-            const el = document.getElementById(`like-count-${data.boardId}`);
-            if(el) el.innerText = data.totalLikes;
-        });
+    // 댓글 알림
+    subscribe('/topic/board/comment', (msg) => {
+        const data = JSON.parse(msg.body);
+        const overlay = document.querySelector('.board-overlay');
+        if (overlay && overlay.dataset.boardId == data.boardId) {
+            appendRealtimeComment(data.comment, data.parentId, data.boardId);
+        }
+    });
+
+    // 좋아요 업데이트
+    subscribe('/topic/board/like', (msg) => {
+        const data = JSON.parse(msg.body);
+        const el = document.getElementById(`like-count-${data.boardId}`);
+        if(el) el.innerText = data.totalLikes;
     });
 }
 
@@ -28,6 +28,10 @@ export function setupMarkerImages() {
     markerImages.shelter_low = new kakao.maps.MarkerImage('/img/markers/marker_shelter_low.png', size, options);
 }
 
+// 현재 표시 중인 시설 (id -> { facility, marker }) 및 마지막 조회 조건 (변경분 조회용)
+const visibleFacilities = new Map();
+let lastQuery = null;
+
 // 지도 영역 내 시설물 마커 갱신
 export async function updateMarkers() {
     if (Object.keys(markerImages).length === 0) setupMarkerImages();
@@ -37,46 +41,80 @@ export async function updateMarkers() {
     const ne = bounds.getNorthEast();
     const queryParams = `swLat=${sw.getLat()}&swLng=${sw.getLng()}&neLat=${ne.getLat()}&neLng=${ne.getLng()}`;
     const facilityTypes = getCheckedTypes();
+    const query = { types: facilityTypes.join(','), swLat: sw.getLat(), swLng: sw.getLng(), neLat: ne.getLat(), neLng: ne.getLng() };
 
-    // 기존 오버레이 및 클러스터 초기화
-    clusterer.clear();
+    // 기존 오버레이 초기화
     if(currentOverlay) currentOverlay.setMap(null);
 
-    // 선택된 필터가 없으면 안전 점수만 초기화 후 종료
+    // 선택된 필터가 없으면 마커 및 안전 점수 초기화 후 종료
     if (facilityTypes.length === 0) {
+        clearMarkers();
         if(window.calculateSafetyScore) window.calculateSafetyScore([]);
         return;
     }
 
     try {
-        const requests = facilityTypes.map(type =>
-            fetch(`/api/facilities?type=${type}&${queryParams}`).then(res => res.json())
-        );
-        const results = await Promise.all(requests);
-        const allFacilities = results.flat();
-
-        if (allFacilities.length > 0) {
-            drawMarkers(allFacilities);
+        if (lastQuery && lastQuery.types === query.types) {
+            // 필터가 같으면 이전 범위 대비 변경분만 요청
+            const prevParams = `prevSwLat=${lastQuery.swLat}&prevSwLng=${lastQuery.swLng}&prevNeLat=${lastQuery.neLat}&prevNeLng=${lastQuery.neLng}`;
+            const res = await fetch(`/api/facilities/delta?types=${query.types}&${prevParams}&${queryParams}`);
+            if (!res.ok) throw new Error("Delta API failed");
+            const delta = await res.json();
+            removeMarkers(delta.removed);
+            drawMarkers(delta.added);
+        } else {
+            // 필터가 바뀌면 체크된 레이어 전체를 한 번에 요청 (유형별로 묶인 응답)
+            const res = await fetch(`/api/facilities/batch?types=${query.types}&${queryParams}`);
+            if (!res.ok) throw new Error("Batch API failed");
+            const grouped = await res.json();
+            clearMarkers();
+            drawMarkers(Object.values(grouped).flat());
         }
+        lastQuery = query;
 
+        const allFacilities = Array.from(visibleFacilities.values()).map(v => v.facility);
         if(window.calculateSafetyScore) window.calculateSafetyScore(allFacilities);
 
     } catch (error) {
+        lastQuery = null; // 다음 갱신은 전체 조회
         console.error('Facility data load failed:', error);
     }
 }
 
-// 마커 생성 및 클러스터러 추가
+// 마커 생성 및 클러스터러 추가 (이미 표시 중인 시설은 제외)
 function drawMarkers(facilities) {
-    const newMarkers = facilities.map(facility => {
+    const newMarkers = [];
+    facilities.forEach(facility => {
+        if (visibleFacilities.has(facility.id)) return;
+
         const position = new kakao.maps.LatLng(facility.latitude, facility.longitude);
         const image = getMarkerImage(facility) || markerImages.default;
         const marker = new kakao.maps.Marker({ position, image });
 
         kakao.maps.event.addListener(marker, 'click', () => showCustomOverlay(marker, facility));
-        return marker;
+        visibleFacilities.set(facility.id, { facility, marker });
+        newMarkers.push(marker);
     });
-    clusterer.addMarkers(newMarkers);
+    if (newMarkers.length > 0) clusterer.addMarkers(newMarkers);
+}
+
+// 화면 밖으로 나간 시설 마커 제거
+function removeMarkers(ids) {
+    const markers = [];
+    ids.forEach(id => {
+        const entry = visibleFacilities.get(id);
+        if (!entry) return;
+        markers.push(entry.marker);
+        visibleFacilities.delete(id);
+    });
+    if (markers.length > 0) clusterer.removeMarkers(markers);
+}
+
+// 전체 마커 초기화
+function clearMarkers() {
+    clusterer.clear();
+    visibleFacilities.clear();
+    lastQuery = null;
 }
 
 // 시설 상태 및 속성에 따른 마커 이미지 반환
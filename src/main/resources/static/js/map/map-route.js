@@ -119,15 +119,17 @@ async function executeRouteSearch() {
         if (!res.ok) throw new Error("Path API failed");
 
         const data = await res.json();
+        if (data.resultCode !== 0) throw new Error(data.resultMsg || "No route");
         drawPathOnMap(data);
+        if (data.throughHazard) showToast("⚠️ 경로가 재난 구역을 지납니다. 주의하세요.", true);
 
-        const distanceMeters = data.routes[0].summary.distance;
+        const distanceMeters = data.distance;
         const distanceKm = (distanceMeters / 1000).toFixed(1);
         let durationMin = 0;
         let modeLabel = "";
 
         if (currentMode === 'car') {
-            durationMin = Math.round(data.routes[0].summary.duration / 60);
+            durationMin = Math.round(data.duration / 60);
             modeLabel = "🚗 차량";
         } else {
             const speed = SPEEDS[currentMode];
@@ -160,7 +162,7 @@ async function executeRouteSearch() {
                 </div>`;
 
             document.getElementById('btn-simulate-route').addEventListener('click', () => {
-                startRouteSimulation(data.routes[0].sections[0].roads);
+                startRouteSimulation(data.vertexes);
             });
         }
 
@@ -173,15 +175,13 @@ async function executeRouteSearch() {
 }
 
 // 모의주행 시뮬레이션
-function startRouteSimulation(roads) {
+function startRouteSimulation(vertexes) {
     stopSimulation();
 
     let pathPoints = [];
-    roads.forEach(road => {
-        for (let i = 0; i < road.vertexes.length; i += 2) {
-            pathPoints.push(new kakao.maps.LatLng(road.vertexes[i+1], road.vertexes[i]));
-        }
-    });
+    for (let i = 0; i < vertexes.length; i += 2) {
+        pathPoints.push(new kakao.maps.LatLng(vertexes[i+1], vertexes[i]));
+    }
 
     if(pathPoints.length === 0) return;
 
@@ -225,15 +225,12 @@ function drawPathOnMap(data) {
     currentPolylines.forEach(line => line.setMap(null));
     currentPolylines = [];
 
+    // 서버에서 전체 구간 좌표를 [경도, 위도, ...] 순으로 이어 붙여 전달
     const linePath = [];
-    const roads = data.routes[0].sections[0].roads;
-
-    roads.forEach(road => {
-        const vertexes = road.vertexes;
-        for (let i = 0; i < vertexes.length; i += 2) {
-            linePath.push(new kakao.maps.LatLng(vertexes[i + 1], vertexes[i]));
-        }
-    });
+    const vertexes = data.vertexes;
+    for (let i = 0; i < vertexes.length; i += 2) {
+        linePath.push(new kakao.maps.LatLng(vertexes[i + 1], vertexes[i]));
+    }
 
     const polyline = new kakao.maps.Polyline({
         path: linePath,
@@ -300,7 +297,10 @@ async function findSafeRoutes() {
                 const pathRes = await fetch(`/api/route/path?startLat=${startPoint.lat}&startLon=${startPoint.lon}&endLat=${endPoint.lat}&endLon=${endPoint.lon}`);
                 if(pathRes.ok) {
                     const pathData = await pathRes.json();
-                    drawPathOnMap(pathData);
+                    if (pathData.resultCode === 0) {
+                        drawPathOnMap(pathData);
+                        if (pathData.throughHazard) showToast("⚠️ 경로가 재난 구역을 지납니다. 주의하세요.", true);
+                    }
                 }
             } else {
                 showToast("근처에 추천할만한 대피소가 없습니다.", true);
@@ -44,7 +44,10 @@ export function setupSearchLogic() {
         recentArea.style.display = 'none';
 
         try {
-            const response = await fetch(`/api/facilities/search?keyword=${encodeURIComponent(keyword)}`);
+            // 지도 중심 좌표를 함께 보내 가까운 시설을 우선 정렬
+            const center = map.getCenter();
+            const params = new URLSearchParams({ keyword, lat: center.getLat(), lon: center.getLng() });
+            const response = await fetch(`/api/facilities/search?${params}`);
             if (!response.ok) throw new Error("Search failed");
             const results = await response.json();
             renderResults(results, keyword);
@@ -0,0 +1,42 @@
+/**
+ * STOMP(WebSocket) 연결 공유
+ * - 페이지당 연결 1개를 여러 모듈(게시판, 날씨)이 함께 사용
+ * - 연결 전에 요청한 구독은 연결 후 등록
+ */
+let stompClient = null;
+let connected = false;
+const pending = [];
+
+function connect() {
+    if (stompClient) return;
+
+    const socket = new SockJS('/ws');
+    stompClient = Stomp.over(socket);
+    stompClient.debug = null; // 디버그 로그 비활성화
+
+    stompClient.connect({}, () => {
+        connected = true;
+        pending.splice(0).forEach(register => register());
+    });
+}
+
+// 토픽 구독 (반환값의 unsubscribe()로 해제, 연결 전이면 등록 취소)
+export function subscribe(destination, callback) {
+    connect();
+
+    const handle = {
+        subscription: null,
+        cancelled: false,
+        unsubscribe() {
+            this.cancelled = true;
+            if (this.subscription) this.subscription.unsubscribe();
+        }
+    };
+    const register = () => {
+        if (!handle.cancelled) handle.subscription = stompClient.subscribe(destination, callback);
+    };
+
+    if (connected) register();
+    else pending.push(register);
+    return handle;
+}
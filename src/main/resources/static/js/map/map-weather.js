@@ -1,8 +1,13 @@
 /**
  * 현재 위치 및 날씨 정보 관리
+ * - 최초 1회 /api/weather 조회 후, 응답의 기상청 격자 토픽을 구독하여 관측값이 바뀔 때만 갱신
  */
 import { map } from './map-core.js';
 import { toggleLoading, showToast } from './map-ui.js';
+import { subscribe } from './map-socket.js';
+
+let currentWeather = null;
+let weatherSubscription = null;
 
 // 현재 위치 로드 및 날씨 정보 요청
 export function loadCurrentLocationAndWeather() {
@@ -74,10 +79,24 @@ async function fetchWeatherAndAddress(lat, lon) {
         const response = await fetch(`/api/weather?lat=${lat}&lon=${lon}`);
         if (!response.ok) return;
         const weatherDto = await response.json();
+        currentWeather = weatherDto;
         updateWeatherUI(weatherDto);
+        subscribeWeather(weatherDto.nx, weatherDto.ny);
     } catch (error) { console.error(error); }
 }
 
+// 격자별 날씨 실시간 구독 (전송 메시지에는 주소가 없으므로 최초 조회 주소 유지)
+function subscribeWeather(nx, ny) {
+    if (nx == null || ny == null) return;
+    if (weatherSubscription) weatherSubscription.unsubscribe();
+
+    weatherSubscription = subscribe(`/topic/weather/${nx}/${ny}`, (msg) => {
+        const data = JSON.parse(msg.body);
+        currentWeather = { ...currentWeather, temp: data.temp, weatherStatus: data.weatherStatus };
+        updateWeatherUI(currentWeather);
+    });
+}
+
 // 날씨 UI 업데이트
 function updateWeatherUI(data) {
     const addrEl = document.querySelector('#current-address');
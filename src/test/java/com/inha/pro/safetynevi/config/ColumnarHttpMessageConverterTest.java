@@ -0,0 +1,200 @@
+package com.inha.pro.safetynevi.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inha.pro.safetynevi.dto.map.FacilityDeltaDto;
+import com.inha.pro.safetynevi.dto.map.FacilityDto;
+import com.inha.pro.safetynevi.dto.map.RouteDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ColumnarHttpMessageConverterTest {
+
+    // id/좌표가 줄어드는 순서(음수 증분)와 상태/수용 인원이 없는 시설 포함
+    private static final List<FacilityDto> FACILITIES = List.of(
+            new FacilityDto(500L, "shelter", "중앙 대피소", 37.566535, 126.977969, "사용중", 1200),
+            new FacilityDto(3L, "hospital", "서울대학교병원", 37.579617, 126.998814, "영업/정상", 0),
+            new FacilityDto(42L, "shelter", "이름 없는 대피소", 35.179554, 129.075642, null, null),
+            new FacilityDto(41L, "police", "중부 경찰서", 37.563617, 126.989601, "N/A", 0));
+
+    private static final List<RouteDto> ROUTES = List.of(
+            route(500L, "중앙 대피소", 37.566535, 126.977969, "최단 거리", 350.04, 5, 1, "사용중", 1200),
+            route(17L, "광장 대피소", 37.565100, 126.976500, "최적 수용", 812.36, 12, 3, null, null),
+            route(18L, "지하 대피소", 37.561000, 126.970000, "최단 거리", 1500.0, 22, 5, "사용중", 80));
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new TestController())
+            .setMessageConverters(new MappingJackson2HttpMessageConverter(objectMapper),
+                    new ColumnarHttpMessageConverter(objectMapper.getFactory()))
+            .build();
+
+    @Test
+    void facilityListRoundTrips() throws Exception {
+        assertFacilities(decodeFacilities(columnar("/facilities")), FACILITIES);
+    }
+
+    @Test
+    void routeListRoundTrips() throws Exception {
+        JsonNode body = columnar("/routes");
+        List<FacilityDto> facilities = decodeFacilities(body);
+        List<String> recommendations = decodeDictionary(body, "recommendationDict", "recommendation");
+
+        assertThat(facilities).hasSize(ROUTES.size());
+        for (int i = 0; i < ROUTES.size(); i++) {
+            RouteDto expected = ROUTES.get(i);
+            FacilityDto actual = facilities.get(i);
+            assertThat(actual.getId()).isEqualTo(expected.getFacilityId());
+            assertThat(actual.getName()).isEqualTo(expected.getName());
+            assertThat(actual.getType()).isEqualTo(expected.getType());
+            assertThat(actual.getLatitude()).isCloseTo(expected.getLatitude(), within(5e-7));
+            assertThat(actual.getLongitude()).isCloseTo(expected.getLongitude(), within(5e-7));
+            assertThat(actual.getOperatingStatus()).isEqualTo(expected.getOperatingStatus());
+            assertThat(actual.getMaxCapacity()).isEqualTo(expected.getMaxCapacity());
+            assertThat(recommendations.get(i)).isEqualTo(expected.getRecommendationType());
+            assertThat(body.get("distanceMeter").get(i).asDouble()).isCloseTo(expected.getDistanceMeter(), within(0.05));
+            assertThat(body.get("timeWalk").get(i).asInt()).isEqualTo(expected.getTimeWalk());
+            assertThat(body.get("timeCar").get(i).asInt()).isEqualTo(expected.getTimeCar());
+        }
+    }
+
+    @Test
+    void groupedFacilitiesAndDeltaRoundTrip() throws Exception {
+        JsonNode groups = columnar("/groups");
+        assertThat(groups.fieldNames()).toIterable().containsExactly("shelter", "police");
+        assertFacilities(decodeFacilities(groups.get("shelter")), List.of(FACILITIES.get(0), FACILITIES.get(2)));
+        assertFacilities(decodeFacilities(groups.get("police")), List.of(FACILITIES.get(3)));
+
+        JsonNode delta = columnar("/delta");
+        assertFacilities(decodeFacilities(delta.get("added")), FACILITIES.subList(0, 2));
+        assertThat(delta.get("removed")).extracting(JsonNode::asLong).containsExactly(7L, 9L);
+    }
+
+    @Test
+    void emptyListHasNoRows() throws Exception {
+        JsonNode body = columnar("/empty");
+        assertThat(body.get("count").asInt()).isZero();
+        assertThat(decodeFacilities(body)).isEmpty();
+    }
+
+    @Test
+    void jsonAcceptStillGetsObjectArray() throws Exception {
+        String json = mockMvc.perform(get("/facilities").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getContentAsString();
+
+        JsonNode body = objectMapper.readTree(json);
+        assertThat(body.isArray()).isTrue();
+        assertThat(body).hasSize(FACILITIES.size());
+        assertThat(body.get(0).get("id").asLong()).isEqualTo(500L);
+        assertThat(body.get(0).get("latitude").asDouble()).isEqualTo(37.566535);
+        assertThat(body.get(2).get("operatingStatus").isNull()).isTrue();
+        assertThat(body.get(2).get("maxCapacity").isNull()).isTrue();
+    }
+
+    private JsonNode columnar(String path) throws Exception {
+        String body = mockMvc.perform(get(path).accept(ColumnarHttpMessageConverter.COLUMNAR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(ColumnarHttpMessageConverter.COLUMNAR))
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    // --- 테스트용 디코더 (ColumnarHttpMessageConverter 문서의 형식) ---
+
+    private static List<FacilityDto> decodeFacilities(JsonNode body) {
+        int count = body.get("count").asInt();
+        List<String> types = decodeDictionary(body, "typeDict", "type");
+        List<String> statuses = decodeDictionary(body, "statusDict", "status");
+
+        List<FacilityDto> result = new ArrayList<>();
+        long id = 0, lat = 0, lon = 0;
+        for (int i = 0; i < count; i++) {
+            id += body.get("id").get(i).asLong();
+            lat += body.get("lat").get(i).asLong();
+            lon += body.get("lon").get(i).asLong();
+            JsonNode capacity = body.get("maxCapacity").get(i);
+            result.add(new FacilityDto(id, types.get(i), body.get("name").get(i).asText(),
+                    lat / 1e6, lon / 1e6, statuses.get(i), capacity.isNull() ? null : capacity.asInt()));
+        }
+        return result;
+    }
+
+    private static List<String> decodeDictionary(JsonNode body, String dictField, String codeField) {
+        List<String> values = new ArrayList<>();
+        for (JsonNode code : body.get(codeField)) {
+            JsonNode entry = body.get(dictField).get(code.asInt());
+            values.add(entry.isNull() ? null : entry.asText());
+        }
+        return values;
+    }
+
+    private static void assertFacilities(List<FacilityDto> actual, List<FacilityDto> expected) {
+        assertThat(actual).hasSize(expected.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(actual.get(i))
+                    .usingRecursiveComparison()
+                    .ignoringFields("latitude", "longitude")
+                    .isEqualTo(expected.get(i));
+            assertThat(actual.get(i).getLatitude()).isCloseTo(expected.get(i).getLatitude(), within(5e-7));
+            assertThat(actual.get(i).getLongitude()).isCloseTo(expected.get(i).getLongitude(), within(5e-7));
+        }
+    }
+
+    private static RouteDto route(Long id, String name, double lat, double lon, String recommendation,
+                                  double distance, int walk, int car, String status, Integer capacity) {
+        return RouteDto.builder()
+                .facilityId(id).name(name).type("shelter").latitude(lat).longitude(lon)
+                .recommendationType(recommendation).distanceMeter(distance).timeWalk(walk).timeCar(car)
+                .operatingStatus(status).maxCapacity(capacity)
+                .build();
+    }
+
+    @RestController
+    static class TestController {
+
+        @GetMapping("/facilities")
+        List<FacilityDto> facilities() {
+            return FACILITIES;
+        }
+
+        @GetMapping("/routes")
+        List<RouteDto> routes() {
+            return ROUTES;
+        }
+
+        @GetMapping("/groups")
+        Map<String, List<FacilityDto>> groups() {
+            Map<String, List<FacilityDto>> groups = new LinkedHashMap<>();
+            groups.put("shelter", List.of(FACILITIES.get(0), FACILITIES.get(2)));
+            groups.put("police", List.of(FACILITIES.get(3)));
+            return groups;
+        }
+
+        @GetMapping("/delta")
+        FacilityDeltaDto delta() {
+            return FacilityDeltaDto.builder().added(FACILITIES.subList(0, 2)).removed(List.of(7L, 9L)).build();
+        }
+
+        @GetMapping("/empty")
+        List<FacilityDto> empty() {
+            return List.of();
+        }
+    }
+}
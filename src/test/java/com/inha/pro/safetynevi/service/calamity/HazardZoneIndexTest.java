@@ -0,0 +1,111 @@
+package com.inha.pro.safetynevi.service.calamity;
+
+import com.inha.pro.safetynevi.dao.calamity.DisasterZoneRepository;
+import com.inha.pro.safetynevi.dto.map.FacilityDto;
+import com.inha.pro.safetynevi.entity.calamity.DisasterZone;
+import com.inha.pro.safetynevi.service.map.BoundaryService;
+import com.inha.pro.safetynevi.service.map.ShelterKdTree;
+import com.inha.pro.safetynevi.util.map.GeoDistance;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class HazardZoneIndexTest {
+
+    private static final double LAT = 37.5665, LON = 126.9780;
+
+    private final HazardZoneIndex index = new HazardZoneIndex(mock(DisasterZoneRepository.class), mock(BoundaryService.class));
+
+    @Test
+    void blockedSheltersFollowZoneChanges() {
+        ShelterKdTree tree = ShelterKdTree.build(randomShelters(new Random(17), 500), "사용중"::equals);
+
+        BitSet none = index.blockedShelters(tree);
+        assertThat(none.isEmpty()).isTrue();
+
+        index.add(circle(1L, LAT, LON, 1500, Duration.ofHours(1)));
+        BitSet one = index.blockedShelters(tree);
+        assertThat(one).isEqualTo(expected(tree, new double[][]{{LAT, LON, 1500}}));
+        assertThat(one.cardinality()).isPositive();
+        assertThat(index.blockedShelters(tree)).isSameAs(one); // 변경이 없으면 재계산하지 않음
+
+        index.add(circle(2L, LAT + 0.02, LON + 0.02, 1000, Duration.ofHours(1)));
+        BitSet two = index.blockedShelters(tree);
+        assertThat(two).isNotSameAs(one)
+                .isEqualTo(expected(tree, new double[][]{{LAT, LON, 1500}, {LAT + 0.02, LON + 0.02, 1000}}));
+
+        index.remove(1L);
+        assertThat(index.blockedShelters(tree)).isEqualTo(expected(tree, new double[][]{{LAT + 0.02, LON + 0.02, 1000}}));
+
+        index.remove(2L);
+        assertThat(index.blockedShelters(tree).isEmpty()).isTrue();
+    }
+
+    @Test
+    void blockedSheltersAreComputedPerTree() {
+        ShelterKdTree first = ShelterKdTree.build(randomShelters(new Random(18), 300), "사용중"::equals);
+        ShelterKdTree second = ShelterKdTree.build(randomShelters(new Random(19), 200), "사용중"::equals);
+        index.add(circle(1L, LAT, LON, 2000, Duration.ofHours(1)));
+        double[][] zones = {{LAT, LON, 2000}};
+
+        BitSet forFirst = index.blockedShelters(first);
+        BitSet forSecond = index.blockedShelters(second);
+        assertThat(forFirst).isEqualTo(expected(first, zones));
+        assertThat(forSecond).isEqualTo(expected(second, zones));
+        assertThat(index.blockedShelters(first)).isNotSameAs(forFirst).isEqualTo(forFirst); // 트리가 바뀌면 다시 계산
+    }
+
+    @Test
+    void expiredZonesNoLongerBlockShelters() {
+        ShelterKdTree tree = ShelterKdTree.build(randomShelters(new Random(20), 300), "사용중"::equals);
+
+        index.add(circle(1L, LAT, LON, 2000, Duration.ofMillis(-1)));
+        assertThat(index.current().isEmpty()).isTrue();
+        assertThat(index.blockedShelters(tree).isEmpty()).isTrue();
+
+        index.add(circle(2L, LAT, LON, 2000, Duration.ofHours(1)));
+        assertThat(index.current().size()).isEqualTo(1);
+        assertThat(index.blockedShelters(tree)).isEqualTo(expected(tree, new double[][]{{LAT, LON, 2000}}));
+    }
+
+    // 위치별로 원형 구역(위도, 경도, 반경) 중 하나라도 포함하는지 직접 계산
+    private static BitSet expected(ShelterKdTree tree, double[][] circles) {
+        BitSet blocked = new BitSet();
+        for (int pos = 0; pos < tree.size(); pos++) {
+            for (double[] c : circles) {
+                if (GeoDistance.meter(c[0], c[1], tree.latitudeAt(pos), tree.longitudeAt(pos)) <= c[2]) blocked.set(pos);
+            }
+        }
+        return blocked;
+    }
+
+    private static DisasterZone circle(Long id, double lat, double lon, double radius, Duration ttl) {
+        DisasterZone zone = new DisasterZone();
+        zone.setId(id);
+        zone.setDisasterType("화재");
+        zone.setLatitude(lat);
+        zone.setLongitude(lon);
+        zone.setRadius(radius);
+        zone.setExpiryTime(Instant.now().plus(ttl));
+        return zone;
+    }
+
+    // 서울 도심 반경 약 5km 안에 흩어진 대피소
+    private static List<FacilityDto> randomShelters(Random random, int n) {
+        List<FacilityDto> shelters = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            double lat = LAT + (random.nextDouble() - 0.5) * 0.09;
+            double lon = LON + (random.nextDouble() - 0.5) * 0.11;
+            shelters.add(new FacilityDto((long) i, "shelter", "대피소" + i, lat, lon, "사용중", 100));
+        }
+        return shelters;
+    }
+}
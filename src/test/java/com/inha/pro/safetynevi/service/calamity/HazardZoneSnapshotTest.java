@@ -0,0 +1,115 @@
+package com.inha.pro.safetynevi.service.calamity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inha.pro.safetynevi.util.map.GeoDistance;
+import com.inha.pro.safetynevi.util.map.GeoPolygon;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HazardZoneSnapshotTest {
+
+    private static final double LAT = 37.5665, LON = 126.9780;
+
+    @Test
+    void circleContainsPointsWithinRadius() {
+        HazardZoneSnapshot snapshot = HazardZoneSnapshot.EMPTY.with(HazardZoneSnapshot.Zone.circle(1, LAT, LON, 500, Long.MAX_VALUE));
+
+        Random random = new Random(17);
+        for (int i = 0; i < 5000; i++) {
+            double lat = LAT + (random.nextDouble() - 0.5) * 0.02;
+            double lon = LON + (random.nextDouble() - 0.5) * 0.02;
+            assertThat(snapshot.contains(lat, lon))
+                    .as("(%f, %f)", lat, lon)
+                    .isEqualTo(GeoDistance.meter(LAT, LON, lat, lon) <= 500);
+        }
+        // 외접 사각형 모서리는 사각형 안이지만 원 밖
+        HazardZoneSnapshot.Bounds bounds = snapshot.zoneBounds().get(0);
+        assertThat(snapshot.contains(bounds.maxLat() - 1e-6, bounds.maxLon() - 1e-6)).isFalse();
+        assertThat(snapshot.contains(bounds.maxLat() - 1e-6, LON)).isTrue();
+        assertThat(HazardZoneSnapshot.EMPTY.contains(LAT, LON)).isFalse();
+    }
+
+    @Test
+    void areaRespectsHolesAndEveryPart() throws Exception {
+        // 구멍 있는 사각형 + 떨어진 섬 하나
+        GeoPolygon polygon = polygon("""
+                {"type":"MultiPolygon","coordinates":[
+                  [[[126.0,37.0],[127.0,37.0],[127.0,38.0],[126.0,38.0],[126.0,37.0]],
+                   [[126.4,37.4],[126.6,37.4],[126.6,37.6],[126.4,37.6],[126.4,37.4]]],
+                  [[[128.0,35.0],[128.2,35.0],[128.2,35.2],[128.0,35.2],[128.0,35.0]]]]}
+                """);
+        HazardZoneSnapshot snapshot = HazardZoneSnapshot.EMPTY.with(HazardZoneSnapshot.Zone.area(2, List.of(polygon), Long.MAX_VALUE));
+
+        assertThat(snapshot.contains(37.2, 126.2)).isTrue();   // 외곽선 안
+        assertThat(snapshot.contains(37.5, 126.5)).isFalse();  // 구멍 안
+        assertThat(snapshot.contains(37.7, 126.5)).isTrue();   // 구멍 바로 위
+        assertThat(snapshot.contains(35.1, 128.1)).isTrue();   // 섬
+        assertThat(snapshot.contains(36.0, 127.5)).isFalse();  // 전체 외접 사각형 안이지만 어느 폴리곤에도 없음
+        assertThat(snapshot.contains(38.5, 126.5)).isFalse();  // 외접 사각형 밖
+    }
+
+    @Test
+    void containsAnyOfSeveralZones() throws Exception {
+        HazardZoneSnapshot snapshot = HazardZoneSnapshot.EMPTY
+                .with(HazardZoneSnapshot.Zone.circle(1, LAT, LON, 300, Long.MAX_VALUE))
+                .with(HazardZoneSnapshot.Zone.area(2, List.of(square(35.0, 129.0, 0.1)), Long.MAX_VALUE));
+
+        assertThat(snapshot.size()).isEqualTo(2);
+        assertThat(snapshot.contains(LAT, LON)).isTrue();
+        assertThat(snapshot.contains(35.05, 129.05)).isTrue();
+        assertThat(snapshot.contains(36.0, 128.0)).isFalse(); // 두 구역 사이 (전체 외접 사각형 안)
+
+        // 같은 id로 다시 추가하면 교체
+        HazardZoneSnapshot moved = snapshot.with(HazardZoneSnapshot.Zone.circle(1, 36.0, 128.0, 300, Long.MAX_VALUE));
+        assertThat(moved.size()).isEqualTo(2);
+        assertThat(moved.contains(LAT, LON)).isFalse();
+        assertThat(moved.contains(36.0, 128.0)).isTrue();
+
+        HazardZoneSnapshot removed = moved.without(1);
+        assertThat(removed.size()).isEqualTo(1);
+        assertThat(removed.contains(36.0, 128.0)).isFalse();
+        assertThat(removed.contains(35.05, 129.05)).isTrue();
+    }
+
+    @Test
+    void prunesExpiredZones() throws Exception {
+        HazardZoneSnapshot snapshot = HazardZoneSnapshot.EMPTY
+                .with(HazardZoneSnapshot.Zone.circle(1, LAT, LON, 300, 1_000))
+                .with(HazardZoneSnapshot.Zone.area(2, List.of(square(35.0, 129.0, 0.1)), 2_000))
+                .with(HazardZoneSnapshot.Zone.circle(3, 36.0, 128.0, 300, 3_000));
+
+        assertThat(snapshot.hasExpired(999)).isFalse();
+        assertThat(snapshot.hasExpired(1_000)).isTrue(); // 만료 시각부터 만료
+        assertThat(snapshot.pruned(999)).isNotSameAs(snapshot).extracting(HazardZoneSnapshot::size).isEqualTo(3);
+
+        HazardZoneSnapshot pruned = snapshot.pruned(1_500);
+        assertThat(pruned.size()).isEqualTo(2);
+        assertThat(pruned.contains(LAT, LON)).isFalse();
+        assertThat(pruned.contains(35.05, 129.05)).isTrue();
+        assertThat(pruned.hasExpired(1_500)).isFalse();
+        assertThat(pruned.hasExpired(2_000)).isTrue(); // 다음 만료 시각 갱신
+
+        HazardZoneSnapshot rest = pruned.pruned(2_000);
+        assertThat(rest.size()).isEqualTo(1);
+        assertThat(rest.contains(35.05, 129.05)).isFalse();
+        assertThat(rest.contains(36.0, 128.0)).isTrue();
+
+        HazardZoneSnapshot none = rest.pruned(3_000);
+        assertThat(none.isEmpty()).isTrue();
+        assertThat(none.contains(36.0, 128.0)).isFalse();
+        assertThat(none.hasExpired(Long.MAX_VALUE - 1)).isFalse();
+    }
+
+    private static GeoPolygon square(double lat, double lon, double size) throws Exception {
+        return polygon("{\"type\":\"Polygon\",\"coordinates\":[[[%s,%s],[%s,%s],[%s,%s],[%s,%s],[%s,%s]]]}".formatted(
+                lon, lat, lon + size, lat, lon + size, lat + size, lon, lat + size, lon, lat));
+    }
+
+    private static GeoPolygon polygon(String geoJson) throws Exception {
+        return GeoPolygon.fromGeoJson(new ObjectMapper().readTree(geoJson));
+    }
+}
@@ -0,0 +1,157 @@
+package com.inha.pro.safetynevi.service.map;
+
+import com.inha.pro.safetynevi.dto.map.FacilityDto;
+import com.inha.pro.safetynevi.util.map.GeoDistance;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EvacuationAuctionTest {
+
+    private static final double MAX_DISTANCE = 5_000;
+    private static final double EPSILON = 10;
+
+    @Test
+    void respectsCapacityAndLeavesOverflowUnassigned() {
+        ShelterKdTree tree = tree(new double[][]{{37.450, 126.700}, {37.455, 126.705}, {37.460, 126.710}}, new int[]{10, 10, 10});
+        int n = 50;
+        double[] lats = new double[n], lons = new double[n];
+        Arrays.fill(lats, 37.452);
+        Arrays.fill(lons, 126.702);
+
+        EvacuationAuction.Result result = solve(tree, lats, lons, 1);
+
+        int[] assigned = countByShelter(tree, result);
+        assertThat(assigned).containsOnly(10);
+        assertThat(Arrays.stream(result.shelterOf()).filter(pos -> pos == EvacuationAuction.UNASSIGNED).count()).isEqualTo(20);
+    }
+
+    @Test
+    void totalDistanceIsWithinEpsilonOfOptimal() {
+        Random random = new Random(7);
+        for (int round = 0; round < 20; round++) {
+            int shelters = 3 + random.nextInt(4);
+            double[][] coords = new double[shelters][];
+            int[] capacities = new int[shelters];
+            for (int s = 0; s < shelters; s++) {
+                coords[s] = new double[]{37.45 + random.nextDouble() * 0.03, 126.70 + random.nextDouble() * 0.03};
+                capacities[s] = 1 + random.nextInt(4);
+            }
+            ShelterKdTree tree = tree(coords, capacities);
+
+            int n = 6 + random.nextInt(10);
+            double[] lats = new double[n], lons = new double[n];
+            for (int i = 0; i < n; i++) {
+                lats[i] = 37.45 + random.nextDouble() * 0.03;
+                lons[i] = 126.70 + random.nextDouble() * 0.03;
+            }
+
+            EvacuationAuction.Result result = solve(tree, lats, lons, 1 + random.nextInt(3));
+
+            int[] assigned = countByShelter(tree, result);
+            for (int pos = 0; pos < tree.size(); pos++) assertThat(assigned[pos]).isLessThanOrEqualTo(tree.capacityAt(pos));
+
+            double total = 0;
+            for (int i = 0; i < n; i++) {
+                int pos = result.shelterOf()[i];
+                total += (pos == EvacuationAuction.UNASSIGNED)
+                        ? MAX_DISTANCE
+                        : GeoDistance.meter(lats[i], lons[i], tree.latitudeAt(pos), tree.longitudeAt(pos));
+            }
+            assertThat(total).isLessThanOrEqualTo(optimalCost(tree, lats, lons) + n * EPSILON + 1e-6);
+        }
+    }
+
+    private static EvacuationAuction.Result solve(ShelterKdTree tree, double[] lats, double[] lons, int initialCandidates) {
+        int[] capacity = new int[tree.size()];
+        for (int pos = 0; pos < tree.size(); pos++) capacity[pos] = tree.capacityAt(pos);
+        return EvacuationAuction.solve(tree, capacity, (lat, lon, k) -> tree.nearest(lat, lon, k, true, 1),
+                MAX_DISTANCE, EPSILON, initialCandidates, lats, lons);
+    }
+
+    private static ShelterKdTree tree(double[][] coords, int[] capacities) {
+        List<FacilityDto> shelters = new ArrayList<>();
+        for (int s = 0; s < coords.length; s++) {
+            shelters.add(new FacilityDto((long) s, "shelter", "대피소" + s, coords[s][0], coords[s][1], "운영중", capacities[s]));
+        }
+        return ShelterKdTree.build(shelters, status -> true);
+    }
+
+    private static int[] countByShelter(ShelterKdTree tree, EvacuationAuction.Result result) {
+        int[] count = new int[tree.size()];
+        for (int pos : result.shelterOf()) {
+            if (pos != EvacuationAuction.UNASSIGNED) count[pos]++;
+        }
+        return count;
+    }
+
+    // 최소 비용 배정 (대피소 자리를 정원만큼 펼치고 사람마다 "미배정" 자리를 추가한 헝가리안 알고리즘)
+    private static double optimalCost(ShelterKdTree tree, double[] lats, double[] lons) {
+        List<Integer> slots = new ArrayList<>();
+        for (int pos = 0; pos < tree.size(); pos++) {
+            for (int c = 0; c < tree.capacityAt(pos); c++) slots.add(pos);
+        }
+        int n = lats.length, m = slots.size() + n;
+        double[][] cost = new double[n + 1][m + 1];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < m; j++) {
+                cost[i + 1][j + 1] = (j < slots.size())
+                        ? Math.min(MAX_DISTANCE, GeoDistance.meter(lats[i], lons[i],
+                                tree.latitudeAt(slots.get(j)), tree.longitudeAt(slots.get(j))))
+                        : MAX_DISTANCE;
+            }
+        }
+
+        double[] u = new double[n + 1], v = new double[m + 1];
+        int[] p = new int[m + 1], way = new int[m + 1];
+        for (int i = 1; i <= n; i++) {
+            p[0] = i;
+            int j0 = 0;
+            double[] minv = new double[m + 1];
+            Arrays.fill(minv, Double.POSITIVE_INFINITY);
+            boolean[] used = new boolean[m + 1];
+            do {
+                used[j0] = true;
+                int i0 = p[j0], j1 = 0;
+                double delta = Double.POSITIVE_INFINITY;
+                for (int j = 1; j <= m; j++) {
+                    if (used[j]) continue;
+                    double cur = cost[i0][j] - u[i0] - v[j];
+                    if (cur < minv[j]) {
+                        minv[j] = cur;
+                        way[j] = j0;
+                    }
+                    if (minv[j] < delta) {
+                        delta = minv[j];
+                        j1 = j;
+                    }
+                }
+                for (int j = 0; j <= m; j++) {
+                    if (used[j]) {
+                        u[p[j]] += delta;
+                        v[j] -= delta;
+                    } else {
+                        minv[j] -= delta;
+                    }
+                }
+                j0 = j1;
+            } while (p[j0] != 0);
+            do {
+                int j1 = way[j0];
+                p[j0] = p[j1];
+                j0 = j1;
+            } while (j0 != 0);
+        }
+
+        double total = 0;
+        for (int j = 1; j <= m; j++) {
+            if (p[j] != 0) total += cost[p[j]][j];
+        }
+        return total;
+    }
+}
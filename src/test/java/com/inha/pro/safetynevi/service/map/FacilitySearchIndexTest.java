@@ -0,0 +1,103 @@
+package com.inha.pro.safetynevi.service.map;
+
+import com.inha.pro.safetynevi.dto.map.FacilitySearchDto;
+import com.inha.pro.safetynevi.entity.Facility;
+import com.inha.pro.safetynevi.entity.FacilityMarker;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FacilitySearchIndexTest {
+
+    private static final String[][] FACILITIES = {
+            // 이름, 주소
+            {"서울대학교병원", "서울특별시 종로구 대학로 101"},
+            {"서울 중부 경찰서", "서울특별시 중구 수표로 27"},
+            {"강남 소방서", "서울특별시 강남구 삼성로 616"},
+            {"부산대학교병원", "부산광역시 서구 구덕로 179"},
+            {"Seoul Clinic", "서울특별시 마포구 양화로 45"},
+            {"중앙 대피소", "인천광역시 남동구 예술로 100"},
+            {"병원", null},
+    };
+
+    private final List<FacilityMarker> markers = markers();
+    private final FacilitySearchIndex index = FacilitySearchIndex.build(FacilitySnapshot.build(markers, 1));
+
+    @Test
+    void findsEveryFacilityWhoseNormalizedTextContainsTheQuery() {
+        for (String query : List.of("서울", "병원", "대학", "원", "ㅅㅇ", "ㅂㅇ", "seoul", "SEOUL cl", "중부경찰", "구덕로", "없는시설")) {
+            Set<Long> found = index.search(query, null, null, 1000).stream()
+                    .map(FacilitySearchDto::getId)
+                    .collect(Collectors.toSet());
+            assertThat(found).as(query).isEqualTo(bruteForce(query));
+        }
+    }
+
+    @Test
+    void ignoresWhitespaceUnlikeLikeQuery() {
+        // LIKE '%중부경찰서%'는 "서울 중부 경찰서"와 일치하지 않지만 색인 검색은 공백을 무시함
+        assertThat(index.search("중부경찰서", null, null, 10))
+                .extracting(FacilitySearchDto::getName)
+                .containsExactly("서울 중부 경찰서");
+    }
+
+    @Test
+    void ranksExactAndPrefixNameMatchesFirst() {
+        List<FacilitySearchDto> result = index.search("병원", null, null, 10);
+        assertThat(result.get(0).getName()).isEqualTo("병원");
+        assertThat(result).extracting(FacilitySearchDto::getName)
+                .containsExactlyInAnyOrder("병원", "서울대학교병원", "부산대학교병원");
+    }
+
+    @Test
+    void prefersNearerFacilitiesWhenCoordinatesAreGiven() {
+        // 부산 근처에서 검색하면 같은 점수의 부산대학교병원이 먼저
+        List<FacilitySearchDto> result = index.search("대학교병원", 35.10, 129.02, 10);
+        assertThat(result).extracting(FacilitySearchDto::getName)
+                .containsExactly("부산대학교병원", "서울대학교병원");
+    }
+
+    @Test
+    void respectsLimit() {
+        assertThat(index.search("서울", null, null, 2)).hasSize(2);
+        assertThat(index.search("서울", null, null, 0)).isEmpty();
+        assertThat(index.search("  ", null, null, 10)).isEmpty();
+    }
+
+    // 정규화한 이름/주소/초성 문자열에 대한 단순 포함 검사 (색인 후보 추출과 같은 규칙)
+    private Set<Long> bruteForce(String query) {
+        String q = FacilitySearchIndex.normalize(query);
+        boolean chosungQuery = q.chars().allMatch(c -> c >= 'ㄱ' && c <= 'ㅎ');
+        Set<Long> result = new java.util.HashSet<>();
+        for (FacilityMarker marker : markers) {
+            String name = FacilitySearchIndex.normalize(marker.getName());
+            String address = FacilitySearchIndex.normalize(marker.getAddress());
+            if (name.contains(q)
+                    || (q.length() >= 2 && address.contains(q))
+                    || (chosungQuery && FacilitySearchIndex.toChosung(name).contains(q))) {
+                result.add(marker.getId());
+            }
+        }
+        return result;
+    }
+
+    private static List<FacilityMarker> markers() {
+        List<FacilityMarker> markers = new ArrayList<>();
+        for (int i = 0; i < FACILITIES.length; i++) {
+            Facility facility = new Facility();
+            facility.setId((long) i + 1);
+            facility.setName(FACILITIES[i][0]);
+            facility.setAddress(FACILITIES[i][1]);
+            boolean busan = FACILITIES[i][1] != null && FACILITIES[i][1].startsWith("부산");
+            facility.setLatitude(busan ? 35.10 : 37.55 + i * 0.01);
+            facility.setLongitude(busan ? 129.02 : 126.98 + i * 0.01);
+            markers.add(FacilityMarker.of(facility, "hospital"));
+        }
+        return markers;
+    }
+}
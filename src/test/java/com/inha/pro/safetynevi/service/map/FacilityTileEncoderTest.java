@@ -0,0 +1,214 @@
+package com.inha.pro.safetynevi.service.map;
+
+import com.inha.pro.safetynevi.entity.FacilityMarker;
+import com.inha.pro.safetynevi.entity.Hospital;
+import com.inha.pro.safetynevi.entity.Shelter;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FacilityTileEncoderTest {
+
+    private static final int Z = 14;
+    private static final double N = Math.pow(2, Z);
+    // 서울시청이 속한 타일
+    private static final int X = (int) Math.floor(lonToTileX(126.978));
+    private static final int Y = (int) Math.floor(latToTileY(37.5665));
+
+    private static final double WEST = X / N * 360.0 - 180.0;
+    private static final double EAST = (X + 1) / N * 360.0 - 180.0;
+    private static final double NORTH = tileYToLat(Y);
+    private static final double SOUTH = tileYToLat(Y + 1);
+
+    @Test
+    void roundTripsFacilitiesInsideTile() {
+        List<FacilityMarker> markers = new ArrayList<>();
+        markers.add(shelter(30, FacilityLayer.SHELTER, lat(0.25), lon(0.75), "사용중", 120, "시청 지하 대피소"));
+        markers.add(shelter(12, FacilityLayer.SHELTER, lat(0.50), lon(0.50), "사용중", null, "광장 대피소"));
+        markers.add(shelter(7, FacilityLayer.SHELTER, lat(0.75), lon(0.25), null, 40, ""));
+        markers.add(shelter(99, FacilityLayer.SHELTER, lat(0.5), lon(1.5), "사용중", 10, "옆 타일 대피소")); // 타일 밖
+        FacilitySnapshot snapshot = FacilitySnapshot.build(markers, 1);
+
+        Tile tile = Tile.decode(FacilityTileEncoder.encode(snapshot, FacilityLayer.SHELTER, Z, X, Y));
+
+        assertThat(tile.extent).isEqualTo(FacilityTileEncoder.EXTENT);
+        assertThat(tile.features).extracting(Feature::id).containsExactly(7L, 12L, 30L); // id 오름차순
+        for (Feature feature : tile.features) {
+            FacilityMarker marker = markers.stream().filter(m -> m.getId() == feature.id).findFirst().orElseThrow();
+            assertThat(feature.type).isEqualTo("shelter");
+            assertThat(feature.status).isEqualTo(marker.getOperatingStatus() == null ? "" : marker.getOperatingStatus());
+            assertThat(feature.capacity).isEqualTo(marker.getMaxCapacity() == null ? 0 : marker.getMaxCapacity());
+            assertThat(feature.name).isEqualTo(marker.getName());
+            // 내부 좌표는 원래 위치를 한 픽셀 이내로 표현
+            assertThat(feature.px).isEqualTo((int) Math.floor((lonToTileX(marker.getLongitude()) - X) * tile.extent));
+            assertThat(feature.py).isEqualTo((int) Math.floor((latToTileY(marker.getLatitude()) - Y) * tile.extent));
+        }
+    }
+
+    @Test
+    void reusesDictionaryEntriesForRepeatedTypesAndStatuses() {
+        List<FacilityMarker> markers = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            markers.add(hospital(i + 1, lat(0.1 + i * 0.04), lon(0.1 + i * 0.04), (i % 2 == 0) ? "폐업" : "휴업"));
+        }
+        markers.add(shelter(100, FacilityLayer.ETC, lat(0.5), lon(0.6), "사용중지", 10, "폐쇄 대피소"));
+        FacilitySnapshot snapshot = FacilitySnapshot.build(markers, 1);
+
+        Tile tile = Tile.decode(FacilityTileEncoder.encode(snapshot, FacilityLayer.ETC, Z, X, Y));
+
+        assertThat(tile.features).hasSize(21);
+        assertThat(tile.dictionary).containsExactly("hospital", "폐업", "휴업", "shelter", "사용중지");
+        assertThat(tile.features).extracting(Feature::type).containsOnly("hospital", "shelter");
+        assertThat(tile.features).filteredOn(f -> f.id == 100).extracting(Feature::status).containsExactly("사용중지");
+    }
+
+    @Test
+    void pointOnSharedTileEdgeIsEncodedInExactlyOneTile() {
+        List<FacilityMarker> markers = List.of(
+                shelter(1, FacilityLayer.SHELTER, lat(0.5), WEST, "사용중", 1, "서쪽 경계"),
+                shelter(2, FacilityLayer.SHELTER, NORTH, lon(0.5), "사용중", 1, "북쪽 경계"),
+                shelter(3, FacilityLayer.SHELTER, NORTH, WEST, "사용중", 1, "북서쪽 꼭짓점"));
+        FacilitySnapshot snapshot = FacilitySnapshot.build(markers, 1);
+
+        for (FacilityMarker marker : markers) {
+            int found = 0;
+            for (int dx = -1; dx <= 1; dx++) {
+                for (int dy = -1; dy <= 1; dy++) {
+                    Tile tile = Tile.decode(FacilityTileEncoder.encode(snapshot, FacilityLayer.SHELTER, Z, X + dx, Y + dy));
+                    for (Feature feature : tile.features) {
+                        if (feature.id != marker.getId()) continue;
+                        found++;
+                        assertThat(feature.px).isBetween(0, tile.extent - 1);
+                        assertThat(feature.py).isBetween(0, tile.extent - 1);
+                    }
+                }
+            }
+            assertThat(found).as(marker.getName()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void emptyTileHasHeaderOnly() {
+        FacilitySnapshot snapshot = FacilitySnapshot.build(List.of(shelter(1, FacilityLayer.SHELTER, lat(0.5), lon(0.5), "사용중", 1, "대피소")), 1);
+
+        byte[] bytes = FacilityTileEncoder.encode(snapshot, FacilityLayer.SHELTER, Z, X + 3, Y + 3);
+        Tile tile = Tile.decode(bytes);
+
+        assertThat(tile.dictionary).isEmpty();
+        assertThat(tile.features).isEmpty();
+        assertThat(bytes).hasSize(4 + 1 + 2 + 1 + 1); // 매직 + 버전 + extent(4096 = 2바이트) + 사전 크기 + 시설 수
+    }
+
+    // --- 테스트용 디코더 (FacilityTileEncoder 문서의 포맷 v1) ---
+
+    record Feature(long id, int px, int py, String type, String status, int capacity, String name) {
+    }
+
+    static final class Tile {
+        int extent;
+        final List<String> dictionary = new ArrayList<>();
+        final List<Feature> features = new ArrayList<>();
+
+        static Tile decode(byte[] bytes) {
+            ByteBuffer in = ByteBuffer.wrap(bytes);
+            byte[] magic = new byte[4];
+            in.get(magic);
+            assertThat(new String(magic, StandardCharsets.US_ASCII)).isEqualTo("SNFT");
+            assertThat(in.get()).isEqualTo((byte) 1);
+
+            Tile tile = new Tile();
+            tile.extent = (int) readVarint(in);
+            int dictionarySize = (int) readVarint(in);
+            for (int i = 0; i < dictionarySize; i++) tile.dictionary.add(readString(in));
+
+            int count = (int) readVarint(in);
+            long id = 0;
+            int px = 0, py = 0;
+            for (int i = 0; i < count; i++) {
+                id += readVarint(in);
+                px += unzigzag(readVarint(in));
+                py += unzigzag(readVarint(in));
+                String type = tile.dictionary.get((int) readVarint(in));
+                String status = tile.dictionary.get((int) readVarint(in));
+                int capacity = (int) readVarint(in);
+                tile.features.add(new Feature(id, px, py, type, status, capacity, readString(in)));
+            }
+            assertThat(in.hasRemaining()).isFalse();
+            return tile;
+        }
+
+        private static long readVarint(ByteBuffer in) {
+            long value = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = in.get();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return value;
+            }
+        }
+
+        private static int unzigzag(long value) {
+            int v = (int) value;
+            return (v >>> 1) ^ -(v & 1);
+        }
+
+        private static String readString(ByteBuffer in) {
+            byte[] bytes = new byte[(int) readVarint(in)];
+            in.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    // --- 픽스처 ---
+
+    // 타일 내부 비율 -> 위경도 (0: 서/북쪽 경계, 1: 동/남쪽 경계)
+    private static double lon(double fraction) {
+        return WEST + (EAST - WEST) * fraction;
+    }
+
+    private static double lat(double fraction) {
+        return NORTH + (SOUTH - NORTH) * fraction;
+    }
+
+    // 레이어는 인코더 입력을 고정하기 위해 직접 지정 (운영 상태 null도 인코딩 확인)
+    private static FacilityMarker shelter(long id, FacilityLayer layer, double lat, double lon,
+                                          String status, Integer capacity, String name) {
+        Shelter shelter = new Shelter();
+        shelter.setId(id);
+        shelter.setType("shelter");
+        shelter.setName(name);
+        shelter.setLatitude(lat);
+        shelter.setLongitude(lon);
+        shelter.setOperatingStatus(status);
+        shelter.setMaxCapacity(capacity);
+        return FacilityMarker.of(shelter, layer.getCode());
+    }
+
+    private static FacilityMarker hospital(long id, double lat, double lon, String status) {
+        Hospital hospital = new Hospital();
+        hospital.setId(id);
+        hospital.setType("hospital");
+        hospital.setName("병원" + id);
+        hospital.setLatitude(lat);
+        hospital.setLongitude(lon);
+        hospital.setOperatingStatus(status);
+        return FacilityMarker.of(hospital, "etc");
+    }
+
+    private static double lonToTileX(double lon) {
+        return (lon + 180.0) / 360.0 * N;
+    }
+
+    private static double latToTileY(double lat) {
+        double rad = Math.toRadians(lat);
+        return (1 - Math.log(Math.tan(rad) + 1 / Math.cos(rad)) / Math.PI) / 2 * N;
+    }
+
+    private static double tileYToLat(int y) {
+        return Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2 * y / N))));
+    }
+}
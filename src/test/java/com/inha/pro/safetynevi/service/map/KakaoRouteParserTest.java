@@ -0,0 +1,140 @@
+package com.inha.pro.safetynevi.service.map;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.inha.pro.safetynevi.dto.map.RoutePathDto;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.core.io.buffer.NettyDataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KakaoRouteParserTest {
+
+    // 카카오모빌리티 길찾기 응답 형식 (경로 2개, 요약/구간/안내 포함)
+    private static final String RESPONSE = """
+            {"trans_id":"018e3d5a2b8c7f6e9a1b2c3d4e5f6a7b","routes":[
+              {"result_code":0,"result_msg":"길 찾기 성공",
+               "summary":{"origin":{"name":"","x":126.97796919,"y":37.56653500},
+                          "destination":{"name":"","x":126.9918,"y":37.5705},
+                          "waypoints":[],"priority":"RECOMMEND",
+                          "bound":{"min_x":126.977,"min_y":37.565,"max_x":126.992,"max_y":37.571},
+                          "fare":{"taxi":5300,"toll":0},"distance":1843,"duration":412},
+               "sections":[
+                 {"distance":1843,"duration":412,
+                  "bound":{"min_x":126.977,"min_y":37.565,"max_x":126.992,"max_y":37.571},
+                  "roads":[
+                    {"name":"세종대로","distance":620,"duration":140,"traffic_speed":22.0,"traffic_state":2,
+                     "vertexes":[126.97796919,37.566535,126.9785,37.5672,126.9791,37.5678]},
+                    {"name":"종로","distance":1223,"duration":272,"traffic_speed":18.5,"traffic_state":3,
+                     "vertexes":[126.9791,37.5678,126.9856,37.5691,126.9918,37.5705]}],
+                  "guides":[
+                    {"name":"출발지","x":126.97796919,"y":37.566535,"distance":0,"duration":0,"type":100,"guidance":"출발지","road_index":-1},
+                    {"name":"종로","x":126.9791,"y":37.5678,"distance":620,"duration":140,"type":2,"guidance":"우회전","road_index":1}]}]},
+              {"result_code":0,"result_msg":"길 찾기 성공",
+               "summary":{"distance":99999,"duration":88888},
+               "sections":[{"roads":[{"vertexes":[1.0,2.0,3.0,4.0]}]}]}]}
+            """;
+
+    private static final double[] EXPECTED_VERTEXES = {
+            126.97796919, 37.566535, 126.9785, 37.5672, 126.9791, 37.5678,
+            126.9791, 37.5678, 126.9856, 37.5691, 126.9918, 37.5705};
+
+    private final JsonFactory factory = new JsonFactory();
+
+    @Test
+    void sameResultForEverySingleSplitPoint() {
+        byte[] bytes = RESPONSE.getBytes(StandardCharsets.UTF_8);
+        for (int split = 0; split <= bytes.length; split++) {
+            RoutePathDto result = parse(Arrays.copyOfRange(bytes, 0, split), Arrays.copyOfRange(bytes, split, bytes.length));
+            assertFirstRoute(result, "split at " + split);
+        }
+    }
+
+    @Test
+    void sameResultForRandomMultiChunkSplitsAndByteByByte() {
+        byte[] bytes = RESPONSE.getBytes(StandardCharsets.UTF_8);
+        Random random = new Random(15);
+        for (int round = 0; round < 200; round++) {
+            int[] cuts = random.ints(1 + random.nextInt(6), 0, bytes.length + 1).sorted().toArray();
+            byte[][] chunks = new byte[cuts.length + 1][];
+            int from = 0;
+            for (int i = 0; i < cuts.length; i++) {
+                chunks[i] = Arrays.copyOfRange(bytes, from, cuts[i]);
+                from = cuts[i];
+            }
+            chunks[cuts.length] = Arrays.copyOfRange(bytes, from, bytes.length);
+            assertFirstRoute(parse(chunks), "cuts " + Arrays.toString(cuts));
+        }
+
+        byte[][] single = new byte[bytes.length][];
+        for (int i = 0; i < bytes.length; i++) single[i] = new byte[]{bytes[i]};
+        assertFirstRoute(parse(single), "byte by byte");
+    }
+
+    @Test
+    void failedSearchHasMessageAndNoVertexes() {
+        RoutePathDto result = parse(("""
+                {"trans_id":"x","routes":[{"result_code":104,
+                 "result_msg":"출발지와 도착지가 5 m 이내로 설정된 경우 경로를 탐색할 수 없음"}]}
+                """).getBytes(StandardCharsets.UTF_8));
+
+        assertThat(result.getResultCode()).isEqualTo(104);
+        assertThat(result.getResultMsg()).isEqualTo("출발지와 도착지가 5 m 이내로 설정된 경우 경로를 탐색할 수 없음");
+        assertThat(result.getVertexes()).isEmpty();
+        assertThat(result.getDistance()).isZero();
+        assertThat(result.getDuration()).isZero();
+    }
+
+    @Test
+    void routeWithoutSummaryKeepsVertexes() {
+        RoutePathDto result = parse(("""
+                {"routes":[{"result_code":0,"result_msg":"길 찾기 성공",
+                 "sections":[{"roads":[{"vertexes":[126.9,37.5,126.91,37.51]}]}]}]}
+                """).getBytes(StandardCharsets.UTF_8));
+
+        assertThat(result.getResultCode()).isZero();
+        assertThat(result.getDistance()).isZero();
+        assertThat(result.getDuration()).isZero();
+        assertThat(result.getVertexes()).containsExactly(126.9, 37.5, 126.91, 37.51);
+    }
+
+    @Test
+    void emptyRoutesLeavesResultCodeUnset() {
+        RoutePathDto result = parse("{\"trans_id\":\"x\",\"routes\":[]}".getBytes(StandardCharsets.UTF_8));
+        assertThat(result.getResultCode()).isEqualTo(-1);
+        assertThat(result.getVertexes()).isEmpty();
+    }
+
+    @Test
+    void releasesEachFedBuffer() {
+        NettyDataBufferFactory buffers = new NettyDataBufferFactory(UnpooledByteBufAllocator.DEFAULT);
+        KakaoRouteParser parser = new KakaoRouteParser(factory);
+        NettyDataBuffer buffer = buffers.wrap(Unpooled.wrappedBuffer(RESPONSE.getBytes(StandardCharsets.UTF_8)));
+
+        parser.feed(buffer);
+
+        assertThat(buffer.getNativeBuffer().refCnt()).isZero();
+        assertFirstRoute(parser.finish(), "netty buffer");
+    }
+
+    private RoutePathDto parse(byte[]... chunks) {
+        KakaoRouteParser parser = new KakaoRouteParser(factory);
+        for (byte[] chunk : chunks) parser.feed(DefaultDataBufferFactory.sharedInstance.wrap(chunk));
+        return parser.finish();
+    }
+
+    private static void assertFirstRoute(RoutePathDto result, String description) {
+        assertThat(result.getResultCode()).as(description).isZero();
+        assertThat(result.getResultMsg()).as(description).isEqualTo("길 찾기 성공");
+        assertThat(result.getDistance()).as(description).isEqualTo(1843);
+        assertThat(result.getDuration()).as(description).isEqualTo(412);
+        assertThat(result.getVertexes()).as(description).containsExactly(EXPECTED_VERTEXES);
+    }
+}
@@ -0,0 +1,154 @@
+package com.inha.pro.safetynevi.service.map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class RoadGraphRouterTest {
+
+    private static final int SIDE = 8;
+
+    @TempDir
+    Path dir;
+
+    // 8x8 격자 도로 (약 110m 간격), 일부 구간은 우회 도로처럼 직선거리보다 길게, 일부는 끊김
+    private RoadGraph buildGrid(long seed) throws Exception {
+        Random random = new Random(seed);
+        RoadGraphBuilder builder = new RoadGraphBuilder();
+        for (int r = 0; r < SIDE; r++) {
+            for (int c = 0; c < SIDE; c++) builder.addNode(37.40 + r * 0.001, 126.70 + c * 0.00125);
+        }
+        for (int r = 0; r < SIDE; r++) {
+            for (int c = 0; c < SIDE; c++) {
+                int v = r * SIDE + c;
+                if (c + 1 < SIDE && random.nextInt(10) > 0) builder.addRoad(v, v + 1, 110 * (1 + random.nextInt(3)));
+                if (r + 1 < SIDE && random.nextInt(10) > 0) builder.addRoad(v, v + SIDE, 110 * (1 + random.nextInt(3)));
+            }
+        }
+        Path file = dir.resolve("graph-" + seed + ".bin");
+        builder.write(file);
+        return RoadGraph.load(file);
+    }
+
+    @Test
+    void findsShortestPathWithAndWithoutLandmarks() throws Exception {
+        for (long seed = 1; seed <= 5; seed++) {
+            RoadGraph graph = buildGrid(seed);
+            RoadGraphRouter plain = RoadGraphRouter.create(graph, 0, 1, 100);
+            RoadGraphRouter alt = RoadGraphRouter.create(graph, 3, 1, 100);
+
+            for (int source = 0; source < graph.nodeCount(); source += 7) {
+                double[] expected = dijkstra(graph, source);
+                for (int target = 0; target < graph.nodeCount(); target++) {
+                    for (RoadGraphRouter router : new RoadGraphRouter[]{plain, alt}) {
+                        RoadGraphRouter.Path path = router.route(source, target, null, 1f);
+                        if (expected[target] == Double.POSITIVE_INFINITY) {
+                            assertThat(path).isNull();
+                            continue;
+                        }
+                        assertThat(path).isNotNull();
+                        assertThat(path.distanceMeter()).isCloseTo(expected[target], within(0.5));
+                        assertThat(path.nodes()[0]).isEqualTo(source);
+                        assertThat(path.nodes()[path.nodes().length - 1]).isEqualTo(target);
+                        assertThat(pathLength(graph, path.nodes())).isCloseTo(path.distanceMeter(), within(1e-6));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void hazardPenaltyPrefersDetourButStillReachesHazardTarget() throws Exception {
+        RoadGraphBuilder builder = new RoadGraphBuilder();
+        int a = builder.addNode(37.400, 126.700);
+        int b = builder.addNode(37.400, 126.701); // 위험 노드 (직선 경로 중간)
+        int c = builder.addNode(37.400, 126.702);
+        int d = builder.addNode(37.401, 126.701); // 우회 노드
+        builder.addRoad(a, b);
+        builder.addRoad(b, c);
+        builder.addRoad(a, d);
+        builder.addRoad(d, c);
+        Path file = dir.resolve("hazard.bin");
+        builder.write(file);
+        RoadGraphRouter router = RoadGraphRouter.create(RoadGraph.load(file), 2, 1, 100);
+
+        assertThat(router.route(a, c, null, 1f).nodes()).containsExactly(a, b, c);
+        assertThat(router.route(a, c, v -> v == b, 20f).nodes()).containsExactly(a, d, c);
+        assertThat(router.route(a, b, v -> v == b, 20f).nodes()).containsExactly(a, b);
+    }
+
+    @Test
+    void failsFastWhenAllSearchStatesAreBusy() throws Exception {
+        RoadGraph graph = buildGrid(1);
+        RoadGraphRouter router = RoadGraphRouter.create(graph, 0, 1, 50);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Thread busy = new Thread(() -> {
+            try {
+                router.route(0, graph.nodeCount() - 1, v -> {
+                    entered.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return false;
+                }, 1f);
+            } catch (Exception ignored) {
+            }
+        });
+        busy.start();
+        try {
+            entered.await();
+            assertThatThrownBy(() -> router.route(0, 1, null, 1f)).isInstanceOf(TimeoutException.class);
+        } finally {
+            release.countDown();
+            busy.join();
+        }
+        assertThat(router.route(0, 1, null, 1f)).isNotNull(); // 반환된 상태는 다시 사용 가능
+    }
+
+    private static double[] dijkstra(RoadGraph graph, int source) {
+        int n = graph.nodeCount();
+        double[] distance = new double[n];
+        boolean[] done = new boolean[n];
+        Arrays.fill(distance, Double.POSITIVE_INFINITY);
+        distance[source] = 0;
+        for (int round = 0; round < n; round++) {
+            int v = -1;
+            for (int u = 0; u < n; u++) {
+                if (!done[u] && distance[u] < Double.POSITIVE_INFINITY && (v < 0 || distance[u] < distance[v])) v = u;
+            }
+            if (v < 0) break;
+            done[v] = true;
+            for (int e = graph.firstEdge(v); e < graph.firstEdge(v + 1); e++) {
+                int w = graph.edgeTarget(e);
+                distance[w] = Math.min(distance[w], distance[v] + graph.edgeLength(e));
+            }
+        }
+        return distance;
+    }
+
+    private static double pathLength(RoadGraph graph, int[] nodes) {
+        double length = 0;
+        for (int i = 0; i + 1 < nodes.length; i++) {
+            float best = Float.POSITIVE_INFINITY;
+            for (int e = graph.firstEdge(nodes[i]); e < graph.firstEdge(nodes[i] + 1); e++) {
+                if (graph.edgeTarget(e) == nodes[i + 1]) best = Math.min(best, graph.edgeLength(e));
+            }
+            assertThat(best).as("edge %d -> %d", nodes[i], nodes[i + 1]).isLessThan(Float.POSITIVE_INFINITY);
+            length += best;
+        }
+        return length;
+    }
+}
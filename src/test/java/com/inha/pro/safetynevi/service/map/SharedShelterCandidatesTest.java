@@ -0,0 +1,94 @@
+package com.inha.pro.safetynevi.service.map;
+
+import com.inha.pro.safetynevi.dto.map.FacilityDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class SharedShelterCandidatesTest {
+
+    private static final double CENTER_LAT = 37.45;
+    private static final double CENTER_LON = 126.70;
+
+    // 중심 주변 약 20km 범위에 대피소 2,000개 (운영 여부/수용 인원 무작위)
+    private static ShelterKdTree randomTree(Random random) {
+        List<FacilityDto> shelters = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            shelters.add(new FacilityDto((long) i, "shelter", "대피소" + i,
+                    CENTER_LAT + (random.nextDouble() - 0.5) * 0.2,
+                    CENTER_LON + (random.nextDouble() - 0.5) * 0.25,
+                    random.nextInt(4) == 0 ? "폐쇄" : "운영중",
+                    random.nextInt(2_000)));
+        }
+        return ShelterKdTree.build(shelters, "운영중"::equals);
+    }
+
+    @Test
+    void nearestMatchesFullTreeSearchInsideAndOutsideTheCover() {
+        Random random = new Random(42);
+        ShelterKdTree tree = randomTree(random);
+        double[] lats = {CENTER_LAT - 0.001, CENTER_LAT + 0.001};
+        double[] lons = {CENTER_LON - 0.001, CENTER_LON + 0.001};
+        SharedShelterCandidates shared = SharedShelterCandidates.around(tree, lats, lons, 0, 2, 64);
+
+        for (int q = 0; q < 2_000; q++) {
+            // 중심 근처(후보로 보장)와 먼 지점(KD-Tree 대체) 모두 질의
+            double spread = (q % 2 == 0) ? 0.01 : 0.15;
+            double lat = CENTER_LAT + (random.nextDouble() - 0.5) * spread;
+            double lon = CENTER_LON + (random.nextDouble() - 0.5) * spread;
+            int k = 1 + random.nextInt(3);
+            boolean requireOperating = random.nextBoolean();
+            int minCapacity = random.nextBoolean() ? 0 : 1_000;
+
+            int[] expected = tree.nearest(lat, lon, k, requireOperating, minCapacity);
+            int[] actual = shared.nearest(lat, lon, k, requireOperating, minCapacity);
+            assertThat(actual).hasSameSizeAs(expected);
+            for (int i = 0; i < expected.length; i++) {
+                // 같은 거리의 대피소가 있을 수 있으므로 위치 대신 거리로 비교
+                assertThat(distance(tree, actual[i], lat, lon)).isCloseTo(distance(tree, expected[i], lat, lon), within(1e-3));
+            }
+        }
+    }
+
+    @Test
+    void nearestOneMatchesFullTreeSearchForConditionedCandidates() {
+        Random random = new Random(7);
+        ShelterKdTree tree = randomTree(random);
+        SharedShelterCandidates shared = SharedShelterCandidates.around(tree, CENTER_LAT, CENTER_LON, 32, true, 1_000);
+        double[] unit = new double[3];
+
+        for (int q = 0; q < 2_000; q++) {
+            double spread = (q % 2 == 0) ? 0.01 : 0.15;
+            double lat = CENTER_LAT + (random.nextDouble() - 0.5) * spread;
+            double lon = CENTER_LON + (random.nextDouble() - 0.5) * spread;
+            DistanceKernel.toUnitVector(lat, lon, unit);
+
+            int[] expected = tree.nearest(lat, lon, 1, true, 1_000);
+            int actual = shared.nearestOne(unit[0], unit[1], unit[2], lat, lon);
+            assertThat(distance(tree, actual, lat, lon)).isCloseTo(distance(tree, expected[0], lat, lon), within(1e-3));
+        }
+    }
+
+    @Test
+    void chordDistanceConvertsToSurfaceDistance() {
+        double[] a = new double[3], b = new double[3];
+        DistanceKernel.toUnitVector(37.45, 126.70, a);
+        DistanceKernel.toUnitVector(37.46, 126.70, b);
+        double meters = DistanceKernel.toMeter(SharedShelterCandidates.chordSquared(a, b[0], b[1], b[2]));
+
+        assertThat(meters).isCloseTo(1_112, within(1.0)); // 위도 0.01도 ≈ 1.11km
+    }
+
+    // 지표면 거리 (m)
+    private static double distance(ShelterKdTree tree, int pos, double lat, double lon) {
+        double[] q = new double[3];
+        DistanceKernel.toUnitVector(lat, lon, q);
+        double dx = tree.unitVectorAt(0, pos) - q[0], dy = tree.unitVectorAt(1, pos) - q[1], dz = tree.unitVectorAt(2, pos) - q[2];
+        return DistanceKernel.toMeter(dx * dx + dy * dy + dz * dz);
+    }
+}
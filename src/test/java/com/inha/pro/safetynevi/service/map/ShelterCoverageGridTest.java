@@ -0,0 +1,153 @@
+package com.inha.pro.safetynevi.service.map;
+
+import com.inha.pro.safetynevi.dto.map.CoverageHeatmapDto;
+import com.inha.pro.safetynevi.dto.map.FacilityDto;
+import com.inha.pro.safetynevi.util.map.GeoDistance;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShelterCoverageGridTest {
+
+    private static final int CELL_METER = 5_000;
+    private static final int LARGE_CAPACITY = 1_000;
+    private static final String OPERATING = "사용중";
+
+    @Test
+    void acceptsDefaultCellSize() {
+        assertThat(ShelterCoverageGrid.validateCellMeter(250)).isBetween(5_000_000L, 7_000_000L);
+    }
+
+    @Test
+    void rejectsCellSizesWhoseGridWouldOverflowOrExceedTheCap() {
+        // 10m 격자는 약 37억 칸 (int 바이트 수 계산이 넘치던 크기)
+        assertThatThrownBy(() -> ShelterCoverageGrid.validateCellMeter(10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("route.coverage.cell-meter");
+        assertThatThrownBy(() -> ShelterCoverageGrid.validateCellMeter(80))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(ShelterCoverageGrid.validateCellMeter(90)).isLessThanOrEqualTo(ShelterCoverageGrid.MAX_CELLS);
+    }
+
+    @Test
+    void rejectsNonPositiveCellSize() {
+        assertThatThrownBy(() -> ShelterCoverageGrid.validateCellMeter(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void eachCellHoldsTheNearestShelterFromTheTree() {
+        ShelterKdTree tree = randomTree(new Random(12), 300);
+        ShelterCoverageGrid grid = ShelterCoverageGrid.build(tree, CELL_METER, LARGE_CAPACITY);
+
+        List<CoverageHeatmapDto.CellDto> cells = allCells(grid, false);
+        assertThat(cells).hasSize((int) ShelterCoverageGrid.validateCellMeter(CELL_METER));
+
+        Set<Integer> seen = new HashSet<>();
+        for (CoverageHeatmapDto.CellDto cell : cells) {
+            double lat = cell.getLatitude(), lon = cell.getLongitude();
+            int index = grid.cellOf(lat, lon);
+            assertThat(seen.add(index)).as("cell (%f, %f)", lat, lon).isTrue();
+
+            assertThat(grid.operatingAt(index)).isEqualTo(nearestOrNone(tree, lat, lon, true, 0));
+            assertThat(grid.largeAt(index)).isEqualTo(nearestOrNone(tree, lat, lon, false, LARGE_CAPACITY));
+
+            int pos = grid.operatingAt(index);
+            assertThat(cell.getDistanceMeter()).isEqualTo(roundedMeter(tree, pos, lat, lon));
+        }
+    }
+
+    @Test
+    void findUnderservedReturnsExactlyTheCellsBeyondThreshold() {
+        ShelterKdTree tree = randomTree(new Random(13), 150);
+        ShelterCoverageGrid grid = ShelterCoverageGrid.build(tree, CELL_METER, LARGE_CAPACITY);
+
+        for (boolean largeOnly : new boolean[]{false, true}) {
+            for (double threshold : new double[]{10_000, 25_000, 60_000}) {
+                Set<Integer> expected = new HashSet<>();
+                for (CoverageHeatmapDto.CellDto cell : allCells(grid, largeOnly)) {
+                    int index = grid.cellOf(cell.getLatitude(), cell.getLongitude());
+                    int pos = largeOnly ? grid.largeAt(index) : grid.operatingAt(index);
+                    Integer meter = roundedMeter(tree, pos, cell.getLatitude(), cell.getLongitude());
+                    if (meter == null || meter > threshold) expected.add(index);
+                }
+
+                CoverageHeatmapDto result = grid.findUnderserved(largeOnly, threshold, 33.0, 124.5, 38.7, 131.0, Integer.MAX_VALUE);
+                Set<Integer> actual = new HashSet<>();
+                for (CoverageHeatmapDto.CellDto cell : result.getCells()) {
+                    actual.add(grid.cellOf(cell.getLatitude(), cell.getLongitude()));
+                    if (cell.getDistanceMeter() != null) assertThat(cell.getDistanceMeter()).isGreaterThan((int) threshold);
+                }
+                assertThat(actual).as("largeOnly=%s, threshold=%f", largeOnly, threshold).isEqualTo(expected);
+                assertThat(result.getCellMeter()).isEqualTo(CELL_METER);
+            }
+        }
+    }
+
+    @Test
+    void cellsWithoutMatchingShelterAreReportedWithoutDistance() {
+        // 운영중 대피소 없음, 대형 대피소 없음
+        ShelterKdTree tree = ShelterKdTree.build(List.of(
+                new FacilityDto(1L, "shelter", "폐쇄 대피소", 37.5, 127.0, "사용중지", 10)), OPERATING::equals);
+        ShelterCoverageGrid grid = ShelterCoverageGrid.build(tree, CELL_METER, LARGE_CAPACITY);
+
+        int cell = grid.cellOf(37.5, 127.0);
+        assertThat(grid.operatingAt(cell)).isEqualTo(-1);
+        assertThat(grid.largeAt(cell)).isEqualTo(-1);
+        assertThat(grid.findUnderserved(true, 1e9, 37.4, 126.9, 37.6, 127.1, 100).getCells())
+                .isNotEmpty()
+                .allSatisfy(c -> assertThat(c.getDistanceMeter()).isNull());
+    }
+
+    @Test
+    void cellOfRejectsCoordinatesOutsideTheGrid() {
+        ShelterCoverageGrid grid = ShelterCoverageGrid.build(randomTree(new Random(14), 10), CELL_METER, LARGE_CAPACITY);
+        assertThat(grid.cellOf(32.9, 127.0)).isEqualTo(-1);
+        assertThat(grid.cellOf(38.8, 127.0)).isEqualTo(-1); // 마지막 행은 38.7을 조금 넘어서까지 덮음
+        assertThat(grid.cellOf(36.0, 124.4)).isEqualTo(-1);
+        assertThat(grid.cellOf(36.0, 131.1)).isEqualTo(-1);
+        assertThat(grid.cellOf(33.0, 124.5)).isZero();
+    }
+
+    @Test
+    void samplesLargeBoundsDownToMaxCells() {
+        ShelterCoverageGrid grid = ShelterCoverageGrid.build(randomTree(new Random(15), 10), CELL_METER, LARGE_CAPACITY);
+        CoverageHeatmapDto result = grid.findUnderserved(false, -1, 33.0, 124.5, 38.7, 131.0, 1_000);
+        assertThat(result.getCells()).hasSizeLessThanOrEqualTo(1_000).isNotEmpty();
+        assertThat(result.getCellMeter()).isGreaterThan(CELL_METER);
+    }
+
+    // 전국 모든 격자 (기준 거리 -1 이면 모든 격자가 사각지대로 반환됨)
+    private static List<CoverageHeatmapDto.CellDto> allCells(ShelterCoverageGrid grid, boolean largeOnly) {
+        return grid.findUnderserved(largeOnly, -1, 33.0, 124.5, 38.7, 131.0, Integer.MAX_VALUE).getCells();
+    }
+
+    private static int nearestOrNone(ShelterKdTree tree, double lat, double lon, boolean requireOperating, int minCapacity) {
+        int[] nearest = tree.nearest(lat, lon, 1, requireOperating, minCapacity);
+        return nearest.length == 0 ? -1 : nearest[0];
+    }
+
+    // 격자에 저장되는 10m 단위 거리
+    private static Integer roundedMeter(ShelterKdTree tree, int pos, double lat, double lon) {
+        if (pos < 0) return null;
+        return (int) Math.round(GeoDistance.meter(lat, lon, tree.latitudeAt(pos), tree.longitudeAt(pos)) / 10) * 10;
+    }
+
+    private static ShelterKdTree randomTree(Random random, int n) {
+        String[] statuses = {OPERATING, OPERATING, "사용중지", null};
+        List<FacilityDto> shelters = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            shelters.add(new FacilityDto((long) i, "shelter", "대피소" + i,
+                    33.2 + random.nextDouble() * 5.3, 125.0 + random.nextDouble() * 5.5,
+                    statuses[random.nextInt(statuses.length)], random.nextInt(2_000)));
+        }
+        return ShelterKdTree.build(shelters, OPERATING::equals);
+    }
+}
@@ -0,0 +1,135 @@
+package com.inha.pro.safetynevi.service.map;
+
+import com.inha.pro.safetynevi.dto.map.FacilityDto;
+import com.inha.pro.safetynevi.util.map.GeoDistance;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ShelterKdTreeTest {
+
+    private static final String OPERATING = "사용중";
+    private static final String[] STATUSES = {OPERATING, OPERATING, OPERATING, "사용중지", "일시중지", null};
+
+    @Test
+    void matchesSortedHaversineScan() {
+        Random random = new Random(11);
+        for (int round = 0; round < 20; round++) {
+            List<FacilityDto> shelters = randomShelters(random, 1 + random.nextInt(400));
+            ShelterKdTree tree = ShelterKdTree.build(shelters, OPERATING::equals);
+            assertThat(tree.size()).isEqualTo(shelters.size());
+
+            for (int query = 0; query < 50; query++) {
+                double lat = 33.0 + random.nextDouble() * 5.5;
+                double lon = 125.0 + random.nextDouble() * 5.0;
+                int k = 1 + random.nextInt(12);
+                boolean requireOperating = random.nextBoolean();
+                int minCapacity = random.nextInt(4) == 0 ? 0 : random.nextInt(1500);
+                assertMatchesScan(tree, shelters, lat, lon, k, requireOperating, minCapacity);
+            }
+        }
+    }
+
+    @Test
+    void handlesDuplicateCoordinates() {
+        Random random = new Random(12);
+        List<FacilityDto> shelters = new ArrayList<>();
+        // 같은 건물의 여러 대피소처럼 좌표가 겹치는 묶음
+        for (int cluster = 0; cluster < 10; cluster++) {
+            double lat = 37.4 + random.nextDouble() * 0.2, lon = 126.8 + random.nextDouble() * 0.3;
+            for (int i = 0; i < 1 + random.nextInt(15); i++) {
+                shelters.add(shelter(shelters.size(), lat, lon, STATUSES[random.nextInt(STATUSES.length)], random.nextInt(1000)));
+            }
+        }
+        ShelterKdTree tree = ShelterKdTree.build(shelters, OPERATING::equals);
+
+        for (FacilityDto origin : shelters) {
+            for (int k : new int[]{1, 3, 20}) {
+                assertMatchesScan(tree, shelters, origin.getLatitude(), origin.getLongitude(), k, true, 0);
+                assertMatchesScan(tree, shelters, origin.getLatitude(), origin.getLongitude(), k, false, 500);
+            }
+        }
+    }
+
+    @Test
+    void returnsAllMatchesWhenKExceedsThem() {
+        List<FacilityDto> shelters = List.of(
+                shelter(1, 37.50, 126.90, OPERATING, 100),
+                shelter(2, 37.51, 126.91, "사용중지", 900),
+                shelter(3, 37.52, 126.92, OPERATING, 900),
+                shelter(4, 37.53, 126.93, null, 50));
+        ShelterKdTree tree = ShelterKdTree.build(shelters, OPERATING::equals);
+
+        assertThat(ids(tree, tree.nearest(37.50, 126.90, 10, true, 0))).containsExactly(1L, 3L);
+        assertThat(ids(tree, tree.nearest(37.50, 126.90, 10, false, 500))).containsExactly(2L, 3L);
+        assertThat(ids(tree, tree.nearest(37.50, 126.90, 10, true, 1000))).isEmpty();
+        assertThat(ids(tree, tree.nearest(37.50, 126.90, 10, false, 0))).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(tree.nearest(37.50, 126.90, 0, false, 0)).isEmpty();
+        assertThat(ShelterKdTree.build(List.of(), OPERATING::equals).nearest(37.5, 126.9, 3, false, 0)).isEmpty();
+    }
+
+    // 결과 거리열이 조건을 만족하는 대피소를 Haversine 거리로 정렬한 앞 k개와 같은지 (동일 거리는 순서 무관)
+    private static void assertMatchesScan(ShelterKdTree tree, List<FacilityDto> shelters, double lat, double lon,
+                                          int k, boolean requireOperating, int minCapacity) {
+        double[] expected = shelters.stream()
+                .filter(s -> !requireOperating || OPERATING.equals(s.getOperatingStatus()))
+                .filter(s -> capacity(s) >= minCapacity)
+                .mapToDouble(s -> GeoDistance.meter(lat, lon, s.getLatitude(), s.getLongitude()))
+                .sorted()
+                .limit(k)
+                .toArray();
+
+        int[] found = tree.nearest(lat, lon, k, requireOperating, minCapacity);
+        assertThat(found).hasSameSizeAs(expected);
+
+        Set<Long> seen = new HashSet<>();
+        for (int i = 0; i < found.length; i++) {
+            int pos = found[i];
+            assertThat(seen.add(tree.idAt(pos))).isTrue();
+            if (requireOperating) assertThat(tree.isOperatingAt(pos)).isTrue();
+            assertThat(tree.capacityAt(pos)).isGreaterThanOrEqualTo(minCapacity);
+            assertThat(GeoDistance.meter(lat, lon, tree.latitudeAt(pos), tree.longitudeAt(pos)))
+                    .as("rank %d of k=%d, operating=%s, minCapacity=%d", i, k, requireOperating, minCapacity)
+                    .isCloseTo(expected[i], within(1e-3));
+        }
+    }
+
+    private static List<FacilityDto> randomShelters(Random random, int n) {
+        List<FacilityDto> shelters = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            double lat, lon;
+            if (i > 0 && random.nextInt(10) == 0) { // 일부는 앞 대피소와 같은 좌표
+                FacilityDto previous = shelters.get(random.nextInt(i));
+                lat = previous.getLatitude();
+                lon = previous.getLongitude();
+            } else {
+                lat = 33.0 + random.nextDouble() * 5.5;
+                lon = 125.0 + random.nextDouble() * 5.0;
+            }
+            Integer capacity = random.nextInt(8) == 0 ? null : random.nextInt(2000);
+            shelters.add(shelter(i, lat, lon, STATUSES[random.nextInt(STATUSES.length)], capacity));
+        }
+        return shelters;
+    }
+
+    private static FacilityDto shelter(long id, double lat, double lon, String status, Integer capacity) {
+        return new FacilityDto(id, "shelter", "대피소" + id, lat, lon, status, capacity);
+    }
+
+    private static int capacity(FacilityDto shelter) {
+        return shelter.getMaxCapacity() != null ? shelter.getMaxCapacity() : 0;
+    }
+
+    private static List<Long> ids(ShelterKdTree tree, int[] positions) {
+        return Arrays.stream(positions).mapToObj(tree::idAt).sorted(Comparator.naturalOrder()).toList();
+    }
+}
@@ -0,0 +1,37 @@
+package com.inha.pro.safetynevi.service.map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ShelterLoadServiceTest {
+
+    private final ShelterLoadService service = new ShelterLoadService(null, 30, 0.7, 2);
+
+    @Test
+    void countsEachRequesterOncePerShelterWithinTheWindow() {
+        for (int i = 0; i < 100; i++) service.recordRouted(1L, "session:abc");
+        service.recordRouted(1L, "member:user1");
+        service.recordRouted(2L, "session:abc");
+
+        assertThat(service.estimatedLoad(1L)).isEqualTo(2);
+        assertThat(service.estimatedLoad(2L)).isEqualTo(1);
+    }
+
+    @Test
+    void ignoresAnonymousRequestsWithoutSession() {
+        for (int i = 0; i < 100; i++) service.recordRouted(1L, null);
+        service.recordRecommended(1L, null);
+
+        assertThat(service.estimatedLoad(1L)).isZero();
+        assertThat(service.isEmpty()).isTrue();
+    }
+
+    @Test
+    void recommendationAndRouteBySameRequesterAreNotDoubleCounted() {
+        service.recordRecommended(1L, "member:user1");
+        service.recordRouted(1L, "member:user1");
+
+        assertThat(service.estimatedLoad(1L)).isEqualTo(1);
+    }
+}
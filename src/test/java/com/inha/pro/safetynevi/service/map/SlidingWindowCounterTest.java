@@ -0,0 +1,49 @@
+package com.inha.pro.safetynevi.service.map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlidingWindowCounterTest {
+
+    private static final long BUCKET = 1_000;
+    private static final int BUCKETS = 4; // 윈도 4초
+
+    @Test
+    void sumsOnlyBucketsInsideTheWindow() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(BUCKET, BUCKETS);
+        counter.increment(0);
+        counter.increment(500);
+        counter.increment(1_200);
+        counter.increment(3_999);
+
+        assertThat(counter.sum(3_999)).isEqualTo(4);
+        assertThat(counter.sum(4_000)).isEqualTo(2); // 0번 구간이 윈도 밖으로
+        assertThat(counter.sum(5_000)).isEqualTo(1);
+        assertThat(counter.sum(6_999)).isEqualTo(1);
+        assertThat(counter.sum(7_000)).isZero();
+    }
+
+    @Test
+    void reusedSlotStartsFromZeroAfterRollover() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(BUCKET, BUCKETS);
+        for (int i = 0; i < 5; i++) counter.increment(100); // 0번 구간 (슬롯 0)
+
+        counter.increment(4_100); // 4번 구간이 같은 슬롯 0을 재사용
+        assertThat(counter.sum(4_100)).isEqualTo(1);
+
+        counter.increment(8_100);
+        counter.increment(8_200);
+        assertThat(counter.sum(8_200)).isEqualTo(2);
+    }
+
+    @Test
+    void lateWriteIsCountedInTheNewerBucket() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(BUCKET, BUCKETS);
+        counter.increment(4_100);
+        counter.increment(100); // 시계가 늦은 스레드: 슬롯 0의 최신 구간(4번)에 합산
+
+        assertThat(counter.sum(4_100)).isEqualTo(2);
+        assertThat(counter.sum(8_000)).isZero();
+    }
+}
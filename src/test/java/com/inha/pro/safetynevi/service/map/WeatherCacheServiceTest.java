@@ -0,0 +1,104 @@
+package com.inha.pro.safetynevi.service.map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WeatherCacheServiceTest {
+
+    private static final long STALE_TIMEOUT_MS = 100;
+    private static final long FETCH_TIMEOUT_MS = 300;
+
+    private final List<Object> events = new ArrayList<>();
+    private final AtomicInteger fetches = new AtomicInteger();
+    private LocalDateTime now = LocalDateTime.of(2026, 10, 18, 10, 40);
+    private Supplier<Mono<JsonNode>> response = () -> Mono.just(observation("12.5"));
+
+    // 기상청 호출과 현재 시각만 바꾼 서비스
+    private final WeatherCacheService service = new WeatherCacheService(
+            events::add, "test-key", STALE_TIMEOUT_MS, FETCH_TIMEOUT_MS, 100) {
+        @Override
+        Mono<JsonNode> fetch(int nx, int ny, LocalDateTime baseTime) {
+            fetches.incrementAndGet();
+            return response.get();
+        }
+
+        @Override
+        LocalDateTime now() {
+            return now;
+        }
+    };
+
+    @Test
+    void concurrentRequestsForSameCellShareOneCall() {
+        Sinks.One<JsonNode> pending = Sinks.one();
+        response = pending::asMono;
+
+        Mono<Map<String, String>> first = service.getObservation(60, 127);
+        Mono<Map<String, String>> second = service.getObservation(60, 127);
+        pending.tryEmitValue(observation("12.5"));
+
+        assertThat(first.block(Duration.ofSeconds(1))).containsEntry("T1H", "12.5");
+        assertThat(second.block(Duration.ofSeconds(1))).containsEntry("T1H", "12.5");
+        assertThat(fetches).hasValue(1);
+
+        // 같은 발표 시각의 이후 요청은 호출 없이 응답
+        assertThat(service.getObservation(60, 127).block(Duration.ofSeconds(1))).containsEntry("T1H", "12.5");
+        assertThat(fetches).hasValue(1);
+        assertThat(events).hasSize(1);
+    }
+
+    @Test
+    void slowOrFailedCallFallsBackToPreviousObservation() {
+        assertThat(service.getObservation(60, 127).block(Duration.ofSeconds(1))).containsEntry("T1H", "12.5");
+
+        // 다음 발표 시각: 응답 없는 호출은 staleTimeout 후 이전 값
+        now = now.plusHours(1);
+        response = Mono::never;
+        assertThat(service.getObservation(60, 127).block(Duration.ofSeconds(1))).containsEntry("T1H", "12.5");
+
+        // 실패한 호출도 이전 값
+        now = now.plusHours(1);
+        response = () -> Mono.error(new IllegalStateException("boom"));
+        assertThat(service.getObservation(60, 127).block(Duration.ofSeconds(1))).containsEntry("T1H", "12.5");
+    }
+
+    @Test
+    void hungCallTimesOutAndIsEvictedFromTheCache() throws InterruptedException {
+        response = Mono::never;
+        assertThatThrownBy(() -> service.getObservation(60, 127).block(Duration.ofSeconds(2)))
+                .hasCauseInstanceOf(TimeoutException.class);
+
+        Thread.sleep(50); // 실패한 future가 캐시에서 제거될 때까지
+        response = () -> Mono.just(observation("13.0"));
+        assertThat(service.getObservation(60, 127).block(Duration.ofSeconds(1))).containsEntry("T1H", "13.0");
+        assertThat(fetches).hasValue(2);
+    }
+
+    private static JsonNode observation(String temperature) {
+        try {
+            return new ObjectMapper().readTree("""
+                    {"response": {"header": {"resultCode": "00"}, "body": {"items": {"item": [
+                      {"category": "T1H", "obsrValue": "%s"},
+                      {"category": "PTY", "obsrValue": "0"}
+                    ]}}}}
+                    """.formatted(temperature));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
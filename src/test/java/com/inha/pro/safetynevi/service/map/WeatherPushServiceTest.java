@@ -0,0 +1,69 @@
+package com.inha.pro.safetynevi.service.map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class WeatherPushServiceTest {
+
+    private final WeatherPushService service =
+            new WeatherPushService(mock(SimpMessagingTemplate.class), mock(WeatherService.class));
+
+    @Test
+    void ignoresCellsOutsideForecastGrid() {
+        subscribe("s1", "sub-0", "/topic/weather/0/127");
+        subscribe("s1", "sub-1", "/topic/weather/150/127");
+        subscribe("s1", "sub-2", "/topic/weather/60/254");
+        subscribe("s1", "sub-3", "/topic/weather/149/253");
+
+        assertThat(service.getSubscribedCells()).containsExactly(new WeatherCacheService.GridCell(149, 253));
+    }
+
+    @Test
+    void capsSubscriptionsPerSession() {
+        for (int i = 0; i < WeatherPushService.MAX_SUBSCRIPTIONS_PER_SESSION + 3; i++) {
+            subscribe("s1", "sub-" + i, "/topic/weather/" + (60 + i) + "/127");
+        }
+        assertThat(service.getSubscribedCells()).hasSize(WeatherPushService.MAX_SUBSCRIPTIONS_PER_SESSION);
+
+        // 같은 구독 ID의 재구독은 교체이므로 허용, 다른 세션은 별도 한도
+        subscribe("s1", "sub-0", "/topic/weather/1/1");
+        subscribe("s2", "sub-0", "/topic/weather/2/2");
+        assertThat(service.getSubscribedCells())
+                .hasSize(WeatherPushService.MAX_SUBSCRIPTIONS_PER_SESSION + 1)
+                .contains(new WeatherCacheService.GridCell(1, 1), new WeatherCacheService.GridCell(2, 2))
+                .doesNotContain(new WeatherCacheService.GridCell(60, 127));
+
+        // 해제하면 다시 구독 가능
+        unsubscribe("s1", "sub-1");
+        subscribe("s1", "sub-9", "/topic/weather/3/3");
+        assertThat(service.getSubscribedCells()).contains(new WeatherCacheService.GridCell(3, 3));
+    }
+
+    private void subscribe(String sessionId, String subscriptionId, String destination) {
+        StompHeaderAccessor accessor = accessor(StompCommand.SUBSCRIBE, sessionId, subscriptionId);
+        accessor.setDestination(destination);
+        service.onSubscribe(new SessionSubscribeEvent(this,
+                MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders())));
+    }
+
+    private void unsubscribe(String sessionId, String subscriptionId) {
+        StompHeaderAccessor accessor = accessor(StompCommand.UNSUBSCRIBE, sessionId, subscriptionId);
+        service.onUnsubscribe(new SessionUnsubscribeEvent(this,
+                MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders())));
+    }
+
+    private static StompHeaderAccessor accessor(StompCommand command, String sessionId, String subscriptionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        return accessor;
+    }
+}
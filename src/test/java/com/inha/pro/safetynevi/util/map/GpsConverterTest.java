@@ -0,0 +1,61 @@
+package com.inha.pro.safetynevi.util.map;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class GpsConverterTest {
+
+    private final GpsConverter converter = new GpsConverter();
+
+    @Test
+    void convertsKnownPointsToForecastGrid() {
+        GpsConverter.LatXLngY seoul = converter.convertGpsToGrid(37.5665, 126.9780);
+        assertThat(seoul.x).isEqualTo(60);
+        assertThat(seoul.y).isEqualTo(127);
+
+        GpsConverter.LatXLngY busan = converter.convertGpsToGrid(35.1796, 129.0756);
+        assertThat(busan.x).isEqualTo(98);
+        assertThat(busan.y).isEqualTo(76);
+    }
+
+    @Test
+    void gridToGpsRoundTripsForEveryGridPoint() {
+        // 동네예보 격자 범위 (X 1~149, Y 1~253)
+        for (int x = 1; x <= 149; x++) {
+            for (int y = 1; y <= 253; y++) {
+                GpsConverter.LatXLngY gps = converter.convertGridToGps(x, y);
+                GpsConverter.LatXLngY grid = converter.convertGpsToGrid(gps.lat, gps.lng);
+                assertThat(grid.x).as("(%d, %d)", x, y).isEqualTo(x);
+                assertThat(grid.y).as("(%d, %d)", x, y).isEqualTo(y);
+            }
+        }
+
+        GpsConverter.LatXLngY seoul = converter.convertGridToGps(60, 127);
+        assertThat(seoul.lat).isCloseTo(37.5665, within(0.05));
+        assertThat(seoul.lng).isCloseTo(126.9780, within(0.05));
+    }
+
+    @Test
+    void batchConversionMatchesSinglePointConversion() {
+        Random random = new Random(24);
+        int count = 1_000;
+        double[] lats = new double[count], lons = new double[count];
+        for (int i = 0; i < count; i++) {
+            lats[i] = 33.0 + random.nextDouble() * 5.7;
+            lons[i] = 124.5 + random.nextDouble() * 7.5;
+        }
+        int[] xs = new int[count], ys = new int[count];
+
+        converter.convertGpsToGrid(lats, lons, count, xs, ys);
+
+        for (int i = 0; i < count; i++) {
+            GpsConverter.LatXLngY grid = converter.convertGpsToGrid(lats[i], lons[i]);
+            assertThat(xs[i]).isEqualTo(grid.x);
+            assertThat(ys[i]).isEqualTo(grid.y);
+        }
+    }
+}
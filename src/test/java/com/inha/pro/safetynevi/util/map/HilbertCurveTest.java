@@ -0,0 +1,122 @@
+package com.inha.pro.safetynevi.util.map;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HilbertCurveTest {
+
+    private static final double MIN_LAT = 32.0, MAX_LAT = 39.5;
+    private static final double MIN_LON = 124.0, MAX_LON = 132.0;
+    private static final int SIDE = 1 << HilbertCurve.ORDER;
+    private static final double CELL_LAT = (MAX_LAT - MIN_LAT) / SIDE;
+    private static final double CELL_LON = (MAX_LON - MIN_LON) / SIDE;
+
+    private static final int[] MAX_RANGES = {1, 4, HilbertCurve.DEFAULT_MAX_RANGES, 64};
+
+    @Test
+    void randomBoxesCoverEveryPointInside() {
+        Random random = new Random(10);
+        for (int round = 0; round < 300; round++) {
+            // 전국 범위보다 조금 넓게 잡아 보정(clamp) 경계에 걸치거나 완전히 벗어난 사각형도 포함
+            double height = Math.pow(10, -5 + random.nextDouble() * 6); // 1e-5 ~ 10도
+            double width = Math.pow(10, -5 + random.nextDouble() * 6);
+            double swLat = 31.0 + random.nextDouble() * 10.0 - height / 2;
+            double swLng = 123.0 + random.nextDouble() * 10.0 - width / 2;
+            assertCovers(random, swLat, swLng, swLat + height, swLng + width);
+        }
+    }
+
+    @Test
+    void tinyNationwideAndOutOfBoundsBoxes() {
+        Random random = new Random(11);
+        assertCovers(random, 37.5665, 126.9780, 37.5665, 126.9780);                 // 점 하나
+        assertCovers(random, 37.5665, 126.9780, 37.5665 + 1e-6, 126.9780 + 1e-6);   // 격자 하나보다 작음
+        assertCovers(random, MIN_LAT, MIN_LON, MAX_LAT, MAX_LON);                   // 전국
+        assertCovers(random, 30.0, 120.0, 45.0, 140.0);                             // 보정 범위를 모두 덮음
+        assertCovers(random, MIN_LAT, MIN_LON, MIN_LAT + 0.01, MIN_LON + 0.01);     // 남서쪽 모서리
+        assertCovers(random, MAX_LAT - 0.01, MAX_LON - 0.01, MAX_LAT, MAX_LON);     // 북동쪽 모서리
+        assertCovers(random, 39.0, 131.0, 40.5, 133.0);                             // 북동쪽 경계에 걸침
+        assertCovers(random, 40.0, 126.0, 41.0, 127.0);                             // 북쪽 밖 (가장자리 격자로 보정)
+        assertCovers(random, 35.0, 120.0, 36.0, 123.0);                             // 서쪽 밖
+        assertCovers(random, 20.0, 100.0, 21.0, 101.0);                             // 남서쪽 밖
+    }
+
+    @Test
+    void smallBoxesCoverEveryGridCellExhaustively() {
+        Random random = new Random(12);
+        for (int round = 0; round < 40; round++) {
+            int x0 = random.nextInt(SIDE - 300), y0 = random.nextInt(SIDE - 300);
+            int x1 = x0 + random.nextInt(300), y1 = y0 + random.nextInt(300);
+            double swLat = MIN_LAT + (y0 + random.nextDouble()) * CELL_LAT;
+            double swLng = MIN_LON + (x0 + random.nextDouble()) * CELL_LON;
+            double neLat = MIN_LAT + (y1 + random.nextDouble()) * CELL_LAT;
+            double neLng = MIN_LON + (x1 + random.nextDouble()) * CELL_LON;
+
+            for (int maxRanges : MAX_RANGES) {
+                List<long[]> ranges = checkedRanges(swLat, swLng, neLat, neLng, maxRanges);
+                for (int x = x0; x <= x1; x++) {
+                    for (int y = y0; y <= y1; y++) {
+                        double lat = Math.min(neLat, Math.max(swLat, MIN_LAT + (y + 0.5) * CELL_LAT));
+                        double lon = Math.min(neLng, Math.max(swLng, MIN_LON + (x + 0.5) * CELL_LON));
+                        assertThat(contains(ranges, HilbertCurve.encode(lat, lon)))
+                                .as("cell (%d, %d), maxRanges %d", x, y, maxRanges)
+                                .isTrue();
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void invertedBoxHasNoRanges() {
+        assertThat(HilbertCurve.ranges(38.0, 127.0, 37.0, 128.0)).isEmpty();
+        assertThat(HilbertCurve.ranges(37.0, 128.0, 38.0, 127.0)).isEmpty();
+    }
+
+    // 사각형 안의 모서리/경계/임의 좌표가 모두 반환된 구간 중 하나에 속하는지
+    private static void assertCovers(Random random, double swLat, double swLng, double neLat, double neLng) {
+        for (int maxRanges : MAX_RANGES) {
+            List<long[]> ranges = checkedRanges(swLat, swLng, neLat, neLng, maxRanges);
+            double[][] points = new double[208][];
+            points[0] = new double[]{swLat, swLng};
+            points[1] = new double[]{swLat, neLng};
+            points[2] = new double[]{neLat, swLng};
+            points[3] = new double[]{neLat, neLng};
+            points[4] = new double[]{neLat, swLng + (neLng - swLng) * random.nextDouble()};
+            points[5] = new double[]{swLat, swLng + (neLng - swLng) * random.nextDouble()};
+            points[6] = new double[]{swLat + (neLat - swLat) * random.nextDouble(), swLng};
+            points[7] = new double[]{swLat + (neLat - swLat) * random.nextDouble(), neLng};
+            for (int i = 8; i < points.length; i++) {
+                points[i] = new double[]{swLat + (neLat - swLat) * random.nextDouble(),
+                        swLng + (neLng - swLng) * random.nextDouble()};
+            }
+            for (double[] p : points) {
+                assertThat(contains(ranges, HilbertCurve.encode(p[0], p[1])))
+                        .as("(%f, %f) in box [%f, %f, %f, %f], maxRanges %d", p[0], p[1], swLat, swLng, neLat, neLng, maxRanges)
+                        .isTrue();
+            }
+        }
+    }
+
+    // 구간 수 상한, 오름차순, 서로 겹치지 않음 확인
+    private static List<long[]> checkedRanges(double swLat, double swLng, double neLat, double neLng, int maxRanges) {
+        List<long[]> ranges = HilbertCurve.ranges(swLat, swLng, neLat, neLng, maxRanges);
+        assertThat(ranges).isNotEmpty().hasSizeLessThanOrEqualTo(maxRanges);
+        for (int i = 0; i < ranges.size(); i++) {
+            assertThat(ranges.get(i)[0]).isLessThanOrEqualTo(ranges.get(i)[1]);
+            if (i > 0) assertThat(ranges.get(i)[0]).isGreaterThan(ranges.get(i - 1)[1]);
+        }
+        return ranges;
+    }
+
+    private static boolean contains(List<long[]> ranges, long key) {
+        for (long[] range : ranges) {
+            if (key >= range[0] && key <= range[1]) return true;
+        }
+        return false;
+    }
+}